@@ -0,0 +1,86 @@
+package com.example.logging.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JMH JSON 결과 비교 (릴리스 간 회귀 확인)
+ * 벤치마크 이름 + 파라미터별로 주 지표와 -prof gc의 B/op(gc.alloc.rate.norm)를 비교하고,
+ * threshold(%)보다 나빠진 항목이 있으면 종료 코드 1을 반환합니다.
+ * Throughput은 높을수록, 그 외 모드(avgt/sample/ss)는 낮을수록 좋은 것으로 봅니다.
+ *
+ * 실행: java -cp target/benchmarks.jar com.example.logging.benchmark.BenchmarkResultDiff baseline.json target/jmh-result.json [10]
+ */
+public class BenchmarkResultDiff {
+
+    private static final String PACKAGE_PREFIX = "com.example.logging.benchmark.";
+    private static final String ALLOC_METRIC = "gc.alloc.rate.norm";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BenchmarkResultDiff <baseline.json> <current.json> [threshold-percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, JsonNode> baseline = index(objectMapper.readTree(new File(args[0])));
+        Map<String, JsonNode> current = index(objectMapper.readTree(new File(args[1])));
+
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            JsonNode after = entry.getValue();
+            if (before == null) {
+                System.out.printf("%-70s NEW%n", entry.getKey());
+                continue;
+            }
+            boolean higherIsBetter = "thrpt".equals(after.path("mode").asText());
+            regressions += compare(entry.getKey(), before.path("primaryMetric"), after.path("primaryMetric"),
+                    higherIsBetter, threshold);
+            JsonNode allocBefore = before.path("secondaryMetrics").path(ALLOC_METRIC);
+            JsonNode allocAfter = after.path("secondaryMetrics").path(ALLOC_METRIC);
+            if (!allocBefore.isMissingNode() && !allocAfter.isMissingNode()) {
+                regressions += compare(entry.getKey() + " alloc", allocBefore, allocAfter, false, threshold);
+            }
+        }
+        baseline.keySet().stream()
+                .filter(key -> !current.containsKey(key))
+                .forEach(key -> System.out.printf("%-70s REMOVED%n", key));
+
+        System.out.printf("%d regression(s) over %.1f%%%n", regressions, threshold);
+        System.exit(regressions > 0 ? 1 : 0);
+    }
+
+    private static int compare(String name, JsonNode before, JsonNode after, boolean higherIsBetter, double threshold) {
+        double oldScore = before.path("score").asDouble();
+        double newScore = after.path("score").asDouble();
+        double changePercent = oldScore != 0 ? (newScore - oldScore) / oldScore * 100 : 0.0;
+        double worsePercent = higherIsBetter ? -changePercent : changePercent;
+        boolean regression = worsePercent > threshold;
+        System.out.printf("%-70s %14.3f -> %14.3f %-10s %+7.1f%%%s%n", name, oldScore, newScore,
+                after.path("scoreUnit").asText(), changePercent, regression ? "  REGRESSION" : "");
+        return regression ? 1 : 0;
+    }
+
+    /**
+     * "벤치마크명 [파라미터=값,...]" -> 결과 항목
+     */
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> byKey = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            Map<String, String> params = new TreeMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = result.path("params").fields();
+            fields.forEachRemaining(field -> params.put(field.getKey(), field.getValue().asText()));
+            String key = result.path("benchmark").asText().replace(PACKAGE_PREFIX, "") + (params.isEmpty() ? "" : " " + params);
+            byKey.put(key, result);
+        }
+        return byKey;
+    }
+}
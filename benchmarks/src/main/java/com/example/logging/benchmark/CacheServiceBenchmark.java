@@ -0,0 +1,113 @@
+package com.example.logging.benchmark;
+
+import com.example.logging.service.CacheService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CacheService read-through 벤치마크 (Zipf 분포 키)
+ * - SampleTime 모드로 p50/p99/p99.9 지연시간 측정
+ * - 트라이얼 종료 시 히트율 출력
+ * - contended: 3스레드 조회 + 1스레드 갱신(put) 동시 실행 시 조회 지연
+ *
+ * 실행: java -jar target/benchmarks.jar CacheServiceBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class CacheServiceBenchmark {
+
+    private static final int SAMPLES_PER_THREAD = 1 << 16;
+
+    @Param({"1000", "10000"})
+    public int maxEntries;
+
+    @Param({"100000"})
+    public int keySpace;
+
+    @Param({"0.99"})
+    public double skew;
+
+    CacheService cacheService;
+    String[] keys;
+    final LongAdder hits = new LongAdder();
+    final LongAdder misses = new LongAdder();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cacheService = new CacheService(maxEntries, Long.MAX_VALUE);
+        keys = new String[keySpace];
+        for (int i = 0; i < keySpace; i++) {
+            keys[i] = "product:" + i;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void printHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        System.out.printf("%n[maxEntries=%d, keySpace=%d, skew=%.2f] hit rate: %.2f%% (%d/%d)%n",
+                maxEntries, keySpace, skew, total > 0 ? hitCount * 100.0 / total : 0.0, hitCount, total);
+    }
+
+    @State(Scope.Thread)
+    public static class KeyStream {
+        int[] indexes;
+        int position;
+        long hits;
+        long misses;
+
+        @Setup(Level.Trial)
+        public void setUp(CacheServiceBenchmark benchmark) {
+            ZipfianGenerator generator = new ZipfianGenerator(benchmark.keySpace, benchmark.skew,
+                    Thread.currentThread().getId());
+            indexes = generator.sample(SAMPLES_PER_THREAD);
+        }
+
+        @TearDown(Level.Iteration)
+        public void flush(CacheServiceBenchmark benchmark) {
+            benchmark.hits.add(hits);
+            benchmark.misses.add(misses);
+            hits = 0;
+            misses = 0;
+        }
+
+        String next(String[] keys) {
+            return keys[indexes[position++ & (SAMPLES_PER_THREAD - 1)]];
+        }
+    }
+
+    @Benchmark
+    public Object readThrough(KeyStream stream) {
+        String key = stream.next(keys);
+        Object value = cacheService.get(key, Object.class);
+        if (value == null) {
+            stream.misses++;
+            cacheService.put(key, key, 600);
+            return key;
+        }
+        stream.hits++;
+        return value;
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(3)
+    public Object contendedGet(KeyStream stream) {
+        return cacheService.get(stream.next(keys), Object.class);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public void contendedPut(KeyStream stream) {
+        String key = stream.next(keys);
+        cacheService.put(key, key, 600);
+    }
+}
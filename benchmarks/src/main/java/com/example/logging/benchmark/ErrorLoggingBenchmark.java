@@ -0,0 +1,77 @@
+package com.example.logging.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import com.example.logging.util.LoggerUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LoggerUtil.logError의 발생 위치(스택 프레임) 탐색 비용
+ * 프레임워크 프레임 frames개 아래에 프로젝트 프레임이 있는 예외를 기록합니다.
+ * - projectFrame=top: 첫 프레임이 프로젝트 코드 (컨트롤러에서 직접 던진 경우)
+ * - projectFrame=bottom: 마지막 프레임만 프로젝트 코드 (라이브러리 깊은 곳에서 실패)
+ * - projectFrame=none: 프로젝트 프레임 없음 (전체 탐색 후 첫 프레임 사용)
+ * appender는 이벤트를 버리므로 인코딩 비용은 제외됩니다.
+ *
+ * 실행: java -jar target/benchmarks.jar ErrorLoggingBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorLoggingBenchmark {
+
+    @Param({"20", "200"})
+    public int frames;
+
+    @Param({"top", "bottom", "none"})
+    public String projectFrame;
+
+    Logger logger;
+    Exception exception;
+    Map<String, Object> context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LoggerContext loggerContext = new LoggerContext();
+        loggerContext.setMDCAdapter(new LogbackMDCAdapter());
+        AppenderBase<ILoggingEvent> discard = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+            }
+        };
+        discard.setContext(loggerContext);
+        discard.start();
+        logger = loggerContext.getLogger("com.example.logging.controller.UserController");
+        logger.addAppender(discard);
+
+        StackTraceElement[] stackTrace = new StackTraceElement[frames];
+        for (int i = 0; i < frames; i++) {
+            stackTrace[i] = new StackTraceElement("org.springframework.web.servlet.FrameworkServlet" + i,
+                    "service", "FrameworkServlet.java", 100 + i);
+        }
+        StackTraceElement project = new StackTraceElement("com.example.logging.controller.UserController",
+                "getUser", "UserController.java", 42);
+        if ("top".equals(projectFrame)) {
+            stackTrace[0] = project;
+        } else if ("bottom".equals(projectFrame)) {
+            stackTrace[frames - 1] = project;
+        }
+        exception = new IllegalStateException("User not found");
+        exception.setStackTrace(stackTrace);
+        context = Map.of("user_id", 42L);
+    }
+
+    @Benchmark
+    public void logError() {
+        LoggerUtil.logError(logger, "Failed to get user", exception, context);
+    }
+}
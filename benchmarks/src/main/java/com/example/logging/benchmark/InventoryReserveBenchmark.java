@@ -0,0 +1,64 @@
+package com.example.logging.benchmark;
+
+import com.example.logging.LoggingExampleApplication;
+import com.example.logging.entity.Product;
+import com.example.logging.repository.ProductRepository;
+import com.example.logging.service.InventoryService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 상품(hot SKU)에 주문이 몰릴 때 재고 차감 처리량 (H2 인메모리, 애플리케이션 컨텍스트 사용)
+ * - conditional-update: 주문마다 UPDATE ... WHERE stock >= ? (같은 행 잠금 경합)
+ * - pooled: 블록 단위로 미리 차감한 재고를 stripe CAS로 나눠 줌 (블록 소진 시에만 UPDATE)
+ * 재고는 측정 중 소진되지 않을 만큼 넉넉히 둡니다.
+ *
+ * 실행: java -jar target/benchmarks.jar InventoryReserveBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class InventoryReserveBenchmark {
+
+    @Param({"conditional-update", "pooled"})
+    public String mode;
+
+    ConfigurableApplicationContext context;
+    InventoryService inventoryService;
+    long productId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(LoggingExampleApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:inventory-bench;DB_CLOSE_DELAY=-1",
+                        "jwt.revocation.store=memory",
+                        "logging.level.root=WARN",
+                        "app.inventory.hot-threshold=" + ("pooled".equals(mode) ? "1" : "0"),
+                        "app.inventory.block-size=1000")
+                .run();
+        inventoryService = context.getBean(InventoryService.class);
+        Product product = new Product("Hot item", "benchmark", 10.0);
+        product.setStock(Integer.MAX_VALUE);
+        productId = context.getBean(ProductRepository.class).save(product).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean reserve() {
+        return inventoryService.reserve(productId, 1);
+    }
+}
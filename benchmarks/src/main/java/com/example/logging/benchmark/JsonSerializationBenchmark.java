@@ -0,0 +1,76 @@
+package com.example.logging.benchmark;
+
+import com.example.logging.dto.ApiResponse;
+import com.example.logging.entity.Product;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 본문 Jackson 직렬화 비용 (Spring Boot 기본 ObjectMapper 설정)
+ * - product: ApiResponse<Product> 단건
+ * - productList: ApiResponse<List<Product>> (size개)
+ * - readProduct: 요청 본문 Product 역직렬화
+ * 4스레드가 ObjectMapper 하나를 공유합니다.
+ *
+ * 실행: java -jar target/benchmarks.jar JsonSerializationBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"20"})
+    public int size;
+
+    ObjectMapper objectMapper;
+    ApiResponse<Product> single;
+    ApiResponse<List<Product>> list;
+    String productJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        List<Product> products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            products.add(product(i));
+        }
+        single = ApiResponse.success(products.get(0));
+        list = ApiResponse.success(products);
+        productJson = objectMapper.writeValueAsString(products.get(0));
+    }
+
+    @Benchmark
+    public String product() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(single);
+    }
+
+    @Benchmark
+    public String productList() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(list);
+    }
+
+    @Benchmark
+    public Product readProduct() throws JsonProcessingException {
+        return objectMapper.readValue(productJson, Product.class);
+    }
+
+    private static Product product(int i) {
+        Product product = new Product("Product " + i, "설명 " + i + " - 벤치마크용 상품", 1000.0 + i);
+        product.setId((long) i + 1);
+        return product;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.logging.benchmark;
+
+import com.example.logging.security.InMemoryTokenRevocationStore;
+import com.example.logging.security.JwtClaims;
+import com.example.logging.security.JwtTokenProvider;
+import com.example.logging.security.TokenPair;
+import com.example.logging.security.TokenRevocationService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 토큰 검증/발급 수 (검증 캐시 유무 비교)
+ * - cacheEntries=0: 요청마다 HS512 서명 검증 + 파싱
+ * - cacheEntries=10000: 검증된 토큰은 SHA-256 해시로 캐시 조회
+ * 두 경우 모두 폐기 확인(로컬 Bloom 필터)을 포함합니다.
+ * 활성 사용자 1000명의 토큰을 돌아가며 검증합니다.
+ * generate는 로그인 시 액세스/리프레시 토큰 쌍 발급 비용이며 캐시와 무관합니다.
+ *
+ * 실행: java -jar target/benchmarks.jar JwtValidationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+    private static final int ACTIVE_TOKENS = 1000;
+    private static final String SECRET = "benchmark-secret-key-must-be-at-least-512-bits-long-for-hs512-signing";
+
+    @Param({"0", "10000"})
+    public long cacheEntries;
+
+    private static final String[] USERNAMES = new String[ACTIVE_TOKENS];
+
+    static {
+        for (int i = 0; i < ACTIVE_TOKENS; i++) {
+            USERNAMES[i] = "user-" + i;
+        }
+    }
+
+    JwtTokenProvider provider;
+    String[] tokens;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        TokenRevocationService revocations = new TokenRevocationService(new InMemoryTokenRevocationStore(), 0.001, 3_600_000);
+        provider = new JwtTokenProvider(SECRET, 3_600_000, 3_600_000, "bench", new String[0], cacheEntries, revocations);
+        tokens = new String[ACTIVE_TOKENS];
+        for (int i = 0; i < ACTIVE_TOKENS; i++) {
+            tokens[i] = provider.generateRefreshToken(USERNAMES[i]);
+        }
+    }
+
+    @Benchmark
+    public JwtClaims verify(RequestThread requestThread) {
+        return provider.parseAndValidate(tokens[requestThread.next()]);
+    }
+
+    @Benchmark
+    public TokenPair generate(RequestThread requestThread) {
+        return provider.issueTokens(USERNAMES[requestThread.next()]);
+    }
+
+    /**
+     * 스레드별 토큰 순번
+     */
+    @State(Scope.Thread)
+    public static class RequestThread {
+        private int index;
+
+        int next() {
+            index = (index + 1) % ACTIVE_TOKENS;
+            return index;
+        }
+    }
+}
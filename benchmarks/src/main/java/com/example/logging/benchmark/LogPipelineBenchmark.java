@@ -0,0 +1,175 @@
+package com.example.logging.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.filter.ThresholdFilter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.example.logging.logback.AsyncBatchAppender;
+import com.example.logging.logback.SharedBytesEncoder;
+import net.logstash.logback.argument.StructuredArguments;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 요청 로그 처리량 비교 (요청 스레드 기준)
+ * - sync: 기존 설정 (CONSOLE/FILE/ERROR_FILE 각각 LogstashEncoder, 이벤트마다 flush)
+ * - async: AsyncBatchAppender 기본 설정 (큐 압박 시 INFO 폐기)
+ * - async-lossless: AsyncBatchAppender에서 폐기 없이 대기 (지속 가능한 처리량)
+ * 파일은 임시 디렉터리에 쓰고, 콘솔은 JMH 출력 보호를 위해 버리는 스트림으로 대체합니다.
+ * 트라이얼 종료 시 기록 바이트 수와 폐기 건수를 출력합니다.
+ *
+ * 실행: java -jar target/benchmarks.jar LogPipelineBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class LogPipelineBenchmark {
+
+    @Param({"sync", "async", "async-lossless"})
+    public String pipeline;
+
+    LoggerContext context;
+    Logger logger;
+    AsyncBatchAppender async;
+    Path logDir;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        logDir = Files.createTempDirectory("log-bench");
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        logger = context.getLogger("com.example.logging.config.LoggingInterceptor");
+        logger.setAdditive(false);
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+
+        if ("sync".equals(pipeline)) {
+            logger.addAppender(console(logstashEncoder(), true));
+            logger.addAppender(file("app.log", logstashEncoder(), true, false));
+            logger.addAppender(file("error.log", logstashEncoder(), true, true));
+            return;
+        }
+        async = new AsyncBatchAppender();
+        async.setContext(context);
+        async.setName("ASYNC");
+        async.setEncoder(logstashEncoder());
+        if ("async-lossless".equals(pipeline)) {
+            async.setDiscardLevel("OFF");
+        }
+        async.addAppender(console(sharedEncoder(), false));
+        async.addAppender(file("app.log", sharedEncoder(), false, false));
+        async.addAppender(file("error.log", sharedEncoder(), false, true));
+        async.start();
+        logger.addAppender(async);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.stop();
+        long bytes;
+        try (Stream<Path> files = Files.list(logDir)) {
+            bytes = files.mapToLong(path -> path.toFile().length()).sum();
+        }
+        System.out.printf("%n[pipeline=%s] %d bytes written, %d events discarded%n",
+                pipeline, bytes, async != null ? async.getDiscardedCount() : 0);
+        try (Stream<Path> files = Files.walk(logDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void requestCompleted(RequestThread requestThread) {
+        Map<String, Object> httpData = new HashMap<>();
+        httpData.put("method", "GET");
+        httpData.put("path", "/api/products/1");
+        httpData.put("status_code", 200);
+        httpData.put("duration_ms", 12L);
+        httpData.put("client_ip", "192.168.1.100");
+        httpData.put("user_agent", "Mozilla/5.0");
+        logger.info("HTTP request completed", StructuredArguments.keyValue("http", httpData));
+    }
+
+    private Encoder<ILoggingEvent> logstashEncoder() {
+        LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.setCustomFields("{\"service\":\"springboot-service\",\"environment\":\"benchmark\",\"host\":\"bench\"}");
+        encoder.getFieldNames().setTimestamp("timestamp");
+        encoder.getFieldNames().setVersion("[ignore]");
+        encoder.getFieldNames().setLevelValue("[ignore]");
+        encoder.setTimestampPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+        encoder.setTimeZone("UTC");
+        encoder.addIncludeMdcKeyName("trace_id");
+        encoder.addIncludeMdcKeyName("span_id");
+        encoder.addIncludeMdcKeyName("request_id");
+        encoder.start();
+        return encoder;
+    }
+
+    private Encoder<ILoggingEvent> sharedEncoder() {
+        SharedBytesEncoder encoder = new SharedBytesEncoder();
+        encoder.setContext(context);
+        encoder.start();
+        return encoder;
+    }
+
+    private Appender<ILoggingEvent> console(Encoder<ILoggingEvent> encoder, boolean immediateFlush) {
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setName("CONSOLE");
+        appender.setEncoder(encoder);
+        appender.setImmediateFlush(immediateFlush);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+
+    private Appender<ILoggingEvent> file(String name, Encoder<ILoggingEvent> encoder,
+                                         boolean immediateFlush, boolean errorsOnly) {
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setName(name);
+        appender.setFile(logDir.resolve(name).toString());
+        appender.setEncoder(encoder);
+        appender.setImmediateFlush(immediateFlush);
+        if (errorsOnly) {
+            ThresholdFilter filter = new ThresholdFilter();
+            filter.setLevel("ERROR");
+            filter.start();
+            appender.addFilter(filter);
+        }
+        appender.start();
+        return appender;
+    }
+
+    /**
+     * 요청 스레드별 MDC (trace_id 등)
+     */
+    @State(Scope.Thread)
+    public static class RequestThread {
+
+        @Setup(Level.Trial)
+        public void setUp(LogPipelineBenchmark benchmark) {
+            benchmark.context.getMDCAdapter().put("trace_id", "4bf92f3577b34da6a3ce929d0e0e4736");
+            benchmark.context.getMDCAdapter().put("span_id", "00f067aa0ba902b7");
+            benchmark.context.getMDCAdapter().put("request_id", "9f3c2a1e-5d7b-4c8e-a1f0-6b2d9e4c7a31");
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.logging.benchmark;
+
+import com.example.logging.service.MetricsService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MetricsService 기록/조회 비용
+ * - record1/record4: 한 엔드포인트에 1/4스레드가 동시에 기록 (LongAdder/히스토그램 경합)
+ * - mixed: 3스레드 기록 + 1스레드 getMetrics 조회 (/api/metrics 폴링 중 기록 지연)
+ * endpoints는 요청이 분산되는 라우트 템플릿 수입니다.
+ *
+ * 실행: java -jar target/benchmarks.jar MetricsServiceBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsServiceBenchmark {
+
+    @Param({"1", "50"})
+    public int endpoints;
+
+    MetricsService metricsService;
+    String[] paths;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        metricsService = new MetricsService(60, 6, 200);
+        paths = new String[endpoints];
+        for (int i = 0; i < endpoints; i++) {
+            paths[i] = "/api/resource" + i + "/{id}";
+            metricsService.recordRequest("GET", paths[i], 200, 5);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void record1(RequestThread thread) {
+        record(thread);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void record4(RequestThread thread) {
+        record(thread);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public void mixedRecord(RequestThread thread) {
+        record(thread);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public Map<String, Object> mixedGetMetrics() {
+        return metricsService.getMetrics();
+    }
+
+    private void record(RequestThread thread) {
+        int n = thread.next();
+        metricsService.recordRequestNanos("GET", paths[n % endpoints], (n & 63) == 0 ? 500 : 200,
+                1_000_000L + (n & 1023) * 10_000L);
+    }
+
+    /**
+     * 스레드별 요청 순번
+     */
+    @State(Scope.Thread)
+    public static class RequestThread {
+        private int index;
+
+        int next() {
+            return index++ & Integer.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.logging.benchmark;
+
+import com.example.logging.LoggingExampleApplication;
+import com.example.logging.dto.ProductCursor;
+import com.example.logging.dto.ProductSort;
+import com.example.logging.dto.ProductView;
+import com.example.logging.entity.Product;
+import com.example.logging.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 목록 페이지 조회: 엔티티 vs 프로젝션 (H2 인메모리, 애플리케이션 컨텍스트 사용)
+ * - entity: 읽기/쓰기 트랜잭션에서 Product 엔티티 조회 (영속성 컨텍스트 등록 + 스냅샷 + 커밋 시 dirty checking)
+ * - entity-readonly: readOnly 트랜잭션에서 엔티티 조회 (스냅샷/flush 생략, 엔티티 등록은 유지)
+ * - projection: readOnly 트랜잭션에서 ProductView 생성자 프로젝션 (목록 API 경로)
+ * 페이지 시작 위치는 매번 무작위이며, 할당량은 -prof gc 의 gc.alloc.rate.norm (B/op)으로 비교합니다.
+ *
+ * 실행: java -jar target/benchmarks.jar ProductListReadBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductListReadBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    @Param({"entity", "entity-readonly", "projection"})
+    public String mode;
+
+    @Param({"50"})
+    public int pageSize;
+
+    ConfigurableApplicationContext context;
+    ProductRepository productRepository;
+    EntityManager entityManager;
+    TransactionTemplate readWrite;
+    TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(LoggingExampleApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:product-bench;DB_CLOSE_DELAY=-1",
+                        "jwt.revocation.store=memory",
+                        "logging.level.root=WARN")
+                .run();
+        productRepository = context.getBean(ProductRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        context.getBean(JdbcTemplate.class).update("insert into product (id, name, description, price) "
+                + "select x, 'Product ' || x, 'benchmark product description ' || x, mod(x, 1000) "
+                + "from system_range(1, " + ROWS + ")");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object listPage() {
+        long afterId = ThreadLocalRandom.current().nextInt(ROWS - pageSize);
+        return switch (mode) {
+            case "entity" -> readWrite.execute(status -> findEntities(afterId));
+            case "entity-readonly" -> readOnly.execute(status -> findEntities(afterId));
+            default -> readOnly.execute(status -> findViews(afterId));
+        };
+    }
+
+    private List<Product> findEntities(long afterId) {
+        return entityManager.createQuery("select p from Product p where p.id > :id order by p.id asc", Product.class)
+                .setParameter("id", afterId)
+                .setMaxResults(pageSize)
+                .getResultList();
+    }
+
+    private List<ProductView> findViews(long afterId) {
+        return productRepository.findPage(ProductSort.ID_ASC, new ProductCursor(ProductSort.ID_ASC, 0, afterId), pageSize);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.logging.benchmark;
+
+import com.example.logging.cache.CompactRedisSerializer;
+import com.example.logging.cache.EntityCodecs;
+import com.example.logging.entity.Product;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 값 직렬화 비교 (GenericJackson2Json vs CompactRedisSerializer)
+ * - ser/deser ns/op 측정
+ * - 트라이얼 시작 시 항목당 바이트 수 출력
+ *
+ * 실행: java -jar target/benchmarks.jar RedisSerializerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedisSerializerBenchmark {
+
+    @Param({"json", "compact", "compact-lz4"})
+    public String serializer;
+
+    @Param({"product", "productList"})
+    public String payload;
+
+    RedisSerializer<Object> redisSerializer;
+    Object value;
+    byte[] bytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        redisSerializer = switch (serializer) {
+            case "json" -> new GenericJackson2JsonRedisSerializer();
+            case "compact" -> EntityCodecs.registerAll(new CompactRedisSerializer(0));
+            default -> EntityCodecs.registerAll(new CompactRedisSerializer(512));
+        };
+        value = "product".equals(payload) ? product(1) : productList(100);
+        bytes = redisSerializer.serialize(value);
+        System.out.printf("%n[serializer=%s, payload=%s] %d bytes per entry%n", serializer, payload, bytes.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return redisSerializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return redisSerializer.deserialize(bytes);
+    }
+
+    private static List<Product> productList(int size) {
+        List<Product> products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            products.add(product(i));
+        }
+        return products;
+    }
+
+    private static Product product(long id) {
+        Product product = new Product("Product " + id, "Mechanical keyboard with hot-swappable switches", 99.5 + id);
+        product.setId(id);
+        return product;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.logging.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import com.example.logging.util.LoggerUtil;
+import net.logstash.logback.argument.StructuredArguments;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구조화 로그 호출 비용 비교 (기존 HashMap 방식 vs StructuredLog)
+ * - enabled: 레벨 활성, 이벤트는 만들어지지만 appender는 버림 (인코딩 제외, 호출자 측 비용만)
+ * - disabled: 레벨 비활성
+ * 할당량은 -prof gc 의 gc.alloc.rate.norm (B/op)으로 확인합니다.
+ *
+ * 실행: java -jar target/benchmarks.jar StructuredLoggingBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StructuredLoggingBenchmark {
+
+    @Param({"enabled", "disabled"})
+    public String level;
+
+    Logger logger;
+    Exception exception;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LoggerContext context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        AppenderBase<ILoggingEvent> discard = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+            }
+        };
+        discard.setContext(context);
+        discard.start();
+        logger = context.getLogger("com.example.logging.controller.UserController");
+        logger.addAppender(discard);
+        logger.setLevel("enabled".equals(level) ? ch.qos.logback.classic.Level.INFO : ch.qos.logback.classic.Level.OFF);
+        exception = new IllegalStateException("User not found");
+    }
+
+    @Benchmark
+    public void legacyQuery() {
+        Map<String, Object> queryData = new HashMap<>();
+        queryData.put("type", "SELECT");
+        queryData.put("statement", "SELECT * FROM users WHERE id = ?");
+        queryData.put("duration_ms", 12L);
+        queryData.put("rows_affected", 1);
+        queryData.put("database", "user_db");
+        logger.info("Database query executed", StructuredArguments.keyValue("query", queryData));
+    }
+
+    @Benchmark
+    public void structuredQuery() {
+        LoggerUtil.logQuery(logger, "SELECT", "SELECT * FROM users WHERE id = ?", 12L, 1, "user_db");
+    }
+
+    @Benchmark
+    public void legacyError() {
+        Map<String, Object> errorData = new HashMap<>();
+        errorData.put("type", exception.getClass().getSimpleName());
+        errorData.put("message", exception.getMessage());
+        for (StackTraceElement element : exception.getStackTrace()) {
+            if (element.getClassName().startsWith("com.example")) {
+                Map<String, Object> location = new HashMap<>();
+                location.put("file", element.getFileName());
+                location.put("line", element.getLineNumber());
+                location.put("function", element.getMethodName());
+                location.put("class", element.getClassName());
+                errorData.put("location", location);
+                break;
+            }
+        }
+        logger.error("Failed to get user", StructuredArguments.keyValue("error", errorData), exception);
+    }
+
+    @Benchmark
+    public void structuredError() {
+        LoggerUtil.logError(logger, "Failed to get user", exception, null);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.logging.benchmark;
+
+import com.example.logging.trace.RandomTraceIdGenerator;
+import com.example.logging.trace.TraceContext;
+import com.example.logging.trace.TraceIdGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 ID 생성 처리량 비교 (32스레드)
+ * - uuid: 기존 방식, UUID.randomUUID() 3회 (SecureRandom 공유)
+ * - generated: 헤더 없는 요청, trace/span 생성 + request_id 파생
+ * - propagated: traceparent 헤더가 있는 요청, 파싱 + span 생성 + request_id 파생
+ *
+ * 실행: java -jar target/benchmarks.jar TraceIdBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class TraceIdBenchmark {
+
+    private static final String TRACEPARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+    TraceIdGenerator generator = new RandomTraceIdGenerator();
+
+    @Benchmark
+    public void uuid(Blackhole blackhole) {
+        blackhole.consume(UUID.randomUUID().toString());
+        blackhole.consume(UUID.randomUUID().toString());
+        blackhole.consume(UUID.randomUUID().toString());
+    }
+
+    @Benchmark
+    public TraceContext generated() {
+        return TraceContext.resolve(null, null, generator);
+    }
+
+    @Benchmark
+    public TraceContext propagated() {
+        return TraceContext.resolve(TRACEPARENT, null, generator);
+    }
+}
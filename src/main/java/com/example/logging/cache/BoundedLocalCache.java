@@ -0,0 +1,452 @@
+package com.example.logging.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 최대 항목 수/가중치 제한이 있는 인메모리 캐시 엔진 (W-TinyLFU)
+ *
+ * - window LRU(1%) 뒤에 segmented LRU(probation 20% / protected 80%)를 두는 구조
+ * - window에서 밀려난 항목은 FrequencySketch 빈도가 probation 희생자보다 높을 때만 main에 남음
+ * - 조회는 락 없이 ReadBuffer에 접근 기록만 남기고, 정책 갱신과 제거는 쓰기 경로에서 분할 상환
+ *   (전체 맵 스캔 없이 쓰기 1회당 초과분만큼만 제거)
+ * - 항목별 TTL은 nanoTime 기준 deadline(long)으로 보관하고 TimerWheel로 만료
+ *   (조회 시에는 deadline 비교만, 실제 제거는 쓰기 경로와 cleanUp()에서 만료 건수만큼만 수행)
+ */
+public class BoundedLocalCache<K, V> {
+
+    /** 빈도가 이 값 이상인 후보는 해시 충돌 공격 방지를 위해 낮은 확률로 허용 */
+    private static final int ADMIT_HASHDOS_THRESHOLD = 6;
+
+    /** TTL 없는 항목의 deadline */
+    static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final long maximumSize;
+    private final long maximumWeight;
+    private final Weigher<? super K, ? super V> weigher;
+    private final RemovalListener<K, V> removalListener;
+    private final LongSupplier ticker;
+    private final long originNanos;
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final ReadBuffer<Node<K, V>> readBuffer = new ReadBuffer<>();
+    private final FrequencySketch sketch;
+
+    // 이하 필드는 evictionLock 보호
+    private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> protectedQueue = new AccessOrderDeque<>();
+    private final TimerWheel<K, V> timerWheel;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private long size;
+    private long windowSize;
+    private long protectedSize;
+    private volatile long weightedSize;
+
+    public BoundedLocalCache(long maximumSize, long maximumWeight,
+                             Weigher<? super K, ? super V> weigher,
+                             RemovalListener<K, V> removalListener) {
+        this(maximumSize, maximumWeight, weigher, removalListener, System::nanoTime);
+    }
+
+    /**
+     * ticker: nanoTime 공급자 (테스트에서 시간 제어용)
+     */
+    public BoundedLocalCache(long maximumSize, long maximumWeight,
+                             Weigher<? super K, ? super V> weigher,
+                             RemovalListener<K, V> removalListener,
+                             LongSupplier ticker) {
+        if (maximumSize <= 0 || maximumWeight <= 0) {
+            throw new IllegalArgumentException("최대 항목 수와 최대 가중치는 0보다 커야 합니다");
+        }
+        this.maximumSize = maximumSize;
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.removalListener = removalListener;
+        this.ticker = ticker;
+        this.originNanos = ticker.getAsLong();
+        this.timerWheel = new TimerWheel<>(0L);
+        this.sketch = new FrequencySketch(maximumSize);
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.protectedMaximum = (long) ((maximumSize - windowMaximum) * 0.8);
+    }
+
+    /**
+     * 값 조회 (락 없음). 만료된 항목은 제거 전이라도 null
+     */
+    public V get(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            return null;
+        }
+        long deadline = node.deadline;
+        if (deadline != NO_EXPIRY && deadline - now() <= 0) {
+            return null;
+        }
+        if (readBuffer.offer(node) == ReadBuffer.FULL) {
+            tryDrainReadBuffer();
+        }
+        return node.value;
+    }
+
+    /**
+     * TTL 없이 저장
+     */
+    public V put(K key, V value) {
+        return put(key, value, -1L);
+    }
+
+    /**
+     * 값 저장 후 만료/초과분 제거. ttlNanos가 0 이하면 만료 없음. 기존 값이 있으면 반환
+     * 가중치가 최대 가중치보다 큰 값은 저장하지 않고 곧바로 SIZE로 제거 알림 (기존 값은 REPLACED로 제거)
+     */
+    public V put(K key, V value, long ttlNanos) {
+        int weight = weigher.weigh(key, value);
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            long now = now();
+            expireEntries(now);
+
+            if (weight > maximumWeight) {
+                // 넣으면 다른 항목을 모두 밀어내고도 한도를 넘으므로 다른 항목은 건드리지 않음
+                return rejectOverweight(key, value);
+            }
+
+            long deadline = ttlNanos > 0 ? saturatedAdd(now, ttlNanos) : NO_EXPIRY;
+            V oldValue = null;
+            Node<K, V> node = data.get(key);
+            if (node == null) {
+                node = new Node<>(key, value, weight);
+                data.put(key, node);
+                node.queue = Queue.WINDOW;
+                window.addLast(node);
+                windowSize++;
+                size++;
+                sketch.increment(key);
+            } else {
+                oldValue = node.value;
+                node.value = value;
+                weightedSize -= node.weight;
+                node.weight = weight;
+                timerWheel.deschedule(node);
+                onAccess(node);
+                removalListener.onRemoval(key, oldValue, RemovalListener.Cause.REPLACED);
+            }
+            weightedSize += weight;
+            node.deadline = deadline;
+            if (deadline != NO_EXPIRY) {
+                timerWheel.schedule(node);
+            }
+
+            evictEntries();
+            return oldValue;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 키 삭제. 삭제된 값을 반환
+     */
+    public V remove(K key) {
+        evictionLock.lock();
+        try {
+            Node<K, V> node = data.remove(key);
+            if (node == null) {
+                return null;
+            }
+            unlink(node);
+            removalListener.onRemoval(key, node.value, RemovalListener.Cause.EXPLICIT);
+            return node.value;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 접근 기록 반영 및 만료 항목 제거. 제거된 만료 항목 수를 반환 (주기적으로 호출)
+     */
+    public int cleanUp() {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            return expireEntries(now());
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 전체 삭제 (제거 알림 없음)
+     */
+    public void clear() {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            for (Node<K, V> node : data.values()) {
+                node.queue = Queue.NONE;
+            }
+            data.clear();
+            window.clear();
+            probation.clear();
+            protectedQueue.clear();
+            timerWheel.clear();
+            size = 0;
+            windowSize = 0;
+            protectedSize = 0;
+            weightedSize = 0;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public int size() {
+        return data.size();
+    }
+
+    public long weightedSize() {
+        return weightedSize;
+    }
+
+    public long maximumSize() {
+        return maximumSize;
+    }
+
+    public long maximumWeight() {
+        return maximumWeight;
+    }
+
+    private long now() {
+        return ticker.getAsLong() - originNanos;
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return (sum < a) ? NO_EXPIRY - 1 : Math.min(sum, NO_EXPIRY - 1);
+    }
+
+    private int expireEntries(long now) {
+        return timerWheel.advance(now, node -> {
+            data.remove(node.key, node);
+            unlink(node);
+            removalListener.onRemoval(node.key, node.value, RemovalListener.Cause.EXPIRED);
+        });
+    }
+
+    private void tryDrainReadBuffer() {
+        if (evictionLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void drainReadBuffer() {
+        readBuffer.drainTo(this::onAccess);
+    }
+
+    /**
+     * 접근 반영: 빈도 증가 및 큐 내 위치 갱신 (probation 히트는 protected로 승격)
+     */
+    private void onAccess(Node<K, V> node) {
+        if (node.queue == Queue.NONE) {
+            // 버퍼에 남아 있던 이미 제거된 노드
+            return;
+        }
+        sketch.increment(node.key);
+        switch (node.queue) {
+            case WINDOW -> window.moveToBack(node);
+            case PROBATION -> {
+                probation.remove(node);
+                node.queue = Queue.PROTECTED;
+                protectedQueue.addLast(node);
+                protectedSize++;
+                while (protectedSize > protectedMaximum) {
+                    Node<K, V> demoted = protectedQueue.pollFirst();
+                    protectedSize--;
+                    demoted.queue = Queue.PROBATION;
+                    probation.addLast(demoted);
+                }
+            }
+            case PROTECTED -> protectedQueue.moveToBack(node);
+            default -> { }
+        }
+    }
+
+    /**
+     * window 초과분을 probation으로 넘기고, 전체 한도를 넘는 만큼 TinyLFU 비교로 제거
+     */
+    private void evictEntries() {
+        Node<K, V> candidate = null;
+        while (windowSize > windowMaximum) {
+            Node<K, V> node = window.pollFirst();
+            windowSize--;
+            node.queue = Queue.PROBATION;
+            probation.addLast(node);
+            if (candidate == null) {
+                candidate = node;
+            }
+        }
+
+        while (size > maximumSize || weightedSize > maximumWeight) {
+            Node<K, V> victim = probation.peekFirst();
+            if (victim == null) {
+                victim = protectedQueue.peekFirst();
+            }
+            if (victim == null) {
+                victim = window.peekFirst();
+            }
+            if (victim == null) {
+                break;
+            }
+
+            Node<K, V> evicted = victim;
+            if (candidate != null && candidate != victim && candidate.queue == Queue.PROBATION) {
+                evicted = admit(candidate.key, victim.key) ? victim : candidate;
+            }
+            if (evicted == candidate) {
+                candidate = probation.nextOf(candidate);
+            }
+
+            data.remove(evicted.key, evicted);
+            unlink(evicted);
+            removalListener.onRemoval(evicted.key, evicted.value, RemovalListener.Cause.SIZE);
+        }
+    }
+
+    private V rejectOverweight(K key, V value) {
+        V oldValue = null;
+        Node<K, V> node = data.remove(key);
+        if (node != null) {
+            oldValue = node.value;
+            unlink(node);
+            removalListener.onRemoval(key, oldValue, RemovalListener.Cause.REPLACED);
+        }
+        removalListener.onRemoval(key, value, RemovalListener.Cause.SIZE);
+        return oldValue;
+    }
+
+    private boolean admit(K candidateKey, K victimKey) {
+        int victimFrequency = sketch.frequency(victimKey);
+        int candidateFrequency = sketch.frequency(candidateKey);
+        if (candidateFrequency > victimFrequency) {
+            return true;
+        }
+        if (candidateFrequency < ADMIT_HASHDOS_THRESHOLD) {
+            return false;
+        }
+        return (ThreadLocalRandom.current().nextInt() & 127) == 0;
+    }
+
+    private void unlink(Node<K, V> node) {
+        switch (node.queue) {
+            case WINDOW -> {
+                window.remove(node);
+                windowSize--;
+            }
+            case PROBATION -> probation.remove(node);
+            case PROTECTED -> {
+                protectedQueue.remove(node);
+                protectedSize--;
+            }
+            default -> {
+                return;
+            }
+        }
+        timerWheel.deschedule(node);
+        node.queue = Queue.NONE;
+        size--;
+        weightedSize -= node.weight;
+    }
+
+    private enum Queue {
+        NONE, WINDOW, PROBATION, PROTECTED
+    }
+
+    static final class Node<K, V> {
+        final K key;
+        volatile V value;
+        volatile long deadline = NO_EXPIRY;
+        int weight;
+        Queue queue = Queue.NONE;
+        Node<K, V> prev;
+        Node<K, V> next;
+        Node<K, V> prevInTime;
+        Node<K, V> nextInTime;
+
+        Node(K key, V value, int weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * 노드 자체의 prev/next를 쓰는 이중 연결 리스트 (head = 가장 오래 전 접근)
+     */
+    private static final class AccessOrderDeque<K, V> {
+        private Node<K, V> head;
+        private Node<K, V> tail;
+
+        void addLast(Node<K, V> node) {
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+        }
+
+        Node<K, V> peekFirst() {
+            return head;
+        }
+
+        Node<K, V> pollFirst() {
+            Node<K, V> node = head;
+            if (node != null) {
+                remove(node);
+            }
+            return node;
+        }
+
+        Node<K, V> nextOf(Node<K, V> node) {
+            return node.next;
+        }
+
+        void moveToBack(Node<K, V> node) {
+            if (node != tail) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+        }
+
+        void clear() {
+            head = null;
+            tail = null;
+        }
+    }
+}
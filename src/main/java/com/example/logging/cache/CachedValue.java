@@ -0,0 +1,47 @@
+package com.example.logging.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로딩 시점 정보를 함께 저장하는 캐시 값
+ * 신선 기한(freshUntil)과 로딩 소요 시간으로 조기 갱신(XFetch)과 stale-while-revalidate를 판단합니다.
+ */
+public final class CachedValue<V> {
+
+    private final V value;
+    private final long freshUntilNanos;
+    private final long loadNanos;
+
+    public CachedValue(V value, long freshUntilNanos, long loadNanos) {
+        this.value = value;
+        this.freshUntilNanos = freshUntilNanos;
+        this.loadNanos = loadNanos;
+    }
+
+    public V getValue() {
+        return value;
+    }
+
+    public long getLoadNanos() {
+        return loadNanos;
+    }
+
+    /**
+     * 신선 기한 이전인지 여부 (nanoTime 기준)
+     */
+    public boolean isFresh(long nowNanos) {
+        return nowNanos - freshUntilNanos < 0;
+    }
+
+    /**
+     * XFetch: now - loadTime * beta * ln(rand) >= freshUntil 이면 만료 전에 미리 갱신
+     * 로딩이 오래 걸릴수록, 기한이 가까울수록 갱신 확률이 커져 만료 시점의 동시 미스를 분산합니다.
+     */
+    public boolean shouldRefreshEarly(long nowNanos, double beta) {
+        if (beta <= 0 || loadNanos <= 0) {
+            return false;
+        }
+        double gap = loadNanos * beta * -Math.log(ThreadLocalRandom.current().nextDouble());
+        return gap >= (double) (freshUntilNanos - nowNanos);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.logging.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * RedisCacheManager의 단건 조회(get)를 RedisBatchCache 요청 병합으로 돌리는 CacheManager
+ * 쓰기/삭제는 원래 캐시에 그대로 위임합니다. 키 형식과 값 직렬화가 RedisCacheManager와 같아야 합니다.
+ */
+public class CoalescingCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final RedisBatchCache batchCache;
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public CoalescingCacheManager(CacheManager delegate, RedisBatchCache batchCache) {
+        this.delegate = delegate;
+        this.batchCache = batchCache;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> new CoalescingCache(target, batchCache));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    private static final class CoalescingCache implements Cache {
+
+        private final Cache target;
+        private final RedisBatchCache batchCache;
+
+        CoalescingCache(Cache target, RedisBatchCache batchCache) {
+            this.target = target;
+            this.batchCache = batchCache;
+        }
+
+        @Override
+        public String getName() {
+            return target.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return target.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            Object value = batchCache.get(RedisBatchCache.cacheKey(getName(), key));
+            return value != null ? new SimpleValueWrapper(value) : null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(Object key, Class<T> type) {
+            Object value = batchCache.get(RedisBatchCache.cacheKey(getName(), key));
+            if (value != null && type != null && !type.isInstance(value)) {
+                throw new IllegalStateException(
+                        "Cached value is not of required type [" + type.getName() + "]: " + value);
+            }
+            return (T) value;
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            return target.get(key, valueLoader);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            target.put(key, value);
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            return target.putIfAbsent(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            target.evict(key);
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            return target.evictIfPresent(key);
+        }
+
+        @Override
+        public void clear() {
+            target.clear();
+        }
+    }
+}
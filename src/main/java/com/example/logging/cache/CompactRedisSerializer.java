@@ -0,0 +1,396 @@
+package com.example.logging.cache;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 값용 바이너리 직렬화
+ *
+ * 형식: [MAGIC][버전][플래그] + 본문 (플래그 LZ4면 [원본 길이 varint] + LZ4 블록)
+ * 본문: 태그 1바이트 + 값. 등록된 타입(Product, User 등)은 타입 ID + TypeCodec으로 필드만 기록하고,
+ * 등록되지 않은 타입은 JSON(GenericJackson2JsonRedisSerializer)으로 감싸 저장합니다.
+ *
+ * MAGIC으로 시작하지 않는 값은 기존 JSON 형식으로 읽으므로, JSON과 바이너리 값이 섞인 상태로 전환할 수 있습니다.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xB1;
+    static final byte FORMAT_VERSION = 1;
+    static final byte FLAG_LZ4 = 1;
+    private static final int HEADER_SIZE = 3;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_LONG = 2;
+    private static final byte TAG_INT = 3;
+    private static final byte TAG_DOUBLE = 4;
+    private static final byte TAG_BOOLEAN = 5;
+    private static final byte TAG_LIST = 6;
+    private static final byte TAG_TYPED = 7;
+    private static final byte TAG_JSON = 8;
+
+    private final Map<Class<?>, Registration<?>> byType = new HashMap<>();
+    private Registration<?>[] byId = new Registration<?>[0];
+    private final GenericJackson2JsonRedisSerializer json;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    /**
+     * compressionThreshold: 본문이 이 크기(바이트) 이상이면 LZ4로 압축, 0 이하면 압축 안 함
+     */
+    public CompactRedisSerializer(int compressionThreshold) {
+        this(new GenericJackson2JsonRedisSerializer(), compressionThreshold);
+    }
+
+    public CompactRedisSerializer(GenericJackson2JsonRedisSerializer json, int compressionThreshold) {
+        this.json = json;
+        this.compressionThreshold = compressionThreshold;
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.fastDecompressor();
+    }
+
+    /**
+     * 타입 등록. 타입 ID는 저장된 값과의 호환을 위해 한 번 정하면 바꾸지 않습니다.
+     */
+    public <T> CompactRedisSerializer register(int typeId, Class<T> type, TypeCodec<T> codec) {
+        if (typeId < 0 || typeId > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("typeId out of range: " + typeId);
+        }
+        Registration<T> registration = new Registration<>(typeId, type, codec);
+        byType.put(type, registration);
+        if (typeId >= byId.length) {
+            byId = Arrays.copyOf(byId, typeId + 1);
+        }
+        byId[typeId] = registration;
+        return this;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        Output out = new Output(128);
+        out.writeByte(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+        out.writeByte(0);
+        writeValue(value, out);
+
+        int bodyLength = out.position - HEADER_SIZE;
+        if (compressionThreshold <= 0 || bodyLength < compressionThreshold) {
+            return out.toByteArray();
+        }
+        Output compressed = new Output(HEADER_SIZE + 5 + compressor.maxCompressedLength(bodyLength));
+        compressed.writeByte(MAGIC);
+        compressed.writeByte(FORMAT_VERSION);
+        compressed.writeByte(FLAG_LZ4);
+        compressed.writeVarInt(bodyLength);
+        compressed.position += compressor.compress(out.buffer, HEADER_SIZE, bodyLength,
+                compressed.buffer, compressed.position);
+        // 압축 효과가 없으면 원본 유지
+        return compressed.position < out.position ? compressed.toByteArray() : out.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            // 전환 이전에 저장된 JSON 값
+            return json.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_SIZE || bytes[1] != FORMAT_VERSION) {
+            throw new SerializationException("Unsupported cache value format version: "
+                    + (bytes.length > 1 ? bytes[1] : -1));
+        }
+
+        Input in = new Input(bytes, HEADER_SIZE, bytes.length);
+        if ((bytes[2] & FLAG_LZ4) != 0) {
+            int length = in.readVarInt();
+            byte[] body = new byte[length];
+            decompressor.decompress(bytes, in.position, body, 0, length);
+            in = new Input(body, 0, length);
+        }
+        return readValue(in);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeValue(Object value, Output out) {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+            return;
+        }
+        Registration<Object> registration = (Registration<Object>) byType.get(value.getClass());
+        if (registration != null) {
+            out.writeByte(TAG_TYPED);
+            out.writeVarInt(registration.typeId);
+            registration.codec.write(value, out);
+        } else if (value instanceof String s) {
+            out.writeByte(TAG_STRING);
+            out.writeString(s);
+        } else if (value instanceof Long l) {
+            out.writeByte(TAG_LONG);
+            out.writeVarLong(l);
+        } else if (value instanceof Integer i) {
+            out.writeByte(TAG_INT);
+            out.writeVarLong(i);
+        } else if (value instanceof Double d) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble(d);
+        } else if (value instanceof Boolean b) {
+            out.writeByte(TAG_BOOLEAN);
+            out.writeByte(b ? 1 : 0);
+        } else if (value instanceof List<?> list) {
+            out.writeByte(TAG_LIST);
+            out.writeVarInt(list.size());
+            for (Object element : list) {
+                writeValue(element, out);
+            }
+        } else {
+            byte[] bytes = json.serialize(value);
+            out.writeByte(TAG_JSON);
+            out.writeVarInt(bytes.length);
+            out.writeBytes(bytes, 0, bytes.length);
+        }
+    }
+
+    private Object readValue(Input in) {
+        byte tag = in.readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_STRING:
+                return in.readString();
+            case TAG_LONG:
+                return in.readVarLong();
+            case TAG_INT:
+                return (int) in.readVarLong();
+            case TAG_DOUBLE:
+                return in.readDouble();
+            case TAG_BOOLEAN:
+                return in.readByte() != 0;
+            case TAG_LIST: {
+                int size = in.readVarInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                return list;
+            }
+            case TAG_TYPED: {
+                int typeId = in.readVarInt();
+                Registration<?> registration = typeId < byId.length ? byId[typeId] : null;
+                if (registration == null) {
+                    throw new SerializationException("Unknown cache value type id: " + typeId);
+                }
+                return registration.codec.read(in);
+            }
+            case TAG_JSON: {
+                int length = in.readVarInt();
+                return json.deserialize(in.readBytes(length));
+            }
+            default:
+                throw new SerializationException("Unknown cache value tag: " + tag);
+        }
+    }
+
+    /**
+     * 타입별 필드 직렬화. 필드 추가 시 끝에만 덧붙이고 읽을 때 in.hasRemaining()으로 구버전 값을 처리합니다.
+     */
+    public interface TypeCodec<T> {
+
+        void write(T value, Output out);
+
+        T read(Input in);
+    }
+
+    private record Registration<T>(int typeId, Class<T> type, TypeCodec<T> codec) {
+    }
+
+    /**
+     * 가변 길이 바이트 버퍼 (varint, UTF-8 문자열, nullable 필드)
+     */
+    public static final class Output {
+        private byte[] buffer;
+        private int position;
+
+        Output(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        public void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        public void writeBytes(byte[] bytes, int offset, int length) {
+            ensureCapacity(length);
+            System.arraycopy(bytes, offset, buffer, position, length);
+            position += length;
+        }
+
+        public void writeVarInt(int value) {
+            ensureCapacity(5);
+            while ((value & ~0x7F) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        /**
+         * zigzag varint (작은 음수도 짧게)
+         */
+        public void writeVarLong(long value) {
+            ensureCapacity(10);
+            long zigzag = (value << 1) ^ (value >> 63);
+            while ((zigzag & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((zigzag & 0x7F) | 0x80);
+                zigzag >>>= 7;
+            }
+            buffer[position++] = (byte) zigzag;
+        }
+
+        public void writeDouble(double value) {
+            long bits = Double.doubleToRawLongBits(value);
+            ensureCapacity(8);
+            for (int i = 0; i < 8; i++) {
+                buffer[position++] = (byte) (bits >>> (i * 8));
+            }
+        }
+
+        /**
+         * 길이+1(null이면 0) varint 뒤에 UTF-8 바이트
+         */
+        public void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            writeBytes(bytes, 0, bytes.length);
+        }
+
+        /**
+         * null 여부 1바이트 + zigzag varint
+         */
+        public void writeNullableLong(Long value) {
+            if (value == null) {
+                writeByte(0);
+            } else {
+                writeByte(1);
+                writeVarLong(value);
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensureCapacity(int additional) {
+            if (position + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+            }
+        }
+    }
+
+    /**
+     * Output으로 기록한 값 읽기
+     */
+    public static final class Input {
+        private final byte[] buffer;
+        private final int limit;
+        private int position;
+
+        Input(byte[] buffer, int offset, int limit) {
+            this.buffer = buffer;
+            this.position = offset;
+            this.limit = limit;
+        }
+
+        public boolean hasRemaining() {
+            return position < limit;
+        }
+
+        public byte readByte() {
+            checkRemaining(1);
+            return buffer[position++];
+        }
+
+        public byte[] readBytes(int length) {
+            checkRemaining(length);
+            byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+            position += length;
+            return bytes;
+        }
+
+        public int readVarInt() {
+            int result = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                byte b = readByte();
+                result |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return result;
+                }
+            }
+            throw new SerializationException("Malformed varint");
+        }
+
+        public long readVarLong() {
+            long zigzag = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                zigzag |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return (zigzag >>> 1) ^ -(zigzag & 1);
+                }
+            }
+            throw new SerializationException("Malformed varlong");
+        }
+
+        public double readDouble() {
+            checkRemaining(8);
+            long bits = 0;
+            for (int i = 0; i < 8; i++) {
+                bits |= (buffer[position++] & 0xFFL) << (i * 8);
+            }
+            return Double.longBitsToDouble(bits);
+        }
+
+        public String readString() {
+            int length = readVarInt() - 1;
+            if (length < 0) {
+                return null;
+            }
+            checkRemaining(length);
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        public Long readNullableLong() {
+            return readByte() == 0 ? null : readVarLong();
+        }
+
+        private void checkRemaining(int length) {
+            if (length < 0 || position + length > limit) {
+                throw new SerializationException("Truncated cache value");
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.logging.cache;
+
+import com.example.logging.dto.ProductPage;
+import com.example.logging.dto.ProductView;
+import com.example.logging.entity.Product;
+import com.example.logging.entity.User;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 캐시되는 엔티티의 필드 단위 코덱
+ * 타입 ID와 필드 순서는 Redis에 저장된 값의 형식이므로 바꾸지 말고, 새 필드는 끝에 추가합니다.
+ */
+public final class EntityCodecs {
+
+    public static final int PRODUCT = 1;
+    public static final int USER = 2;
+    public static final int PRODUCT_PAGE = 3;
+
+    private EntityCodecs() {
+    }
+
+    /**
+     * 엔티티 코덱 등록
+     */
+    public static CompactRedisSerializer registerAll(CompactRedisSerializer serializer) {
+        return serializer
+                .register(PRODUCT, Product.class, new ProductCodec())
+                .register(USER, User.class, new UserCodec())
+                .register(PRODUCT_PAGE, ProductPage.class, new ProductPageCodec());
+    }
+
+    static final class ProductCodec implements CompactRedisSerializer.TypeCodec<Product> {
+
+        @Override
+        public void write(Product product, CompactRedisSerializer.Output out) {
+            out.writeNullableLong(product.getId());
+            out.writeString(product.getName());
+            out.writeString(product.getDescription());
+            out.writeDouble(product.getPrice());
+        }
+
+        @Override
+        public Product read(CompactRedisSerializer.Input in) {
+            Product product = new Product();
+            product.setId(in.readNullableLong());
+            product.setName(in.readString());
+            product.setDescription(in.readString());
+            product.setPrice(in.readDouble());
+            return product;
+        }
+    }
+
+    static final class ProductPageCodec implements CompactRedisSerializer.TypeCodec<ProductPage> {
+
+        @Override
+        public void write(ProductPage page, CompactRedisSerializer.Output out) {
+            out.writeString(page.nextCursor());
+            out.writeVarInt(page.items().size());
+            for (ProductView product : page.items()) {
+                out.writeNullableLong(product.id());
+                out.writeString(product.name());
+                out.writeString(product.description());
+                out.writeDouble(product.price());
+            }
+        }
+
+        @Override
+        public ProductPage read(CompactRedisSerializer.Input in) {
+            String nextCursor = in.readString();
+            int size = in.readVarInt();
+            List<ProductView> items = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                items.add(new ProductView(in.readNullableLong(), in.readString(), in.readString(), in.readDouble()));
+            }
+            return new ProductPage(items, nextCursor);
+        }
+    }
+
+    static final class UserCodec implements CompactRedisSerializer.TypeCodec<User> {
+
+        @Override
+        public void write(User user, CompactRedisSerializer.Output out) {
+            out.writeNullableLong(user.getId());
+            out.writeString(user.getName());
+            out.writeString(user.getEmail());
+        }
+
+        @Override
+        public User read(CompactRedisSerializer.Input in) {
+            User user = new User();
+            user.setId(in.readNullableLong());
+            user.setName(in.readString());
+            user.setEmail(in.readString());
+            return user;
+        }
+    }
+}
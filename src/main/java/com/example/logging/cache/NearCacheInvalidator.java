@@ -0,0 +1,19 @@
+package com.example.logging.cache;
+
+import java.util.function.BiConsumer;
+
+/**
+ * 노드 간 L1(근거리) 캐시 무효화 전파
+ */
+public interface NearCacheInvalidator {
+
+    /**
+     * 다른 노드에 무효화 전파. key가 null이면 해당 캐시 전체 무효화
+     */
+    void publish(String cacheName, String key);
+
+    /**
+     * 다른 노드에서 온 무효화 수신 처리기 등록 (cacheName, key)
+     */
+    void subscribe(BiConsumer<String, String> handler);
+}
@@ -0,0 +1,96 @@
+package com.example.logging.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 캐시 히트 기록용 스트라이프 링 버퍼
+ * - 읽기 스레드는 락 없이 자기 스트라이프에 노드를 적재
+ * - 버퍼가 가득 차거나 경합이 나면 기록을 버림 (접근 순서는 근사치면 충분)
+ * - 비우기(drain)는 eviction 락을 잡은 스레드 하나만 수행
+ */
+final class ReadBuffer<E> {
+
+    static final int SUCCESS = 0;
+    static final int FULL = 1;
+    static final int FAILED = 2;
+
+    private static final int BUFFER_SIZE = 16;
+    private static final int BUFFER_MASK = BUFFER_SIZE - 1;
+    private static final int STRIPE_COUNT =
+            Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2 - 1);
+
+    private final Stripe<E>[] stripes;
+
+    ReadBuffer() {
+        stripes = newStripes(STRIPE_COUNT);
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe<>();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Stripe<E>[] newStripes(int length) {
+        return (Stripe<E>[]) new Stripe<?>[length];
+    }
+
+    /**
+     * 버퍼에 기록. 스트라이프가 가득 찼으면 FULL을 반환하여 호출자가 비우도록 유도
+     */
+    int offer(E element) {
+        return stripes[probe() & (STRIPE_COUNT - 1)].offer(element);
+    }
+
+    /**
+     * 적재된 모든 항목을 consumer로 전달 (eviction 락 보유 상태에서 호출)
+     */
+    void drainTo(Consumer<E> consumer) {
+        for (Stripe<E> stripe : stripes) {
+            stripe.drainTo(consumer);
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private static int probe() {
+        int h = (int) Thread.currentThread().getId() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Stripe<E> {
+        private final AtomicLong writeCounter = new AtomicLong();
+        private final AtomicReferenceArray<E> buffer = new AtomicReferenceArray<>(BUFFER_SIZE);
+        private volatile long readCounter;
+
+        int offer(E element) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            long size = tail - head;
+            if (size >= BUFFER_SIZE) {
+                return FULL;
+            }
+            if (writeCounter.compareAndSet(tail, tail + 1)) {
+                buffer.lazySet((int) (tail & BUFFER_MASK), element);
+                return (size + 1 >= BUFFER_SIZE) ? FULL : SUCCESS;
+            }
+            return FAILED;
+        }
+
+        void drainTo(Consumer<E> consumer) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            while (head < tail) {
+                int index = (int) (head & BUFFER_MASK);
+                E element = buffer.get(index);
+                if (element == null) {
+                    // 슬롯을 예약했지만 아직 쓰지 못한 생산자 - 다음 drain에서 처리
+                    break;
+                }
+                buffer.lazySet(index, null);
+                consumer.accept(element);
+                head++;
+            }
+            readCounter = head;
+        }
+    }
+}
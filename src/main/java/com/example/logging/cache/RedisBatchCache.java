@@ -0,0 +1,135 @@
+package com.example.logging.cache;
+
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Redis 다건 캐시 연산
+ * - getAll: MGET 한 번
+ * - putAll: SET ... EX 를 파이프라인으로 한 번에 전송
+ * - evictAll: 다중 키 DEL 한 번
+ * - get: 요청 병합(coalescing) 사용 시 짧은 시간 창 안의 개별 조회를 MGET 하나로 모음
+ */
+public class RedisBatchCache {
+
+    /** RedisCacheManager 기본 키 접두사 구분자 (캐시명::키) */
+    private static final String CACHE_KEY_SEPARATOR = "::";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RequestCoalescer<String, Object> coalescer;
+
+    /**
+     * 요청 병합 없이 사용
+     */
+    public RedisBatchCache(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.coalescer = null;
+    }
+
+    /**
+     * coalesceWindow 동안 들어온 get()을 최대 maxBatchSize개씩 MGET으로 처리
+     */
+    public RedisBatchCache(RedisTemplate<String, Object> redisTemplate, Duration coalesceWindow, int maxBatchSize,
+                           Executor executor) {
+        this.redisTemplate = redisTemplate;
+        this.coalescer = new RequestCoalescer<>(this::getAll, coalesceWindow.toNanos(), maxBatchSize, executor);
+    }
+
+    /**
+     * RedisCacheManager가 사용하는 키 형식 ("products::1")
+     */
+    public static String cacheKey(String cacheName, Object key) {
+        return cacheName + CACHE_KEY_SEPARATOR + key;
+    }
+
+    /**
+     * 다건 조회 (MGET). 없는 키는 결과에 포함되지 않습니다.
+     */
+    public Map<String, Object> getAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        List<String> distinctKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+        List<Object> values = redisTemplate.opsForValue().multiGet(distinctKeys);
+
+        Map<String, Object> result = new HashMap<>();
+        if (values == null) {
+            return result;
+        }
+        for (int i = 0; i < distinctKeys.size(); i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                result.put(distinctKeys.get(i), value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 다건 저장 (파이프라인). ttl이 null이면 만료 없음
+     */
+    @SuppressWarnings("unchecked")
+    public void putAll(Map<String, ?> entries, Duration ttl) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        RedisSerializer<String> keySerializer = (RedisSerializer<String>) redisTemplate.getKeySerializer();
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        Expiration expiration = ttl != null ? Expiration.from(ttl) : Expiration.persistent();
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            entries.forEach((key, value) -> connection.stringCommands().set(
+                    keySerializer.serialize(key), valueSerializer.serialize(value), expiration, SetOption.upsert()));
+            return null;
+        });
+    }
+
+    /**
+     * 다건 삭제 (DEL). 삭제된 키 수 반환
+     */
+    public long evictAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long deleted = redisTemplate.delete(keys);
+        return deleted != null ? deleted : 0;
+    }
+
+    /**
+     * 단건 조회. 요청 병합을 사용하면 다른 스레드의 조회와 함께 MGET으로 처리됩니다.
+     */
+    public Object get(String key) {
+        if (coalescer == null) {
+            return redisTemplate.opsForValue().get(key);
+        }
+        try {
+            return coalescer.submit(key).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * 요청 병합 사용 여부
+     */
+    public boolean isCoalescing() {
+        return coalescer != null;
+    }
+}
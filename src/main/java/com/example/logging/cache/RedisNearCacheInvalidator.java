@@ -0,0 +1,72 @@
+package com.example.logging.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * Redis pub/sub 기반 L1 캐시 무효화
+ * 메시지 형식: "{노드ID}\n{캐시명}[\n{키}]" - 자기 노드가 보낸 메시지는 무시합니다.
+ */
+public class RedisNearCacheInvalidator implements NearCacheInvalidator, MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisNearCacheInvalidator.class);
+
+    public static final String DEFAULT_CHANNEL = "cache:near:invalidate";
+    private static final String SEPARATOR = "\n";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<BiConsumer<String, String>> handlers = new CopyOnWriteArrayList<>();
+
+    public RedisNearCacheInvalidator(StringRedisTemplate redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    @Override
+    public void publish(String cacheName, String key) {
+        String message = key == null
+                ? nodeId + SEPARATOR + cacheName
+                : nodeId + SEPARATOR + cacheName + SEPARATOR + key;
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } catch (DataAccessException ex) {
+            // 발행 실패 시 다른 노드의 L1은 TTL 만료까지 이전 값을 볼 수 있음
+            logger.warn("L1 캐시 무효화 발행 실패: cache={}, key={}, error={}", cacheName, key, ex.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(BiConsumer<String, String> handler) {
+        handlers.add(handler);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        String cacheName = parts[1];
+        String key = parts.length == 3 ? parts[2] : null;
+        logger.debug("L1 캐시 무효화 수신: cache={}, key={}", cacheName, key);
+        for (BiConsumer<String, String> handler : handlers) {
+            handler.accept(cacheName, key);
+        }
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.logging.cache;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 캐시 갱신 정책
+ * - staleWhileRevalidate: TTL이 지난 뒤에도 이전 값을 돌려주며 백그라운드 갱신하는 구간
+ * - beta: XFetch 조기 갱신 강도 (0이면 사용 안 함, 1.0이 일반적인 값)
+ */
+public final class RefreshPolicy {
+
+    private final long staleNanos;
+    private final double beta;
+    private final Executor executor;
+
+    public RefreshPolicy(Duration staleWhileRevalidate, double beta, Executor executor) {
+        this.staleNanos = staleWhileRevalidate.toNanos();
+        this.beta = beta;
+        this.executor = executor;
+    }
+
+    /**
+     * 조기 갱신/stale 구간 없이 TTL에 만료
+     */
+    public static RefreshPolicy disabled() {
+        return new RefreshPolicy(Duration.ZERO, 0, Runnable::run);
+    }
+
+    /**
+     * 백그라운드 갱신용 데몬 스레드 풀 (큐가 가득 차면 갱신을 건너뜀)
+     */
+    public static ExecutorService newExecutor(String threadPrefix, int threads, int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, threadPrefix + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 캐시에서 실제로 제거되는 시점까지의 TTL (신선 TTL + stale 구간)
+     */
+    public long hardTtlNanos(long ttlNanos) {
+        long hardTtl = ttlNanos + staleNanos;
+        return hardTtl < 0 ? Long.MAX_VALUE : hardTtl;
+    }
+
+    /**
+     * stale 구간이거나 XFetch 조기 갱신에 당첨되면 true
+     */
+    public boolean needsRefresh(CachedValue<?> cached, long nowNanos) {
+        return !cached.isFresh(nowNanos) || cached.shouldRefreshEarly(nowNanos, beta);
+    }
+
+    public Executor executor() {
+        return executor;
+    }
+}
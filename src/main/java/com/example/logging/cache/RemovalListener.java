@@ -0,0 +1,29 @@
+package com.example.logging.cache;
+
+/**
+ * 캐시 항목 제거 알림
+ * eviction 락 안에서 호출되므로 가볍게 구현해야 합니다.
+ */
+@FunctionalInterface
+public interface RemovalListener<K, V> {
+
+    void onRemoval(K key, V value, Cause cause);
+
+    /**
+     * 제거 사유
+     */
+    enum Cause {
+        /** evict/remove 호출 */
+        EXPLICIT,
+        /** 같은 키로 새 값이 저장됨 */
+        REPLACED,
+        /** TTL 만료 */
+        EXPIRED,
+        /** 최대 항목 수 또는 최대 가중치 초과 */
+        SIZE
+    }
+
+    static <K, V> RemovalListener<K, V> noop() {
+        return (key, value, cause) -> { };
+    }
+}
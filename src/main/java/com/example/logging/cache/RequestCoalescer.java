@@ -0,0 +1,109 @@
+package com.example.logging.cache;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * 짧은 시간 창 안에 들어온 개별 조회를 모아 한 번의 배치 조회로 처리
+ * 첫 요청이 들어오면 window만큼 기다린 뒤 그동안 쌓인 키를 중복 제거하여 batchLoader(최대 maxBatchSize개씩)에 넘깁니다.
+ * 대기 시간은 OS 타이머 해상도(리눅스 기준 수십 μs) 이하로는 줄어들지 않습니다.
+ */
+public class RequestCoalescer<K, V> {
+
+    private final Function<List<K>, Map<K, V>> batchLoader;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Executor executor;
+    private final ConcurrentLinkedQueue<Pending<K, V>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    public RequestCoalescer(Function<List<K>, Map<K, V>> batchLoader, long windowNanos, int maxBatchSize,
+                            Executor executor) {
+        this.batchLoader = batchLoader;
+        this.windowNanos = windowNanos;
+        this.maxBatchSize = maxBatchSize;
+        this.executor = executor;
+    }
+
+    /**
+     * 조회 요청 등록. 값이 없으면 null로 완료되고, 배치 조회 예외는 같은 배치의 모든 요청에 전달됩니다.
+     */
+    public CompletableFuture<V> submit(K key) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        queue.add(new Pending<>(key, future));
+        requests.increment();
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::flush);
+            } catch (RejectedExecutionException ex) {
+                scheduled.set(false);
+                drain();
+            }
+        }
+        return future;
+    }
+
+    /**
+     * 처리한 요청 수 대비 배치 수 (높을수록 왕복이 많이 줄어든 것)
+     */
+    public double averageBatchSize() {
+        long batchCount = batches.sum();
+        return batchCount > 0 ? (double) requests.sum() / batchCount : 0.0;
+    }
+
+    private void flush() {
+        if (windowNanos > 0) {
+            LockSupport.parkNanos(windowNanos);
+        }
+        // 플래그를 먼저 내려야 drain 이후 도착한 요청이 다음 flush를 예약함
+        scheduled.set(false);
+        drain();
+    }
+
+    private void drain() {
+        List<Pending<K, V>> batch = new ArrayList<>();
+        Pending<K, V> pending;
+        while ((pending = queue.poll()) != null) {
+            batch.add(pending);
+            if (batch.size() == maxBatchSize) {
+                load(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            load(batch);
+        }
+    }
+
+    private void load(List<Pending<K, V>> batch) {
+        Map<K, List<CompletableFuture<V>>> waiters = new LinkedHashMap<>();
+        for (Pending<K, V> pending : batch) {
+            waiters.computeIfAbsent(pending.key, key -> new ArrayList<>(1)).add(pending.future);
+        }
+        batches.increment();
+        try {
+            Map<K, V> values = batchLoader.apply(new ArrayList<>(waiters.keySet()));
+            waiters.forEach((key, futures) -> {
+                V value = values.get(key);
+                futures.forEach(future -> future.complete(value));
+            });
+        } catch (RuntimeException | Error ex) {
+            waiters.values().forEach(futures -> futures.forEach(future -> future.completeExceptionally(ex)));
+        }
+    }
+
+    private record Pending<K, V>(K key, CompletableFuture<V> future) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.logging.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 키별 단일 로딩(single-flight)
+ * 같은 키를 동시에 로딩하려는 호출은 먼저 시작한 로더의 결과를 함께 기다립니다.
+ * 로더 안에서 캐시 적재까지 끝내야 완료 직후 도착한 호출이 다시 로딩하지 않습니다.
+ */
+public class SingleFlight<K> {
+
+    private static final Logger logger = LoggerFactory.getLogger(SingleFlight.class);
+
+    private final ConcurrentMap<K, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 로딩 (진행 중인 로딩이 있으면 그 결과를 기다림)
+     * 로더 예외는 기다리던 호출 모두에 그대로 전달됩니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V load(K key, Supplier<V> loader) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return (V) await(existing);
+        }
+        return (V) run(key, created, loader);
+    }
+
+    /**
+     * 백그라운드 갱신 시작. 같은 키의 로딩이 이미 진행 중이면 false
+     * 실패는 경고 로그만 남기고, 캐시에는 이전 값이 유지됩니다.
+     */
+    public boolean refresh(K key, Supplier<?> loader, Executor executor) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, created) != null) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    run(key, created, loader);
+                } catch (RuntimeException | Error ex) {
+                    logger.warn("캐시 백그라운드 갱신 실패: key={}, error={}", key, ex.getMessage());
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException ex) {
+            // 갱신 큐가 가득 차면 이번 갱신은 건너뜀 (다음 조회에서 다시 시도)
+            inFlight.remove(key, created);
+            created.completeExceptionally(ex);
+            return false;
+        }
+    }
+
+    /**
+     * 진행 중인 로딩 수
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private Object run(K key, CompletableFuture<Object> future, Supplier<?> loader) {
+        try {
+            Object value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            future.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.logging.cache;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 캐시 가중치 계산용 객체 크기 추정기
+ * 리플렉션 없이 자주 캐시되는 타입만 대략 계산하고, 나머지는 고정값을 사용합니다.
+ */
+public final class SizeEstimator {
+
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 8;
+    private static final int DEFAULT_OBJECT = 128;
+    private static final int MAX_DEPTH = 3;
+    private static final int MAX_SAMPLED_ELEMENTS = 32;
+
+    private SizeEstimator() {
+        throw new IllegalStateException("유틸리티 클래스는 인스턴스화할 수 없습니다");
+    }
+
+    /**
+     * 객체의 추정 힙 사용량 (바이트)
+     */
+    public static long estimate(Object value) {
+        return estimate(value, 0);
+    }
+
+    private static long estimate(Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof CachedValue<?> cached) {
+            return OBJECT_HEADER + REFERENCE + 16 + estimate(cached.getValue(), depth);
+        }
+        if (value instanceof String s) {
+            return OBJECT_HEADER + 24 + s.length();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return OBJECT_HEADER + 8;
+        }
+        if (value instanceof byte[] bytes) {
+            return OBJECT_HEADER + bytes.length;
+        }
+        if (value instanceof Object[] array) {
+            return OBJECT_HEADER + (long) REFERENCE * array.length + sampled(Arrays.asList(array), depth);
+        }
+        if (value instanceof Collection<?> collection) {
+            return OBJECT_HEADER + (long) (REFERENCE + OBJECT_HEADER) * collection.size() + sampled(collection, depth);
+        }
+        if (value instanceof Map<?, ?> map) {
+            long entries = (long) (REFERENCE * 4 + OBJECT_HEADER) * map.size();
+            return OBJECT_HEADER + entries + sampled(map.keySet(), depth) + sampled(map.values(), depth);
+        }
+        return DEFAULT_OBJECT;
+    }
+
+    /**
+     * 원소 일부만 측정하여 전체 크기로 환산 (대형 컬렉션의 측정 비용 제한)
+     */
+    private static long sampled(Collection<?> elements, int depth) {
+        if (depth >= MAX_DEPTH || elements.isEmpty()) {
+            return (long) DEFAULT_OBJECT * elements.size();
+        }
+        long total = 0;
+        int measured = 0;
+        for (Object element : elements) {
+            if (measured == MAX_SAMPLED_ELEMENTS) {
+                break;
+            }
+            total += estimate(element, depth + 1);
+            measured++;
+        }
+        return total * elements.size() / measured;
+    }
+}
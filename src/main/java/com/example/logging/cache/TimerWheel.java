@@ -0,0 +1,161 @@
+package com.example.logging.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 만료 시각 기준 계층형 타이머 휠
+ * - 1초/1분/1시간/1일/6일 단위의 5단계 버킷에 노드를 연결 리스트로 보관
+ * - 시간이 지나면 경과한 버킷만 방문하여 만료 노드는 제거하고, 아직 남은 노드는 하위 단계로 내림
+ * - 따라서 정리 비용은 전체 항목 수가 아니라 만료된 항목 수에 비례
+ * - 스레드 안전하지 않으므로 eviction 락 안에서만 사용
+ */
+final class TimerWheel<K, V> {
+
+    static final int[] BUCKETS = {64, 64, 32, 4, 1};
+    static final long[] SPANS = {
+            ceilingPowerOfTwo(TimeUnit.SECONDS.toNanos(1)),     // 1.07초
+            ceilingPowerOfTwo(TimeUnit.MINUTES.toNanos(1)),     // 1.14분
+            ceilingPowerOfTwo(TimeUnit.HOURS.toNanos(1)),       // 1.22시간
+            ceilingPowerOfTwo(TimeUnit.DAYS.toNanos(1)),        // 1.63일
+            BUCKETS[3] * ceilingPowerOfTwo(TimeUnit.DAYS.toNanos(1)),  // 6.5일
+            BUCKETS[3] * ceilingPowerOfTwo(TimeUnit.DAYS.toNanos(1)),
+    };
+    static final long[] SHIFT = {
+            Long.numberOfTrailingZeros(SPANS[0]),
+            Long.numberOfTrailingZeros(SPANS[1]),
+            Long.numberOfTrailingZeros(SPANS[2]),
+            Long.numberOfTrailingZeros(SPANS[3]),
+            Long.numberOfTrailingZeros(SPANS[4]),
+    };
+
+    private final BoundedLocalCache.Node<K, V>[][] wheel;
+    private long nanos;
+
+    @SuppressWarnings("unchecked")
+    TimerWheel(long currentTimeNanos) {
+        this.nanos = currentTimeNanos;
+        this.wheel = (BoundedLocalCache.Node<K, V>[][]) new BoundedLocalCache.Node<?, ?>[BUCKETS.length][];
+        for (int i = 0; i < BUCKETS.length; i++) {
+            wheel[i] = (BoundedLocalCache.Node<K, V>[]) new BoundedLocalCache.Node<?, ?>[BUCKETS[i]];
+            for (int j = 0; j < BUCKETS[i]; j++) {
+                wheel[i][j] = sentinel();
+            }
+        }
+    }
+
+    /**
+     * 현재 시각까지 경과한 버킷을 처리. 만료된 노드는 onExpired로 넘기고 그 수를 반환
+     */
+    int advance(long currentTimeNanos, Consumer<BoundedLocalCache.Node<K, V>> onExpired) {
+        long previousTimeNanos = nanos;
+        nanos = currentTimeNanos;
+
+        int expired = 0;
+        for (int i = 0; i < SHIFT.length; i++) {
+            long previousTicks = previousTimeNanos >>> SHIFT[i];
+            long currentTicks = currentTimeNanos >>> SHIFT[i];
+            long delta = currentTicks - previousTicks;
+            if (delta <= 0) {
+                break;
+            }
+            expired += expire(i, previousTicks, delta, onExpired);
+        }
+        return expired;
+    }
+
+    /**
+     * 만료 시각에 해당하는 버킷에 노드 등록
+     */
+    void schedule(BoundedLocalCache.Node<K, V> node) {
+        BoundedLocalCache.Node<K, V> sentinel = findBucket(node.deadline);
+        node.nextInTime = sentinel;
+        node.prevInTime = sentinel.prevInTime;
+        sentinel.prevInTime.nextInTime = node;
+        sentinel.prevInTime = node;
+    }
+
+    /**
+     * 등록된 노드를 버킷에서 제거 (미등록이면 무시)
+     */
+    void deschedule(BoundedLocalCache.Node<K, V> node) {
+        if (node.nextInTime != null) {
+            node.nextInTime.prevInTime = node.prevInTime;
+            node.prevInTime.nextInTime = node.nextInTime;
+            node.nextInTime = null;
+            node.prevInTime = null;
+        }
+    }
+
+    void clear() {
+        for (BoundedLocalCache.Node<K, V>[] buckets : wheel) {
+            for (BoundedLocalCache.Node<K, V> sentinel : buckets) {
+                BoundedLocalCache.Node<K, V> node = sentinel.nextInTime;
+                while (node != sentinel) {
+                    BoundedLocalCache.Node<K, V> next = node.nextInTime;
+                    node.nextInTime = null;
+                    node.prevInTime = null;
+                    node = next;
+                }
+                sentinel.nextInTime = sentinel;
+                sentinel.prevInTime = sentinel;
+            }
+        }
+    }
+
+    private int expire(int index, long previousTicks, long delta,
+                       Consumer<BoundedLocalCache.Node<K, V>> onExpired) {
+        BoundedLocalCache.Node<K, V>[] timerWheel = wheel[index];
+        int mask = timerWheel.length - 1;
+        int steps = (int) Math.min(1 + delta, timerWheel.length);
+        int start = (int) (previousTicks & mask);
+
+        int expired = 0;
+        for (int i = start; i < start + steps; i++) {
+            BoundedLocalCache.Node<K, V> sentinel = timerWheel[i & mask];
+            BoundedLocalCache.Node<K, V> node = sentinel.nextInTime;
+            sentinel.nextInTime = sentinel;
+            sentinel.prevInTime = sentinel;
+
+            while (node != sentinel) {
+                BoundedLocalCache.Node<K, V> next = node.nextInTime;
+                node.nextInTime = null;
+                node.prevInTime = null;
+                if (node.deadline - nanos > 0) {
+                    // 상위 단계 버킷에서 아직 만료되지 않은 노드는 더 촘촘한 단계로 내림
+                    schedule(node);
+                } else {
+                    onExpired.accept(node);
+                    expired++;
+                }
+                node = next;
+            }
+        }
+        return expired;
+    }
+
+    private BoundedLocalCache.Node<K, V> findBucket(long deadline) {
+        // 이미 지난 시각은 다음 advance에서 바로 방문하는 현재 버킷에 등록
+        long time = Math.max(deadline, nanos);
+        long duration = time - nanos;
+        int last = wheel.length - 1;
+        for (int i = 0; i < last; i++) {
+            if (duration < SPANS[i + 1]) {
+                long ticks = time >>> SHIFT[i];
+                return wheel[i][(int) (ticks & (wheel[i].length - 1))];
+            }
+        }
+        return wheel[last][0];
+    }
+
+    private static <K, V> BoundedLocalCache.Node<K, V> sentinel() {
+        BoundedLocalCache.Node<K, V> sentinel = new BoundedLocalCache.Node<>(null, null, 0);
+        sentinel.nextInTime = sentinel;
+        sentinel.prevInTime = sentinel;
+        return sentinel;
+    }
+
+    private static long ceilingPowerOfTwo(long value) {
+        return 1L << -Long.numberOfLeadingZeros(value - 1);
+    }
+}
@@ -0,0 +1,253 @@
+package com.example.logging.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * L1(프로세스 내 BoundedLocalCache) + L2(Redis 등 원격 Cache) 2단계 캐시
+ * - 조회: L1 → L2 순서, L2 히트는 L1에 짧은 TTL로 적재
+ * - valueLoader 조회: 키별 single-flight로 L2 조회와 원본 로딩을 노드당 한 번만 수행하고,
+ *   L1의 stale 구간/XFetch 조기 갱신은 이전 값을 반환하면서 백그라운드에서 L2(없으면 원본)로 갱신
+ * - 쓰기/삭제: L2 반영 후 L1 갱신, 다른 노드의 L1은 NearCacheInvalidator로 무효화
+ * - 로딩 결과 적재: 로딩 중 같은 키(stripe)에 쓰기/삭제가 있었으면 적재하지 않고, L2는 putIfAbsent로만 채워
+ *   먼저 반영된 @CachePut 값을 덮어쓰지 않음
+ * - L1은 역직렬화 없이 같은 객체 참조를 돌려주므로 반환값을 수정하면 안 됩니다
+ */
+public class TwoLevelCache implements Cache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoLevelCache.class);
+    /** 키별 쓰기 세대 stripe 수 (2의 거듭제곱, 충돌 시 적재를 건너뛸 뿐 정합성에는 영향 없음) */
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final String name;
+    private final Cache remote;
+    private final BoundedLocalCache<String, Object> local;
+    private final long localTtlNanos;
+    private final NearCacheInvalidator invalidator;
+    private final RefreshPolicy refreshPolicy;
+    private final SingleFlight<String> loading = new SingleFlight<>();
+    /** put/evict마다 증가, 로딩 시작 시점 값과 다르면 로딩 결과가 오래된 것일 수 있음 */
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public TwoLevelCache(String name, Cache remote, BoundedLocalCache<String, Object> local,
+                         long localTtlNanos, NearCacheInvalidator invalidator, RefreshPolicy refreshPolicy) {
+        this.name = name;
+        this.remote = remote;
+        this.local = local;
+        this.localTtlNanos = localTtlNanos;
+        this.invalidator = invalidator;
+        this.refreshPolicy = refreshPolicy;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object value = local.get(localKey);
+        if (value instanceof CachedValue<?> cached && cached.isFresh(System.nanoTime())) {
+            return new SimpleValueWrapper(cached.getValue());
+        }
+
+        // L1 미스 또는 stale: valueLoader가 없으므로 L2로 재검증
+        long generation = generation(localKey);
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            putLocalIfCurrent(localKey, wrapper.get(), 0, generation);
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object value = local.get(localKey);
+        if (value instanceof CachedValue<?> cached) {
+            if (refreshPolicy.needsRefresh(cached, System.nanoTime())) {
+                loading.refresh(localKey, () -> loadThrough(key, localKey, valueLoader), refreshPolicy.executor());
+            }
+            return (T) cached.getValue();
+        }
+        return loading.load(localKey, () -> loadThrough(key, localKey, valueLoader));
+    }
+
+    /**
+     * L2 조회, 없으면 원본 로딩 후 L2/L1 적재
+     * RedisCache.get(key, valueLoader)는 캐시 단위 락으로 모든 키의 로딩을 직렬화하므로 사용하지 않습니다.
+     * 로딩 결과는 이미 반환이 확정된 값이므로 L2 쓰기 실패는 경고만 남깁니다
+     * (예외를 던지면 CacheErrorHandler 경로에서 원본을 한 번 더 로딩함).
+     */
+    private <T> T loadThrough(Object key, String localKey, Callable<T> valueLoader) {
+        long start = System.nanoTime();
+        long generation = generation(localKey);
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            @SuppressWarnings("unchecked")
+            T value = (T) wrapper.get();
+            putLocalIfCurrent(localKey, value, System.nanoTime() - start, generation);
+            return value;
+        }
+
+        T loaded;
+        try {
+            loaded = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        if (loaded == null || generation(localKey) != generation) {
+            return loaded;
+        }
+        try {
+            remote.putIfAbsent(key, loaded);
+        } catch (RuntimeException ex) {
+            logger.warn("L2 캐시 적재 실패: cache={}, key={}, error={}", name, localKey, ex.getMessage());
+        }
+        if (generation(localKey) != generation) {
+            // 적재 직전에 쓰기/삭제가 끼어들었으면 방금 넣은 값이 오래된 것일 수 있으므로 제거 (다음 조회에서 재로딩)
+            evictQuietly(key);
+            return loaded;
+        }
+        putLocalIfCurrent(localKey, loaded, System.nanoTime() - start, generation);
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = localKey(key);
+        bumpGeneration(localKey);
+        writeRemote(localKey, () -> remote.put(key, value));
+        if (value != null) {
+            putLocal(localKey, value, 0);
+        } else {
+            local.remove(localKey);
+        }
+        invalidator.publish(name, localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        bumpGeneration(localKey);
+        writeRemote(localKey, () -> remote.evict(key));
+        local.remove(localKey);
+        invalidator.publish(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        bumpAllGenerations();
+        remote.clear();
+        local.clear();
+        invalidator.publish(name, null);
+    }
+
+    /**
+     * 다른 노드에서 온 무효화 반영 (L2는 건드리지 않음)
+     */
+    void evictLocal(String localKey) {
+        if (localKey == null) {
+            bumpAllGenerations();
+            local.clear();
+        } else {
+            bumpGeneration(localKey);
+            local.remove(localKey);
+        }
+    }
+
+    void cleanUp() {
+        local.cleanUp();
+    }
+
+    /**
+     * L2 쓰기 실패 시에도 이 노드의 L1에 이전 값이 남지 않도록 제거 후 예외 전달
+     */
+    private void writeRemote(String localKey, Runnable write) {
+        try {
+            write.run();
+        } catch (RuntimeException ex) {
+            local.remove(localKey);
+            throw ex;
+        }
+    }
+
+    /**
+     * 로딩 시작 이후 쓰기/삭제가 없었을 때만 L1 적재, 적재 후 다시 확인해 그 사이 끼어든 변경이 있으면 제거
+     */
+    private void putLocalIfCurrent(String localKey, Object value, long loadNanos, long generation) {
+        if (generation(localKey) != generation) {
+            return;
+        }
+        putLocal(localKey, value, loadNanos);
+        if (generation(localKey) != generation) {
+            local.remove(localKey);
+        }
+    }
+
+    private void evictQuietly(Object key) {
+        try {
+            remote.evict(key);
+        } catch (RuntimeException ex) {
+            logger.warn("L2 캐시 삭제 실패: cache={}, key={}, error={}", name, key, ex.getMessage());
+        }
+    }
+
+    private long generation(String localKey) {
+        return generations.get(stripe(localKey));
+    }
+
+    private void bumpGeneration(String localKey) {
+        generations.incrementAndGet(stripe(localKey));
+    }
+
+    private void bumpAllGenerations() {
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+    }
+
+    private static int stripe(String localKey) {
+        int hash = localKey.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    /**
+     * L1 적재: 신선 TTL 이후 stale 구간만큼 더 보관
+     */
+    private void putLocal(String localKey, Object value, long loadNanos) {
+        CachedValue<Object> cached = new CachedValue<>(value, System.nanoTime() + localTtlNanos, loadNanos);
+        local.put(localKey, cached, refreshPolicy.hardTtlNanos(localTtlNanos));
+    }
+
+    /**
+     * RedisCache와 같은 방식(toString)으로 키를 문자열화하여 노드 간 무효화 메시지에 사용
+     */
+    private static String localKey(Object key) {
+        return key.toString();
+    }
+}
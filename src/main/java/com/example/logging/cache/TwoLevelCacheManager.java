@@ -0,0 +1,83 @@
+package com.example.logging.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 원격 CacheManager(RedisCacheManager) 앞에 캐시별 L1을 두는 CacheManager
+ * L1은 캐시마다 최대 항목 수와 (원격보다 짧은) TTL을 가지며, RefreshPolicy에 따라 만료 전후로 백그라운드 갱신합니다.
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final long localMaxEntries;
+    private final Duration localTtl;
+    private final NearCacheInvalidator invalidator;
+    private final RefreshPolicy refreshPolicy;
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final Map<String, Duration> localTtls = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, long localMaxEntries, Duration localTtl,
+                                NearCacheInvalidator invalidator) {
+        this(remoteCacheManager, localMaxEntries, localTtl, invalidator, RefreshPolicy.disabled());
+    }
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, long localMaxEntries, Duration localTtl,
+                                NearCacheInvalidator invalidator, RefreshPolicy refreshPolicy) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localMaxEntries = localMaxEntries;
+        this.localTtl = localTtl;
+        this.invalidator = invalidator;
+        this.refreshPolicy = refreshPolicy;
+        invalidator.subscribe(this::evictLocal);
+    }
+
+    /**
+     * 캐시별 L1 TTL 지정 (원격 TTL이 기본 L1 TTL보다 짧은 캐시용). 해당 캐시를 처음 사용하기 전에 호출해야 합니다.
+     */
+    public void setLocalTtl(String cacheName, Duration ttl) {
+        localTtls.put(cacheName, ttl);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> new TwoLevelCache(cacheName, remote,
+                new BoundedLocalCache<>(localMaxEntries, Long.MAX_VALUE, Weigher.singleton(), RemovalListener.noop()),
+                localTtls.getOrDefault(cacheName, localTtl).toNanos(), invalidator, refreshPolicy));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * L1 만료 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${app.cache.local.expiry-interval-ms:1000}")
+    public void cleanUp() {
+        caches.values().forEach(TwoLevelCache::cleanUp);
+    }
+
+    private void evictLocal(String cacheName, String key) {
+        TwoLevelCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.evictLocal(key);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.logging.cache;
+
+/**
+ * 캐시 항목의 가중치(추정 바이트) 계산기
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+
+    int weigh(K key, V value);
+
+    /**
+     * 모든 항목을 1로 취급 (항목 수 제한만 사용)
+     */
+    static <K, V> Weigher<K, V> singleton() {
+        return (key, value) -> 1;
+    }
+
+    /**
+     * SizeEstimator 기반의 대략적인 힙 사용량 추정
+     */
+    static <K, V> Weigher<K, V> estimatedBytes() {
+        return (key, value) -> (int) Math.min(Integer.MAX_VALUE,
+                SizeEstimator.estimate(key) + SizeEstimator.estimate(value));
+    }
+}
@@ -31,6 +31,17 @@ public class AppConstants {
         public static final int NAME_MIN_LENGTH = 2;
         public static final int NAME_MAX_LENGTH = 100;
         public static final long USER_ID_MAX = 1000000L;
+        public static final int BATCH_MAX_SIZE = 100;
+        /** 대량 등록/수정/삭제 요청 1회 최대 건수 */
+        public static final int BULK_MAX_SIZE = 10000;
+    }
+
+    // 목록 페이지네이션
+    public static final class Pagination {
+        public static final int DEFAULT_PAGE_SIZE = 50;
+        public static final int MAX_PAGE_SIZE = 500;
+        /** 스트리밍 조회 시 JDBC fetch size */
+        public static final int STREAM_FETCH_SIZE = 500;
     }
 
     // 타임아웃 설정 (밀리초)
@@ -43,10 +54,20 @@ public class AppConstants {
     // 캐시 TTL (초)
     public static final class CacheTTL {
         public static final int USER_DATA = 60;
+        public static final int PRODUCT = 300;
+        public static final int PRODUCT_LIST = 30;
         public static final int HEALTH_CHECK = 30;
         public static final int METRICS = 10;
     }
 
+    // 캐시 이름 (Redis 키 접두사)
+    public static final class CacheNames {
+        public static final String USERS = "users";
+        public static final String PRODUCTS = "products";
+        /** 상품 목록 첫 페이지 (키: 정렬:크기) */
+        public static final String PRODUCT_LIST = "productList";
+    }
+
     private AppConstants() {
         // 유틸리티 클래스는 인스턴스화 방지
         throw new IllegalStateException("상수 클래스는 인스턴스화할 수 없습니다");
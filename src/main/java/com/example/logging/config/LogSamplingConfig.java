@@ -0,0 +1,65 @@
+package com.example.logging.config;
+
+import ch.qos.logback.classic.LoggerContext;
+import com.example.logging.logback.RateLimitingTurboFilter;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 로그 발생량 제한 설정
+ * RateLimitingTurboFilter를 logback 컨텍스트에 등록합니다. 컨텍스트 종료 시 필터는 중지되어 더 이상 관여하지 않습니다.
+ * loggers는 "로거 또는 패키지=초당 이벤트 수" 목록, level-sample-rates는 "레벨=비율" 목록입니다.
+ */
+@Configuration
+public class LogSamplingConfig {
+
+    @Value("${app.logging.rate-limit.default-per-second:0}")
+    private double defaultEventsPerSecond;
+
+    @Value("${app.logging.rate-limit.burst:100}")
+    private int burst;
+
+    @Value("${app.logging.rate-limit.max-level:INFO}")
+    private String maxLevel;
+
+    @Value("${app.logging.rate-limit.loggers:}")
+    private String[] loggerLimits;
+
+    @Value("${app.logging.rate-limit.level-sample-rates:}")
+    private String[] levelSampleRates;
+
+    @Bean(destroyMethod = "stop")
+    public RateLimitingTurboFilter rateLimitingTurboFilter() {
+        LoggerContext context = LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext
+                ? loggerContext : null;
+        RateLimitingTurboFilter filter = new RateLimitingTurboFilter();
+        // 설정 경고가 logback 상태 메시지로 남도록 컨텍스트를 먼저 지정
+        filter.setContext(context);
+        filter.setName("RATE_LIMIT");
+        filter.setDefaultEventsPerSecond(defaultEventsPerSecond);
+        filter.setBurst(burst);
+        filter.setMaxLevel(maxLevel);
+        for (String entry : loggerLimits) {
+            int separator = entry.lastIndexOf('=');
+            if (separator > 0) {
+                filter.setLoggerEventsPerSecond(entry.substring(0, separator).trim(),
+                        Double.parseDouble(entry.substring(separator + 1).trim()));
+            }
+        }
+        for (String entry : levelSampleRates) {
+            int separator = entry.lastIndexOf('=');
+            if (separator > 0) {
+                filter.setSampleRate(entry.substring(0, separator).trim(),
+                        Double.parseDouble(entry.substring(separator + 1).trim()));
+            }
+        }
+
+        if (context != null) {
+            filter.start();
+            context.addTurboFilter(filter);
+        }
+        return filter;
+    }
+}
@@ -1,101 +1,90 @@
 package com.example.logging.config;
 
+import com.example.logging.filter.RequestObservation;
+import com.example.logging.filter.RequestObservationListener;
+import com.example.logging.sampling.RequestLogSampler;
+import com.example.logging.trace.TraceContext;
+import com.example.logging.trace.TraceIdGenerator;
+import com.example.logging.util.StructuredLog;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
-import net.logstash.logback.argument.StructuredArguments;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.HandlerInterceptor;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * HTTP 요청/응답 로깅 인터셉터
  * 통합 로그 포맷에 맞춰 HTTP 로그를 생성합니다.
+ * RequestObservationFilter의 리스너로 동작하므로 필터 단계의 로그에도 trace_id가 남고,
+ * 처리 시간은 필터가 측정한 값을 사용합니다. MDC 정리는 필터가 담당합니다.
+ * 기록 여부는 RequestLogSampler가 결정하며, 실패/느린 요청/5xx는 항상 기록합니다.
  */
 @Component
-public class LoggingInterceptor implements HandlerInterceptor {
+public class LoggingInterceptor implements RequestObservationListener {
 
     private static final Logger logger = LoggerFactory.getLogger(LoggingInterceptor.class);
-    private static final String START_TIME_ATTRIBUTE = "startTime";
     private static final String TRACE_ID = "trace_id";
     private static final String SPAN_ID = "span_id";
     private static final String REQUEST_ID = "request_id";
 
-    @Override
-    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        // 요청 시작 시간 저장
-        request.setAttribute(START_TIME_ATTRIBUTE, System.currentTimeMillis());
-
-        // Trace ID 생성 또는 헤더에서 가져오기
-        String traceId = request.getHeader("X-Trace-Id");
-        if (traceId == null || traceId.isEmpty()) {
-            traceId = UUID.randomUUID().toString();
-        }
+    private final TraceIdGenerator traceIdGenerator;
+    private final RequestLogSampler sampler;
 
-        String spanId = UUID.randomUUID().toString();
-        String requestId = UUID.randomUUID().toString();
+    public LoggingInterceptor(TraceIdGenerator traceIdGenerator, RequestLogSampler sampler) {
+        this.traceIdGenerator = traceIdGenerator;
+        this.sampler = sampler;
+    }
 
-        // MDC에 컨텍스트 정보 저장
-        MDC.put(TRACE_ID, traceId);
-        MDC.put(SPAN_ID, spanId);
-        MDC.put(REQUEST_ID, requestId);
+    @Override
+    public void onRequestStarted(RequestObservation observation) {
+        HttpServletRequest request = observation.getRequest();
 
-        // 요청 시작 로그
-        Map<String, Object> httpData = new HashMap<>();
-        httpData.put("method", request.getMethod());
-        httpData.put("path", request.getRequestURI());
-        httpData.put("client_ip", getClientIp(request));
-        httpData.put("user_agent", request.getHeader("User-Agent"));
+        // Trace ID 생성 또는 헤더(traceparent, X-Trace-Id)에서 가져오기
+        TraceContext traceContext = TraceContext.resolve(
+            request.getHeader(TraceContext.TRACEPARENT_HEADER),
+            request.getHeader(TraceContext.TRACE_ID_HEADER),
+            traceIdGenerator);
 
-        logger.info("HTTP request started",
-            StructuredArguments.keyValue("http", httpData)
-        );
+        // MDC에 컨텍스트 정보 저장
+        MDC.put(TRACE_ID, traceContext.getTraceId());
+        MDC.put(SPAN_ID, traceContext.getSpanId());
+        MDC.put(REQUEST_ID, traceContext.getRequestId());
 
-        return true;
+        // 요청 시작 로그 (샘플링 대상 경로는 완료 시점에만 결정)
+        if (!sampler.shouldLogStart(request.getRequestURI())) {
+            return;
+        }
+        StructuredLog.info(logger)
+            .http(request.getMethod(), request.getRequestURI(), getClientIp(request), request.getHeader("User-Agent"))
+            .log("HTTP request started");
     }
 
     @Override
-    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
-                                Object handler, Exception ex) {
-        try {
-            // 요청 처리 시간 계산
-            Long startTime = (Long) request.getAttribute(START_TIME_ATTRIBUTE);
-            long durationMs = System.currentTimeMillis() - startTime;
-
-            // HTTP 로그 데이터 생성
-            Map<String, Object> httpData = new HashMap<>();
-            httpData.put("method", request.getMethod());
-            httpData.put("path", request.getRequestURI());
-            httpData.put("status_code", response.getStatus());
-            httpData.put("duration_ms", durationMs);
-            httpData.put("client_ip", getClientIp(request));
-            httpData.put("user_agent", request.getHeader("User-Agent"));
-
-            if (ex != null) {
-                // 에러 발생 시
-                Map<String, Object> errorData = new HashMap<>();
-                errorData.put("type", ex.getClass().getSimpleName());
-                errorData.put("message", ex.getMessage());
+    public void onRequestCompleted(RequestObservation observation) {
+        HttpServletRequest request = observation.getRequest();
+        Throwable ex = observation.getFailure();
+        if (!sampler.shouldLogCompletion(observation.getRouteTemplate(), observation.getStatus(),
+                observation.getDurationNanos(), ex)) {
+            return;
+        }
 
-                logger.error("HTTP request failed",
-                    StructuredArguments.keyValue("http", httpData),
-                    StructuredArguments.keyValue("error", errorData),
-                    ex
-                );
-            } else {
-                // 정상 처리
-                logger.info("HTTP request completed",
-                    StructuredArguments.keyValue("http", httpData)
-                );
-            }
-        } finally {
-            // MDC 클리어
-            MDC.clear();
+        if (ex != null) {
+            // 에러 발생 시
+            StructuredLog.error(logger)
+                .http(request.getMethod(), request.getRequestURI(), observation.getStatus(),
+                    TimeUnit.NANOSECONDS.toMillis(observation.getDurationNanos()),
+                    getClientIp(request), request.getHeader("User-Agent"))
+                .errorSummary(ex)
+                .log("HTTP request failed");
+        } else {
+            // 정상 처리
+            StructuredLog.info(logger)
+                .http(request.getMethod(), request.getRequestURI(), observation.getStatus(),
+                    TimeUnit.NANOSECONDS.toMillis(observation.getDurationNanos()),
+                    getClientIp(request), request.getHeader("User-Agent"))
+                .log("HTTP request completed");
         }
     }
 
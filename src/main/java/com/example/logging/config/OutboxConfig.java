@@ -0,0 +1,34 @@
+package com.example.logging.config;
+
+import com.example.logging.outbox.LoggingOutboxSink;
+import com.example.logging.outbox.OutboxEventSink;
+import com.example.logging.outbox.RedisStreamOutboxSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * outbox 이벤트 발행 대상 설정
+ * redis: Redis Stream(XADD) (기본), log: 로그로만 기록
+ */
+@Configuration
+public class OutboxConfig {
+
+    @Value("${app.outbox.sink:redis}")
+    private String sinkType;
+
+    @Value("${app.outbox.stream-key:events:orders}")
+    private String streamKey;
+
+    @Value("${app.outbox.stream-max-length:100000}")
+    private long streamMaxLength;
+
+    @Bean
+    public OutboxEventSink outboxEventSink(RedisTemplate<String, Object> redisTemplate) {
+        if ("log".equalsIgnoreCase(sinkType)) {
+            return new LoggingOutboxSink();
+        }
+        return new RedisStreamOutboxSink(redisTemplate, streamKey, streamMaxLength);
+    }
+}
@@ -1,21 +1,62 @@
 package com.example.logging.config;
 
+import com.example.logging.cache.CoalescingCacheManager;
+import com.example.logging.cache.CompactRedisSerializer;
+import com.example.logging.cache.EntityCodecs;
+import com.example.logging.cache.RedisBatchCache;
+import com.example.logging.cache.RedisNearCacheInvalidator;
+import com.example.logging.cache.RefreshPolicy;
+import com.example.logging.cache.TwoLevelCacheManager;
+import com.example.logging.config.AppConstants.CacheNames;
+import com.example.logging.security.InMemoryTokenRevocationStore;
+import com.example.logging.security.RedisTokenRevocationStore;
+import com.example.logging.security.TokenRevocationStore;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.binder.commonspool2.CommonsObjectPool2Metrics;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesBuilderCustomizer;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Redis 설정
@@ -23,7 +64,9 @@ import java.time.Duration;
  */
 @Configuration
 @EnableCaching
-public class RedisConfig {
+public class RedisConfig implements CachingConfigurer {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisConfig.class);
 
     @Value("${spring.data.redis.host:localhost}")
     private String redisHost;
@@ -37,37 +80,149 @@ public class RedisConfig {
     @Value("${spring.data.redis.database:0}")
     private int redisDatabase;
 
+    @Value("${app.redis.command-timeout-ms:" + AppConstants.Timeouts.REDIS_OPERATION + "}")
+    private long commandTimeoutMs;
+
+    @Value("${app.redis.slow-command-timeout-ms:10000}")
+    private long slowCommandTimeoutMs;
+
+    @Value("${app.redis.connect-timeout-ms:1000}")
+    private long connectTimeoutMs;
+
+    @Value("${app.redis.io-threads:0}")
+    private int ioThreads;
+
+    @Value("${app.redis.computation-threads:0}")
+    private int computationThreads;
+
+    @Value("${app.redis.share-native-connection:true}")
+    private boolean shareNativeConnection;
+
+    @Value("${app.redis.pool.max-active:16}")
+    private int poolMaxActive;
+
+    @Value("${app.redis.pool.max-idle:8}")
+    private int poolMaxIdle;
+
+    @Value("${app.redis.pool.min-idle:0}")
+    private int poolMinIdle;
+
+    @Value("${app.redis.pool.max-wait-ms:500}")
+    private long poolMaxWaitMs;
+
+    @Value("${app.redis.replicas:}")
+    private String[] replicaNodes;
+
+    @Value("${app.redis.read-from:upstream}")
+    private String readFrom;
+
+    @Value("${app.cache.near.max-entries:1000}")
+    private long nearCacheMaxEntries;
+
+    @Value("${app.cache.near.ttl-seconds:30}")
+    private long nearCacheTtlSeconds;
+
+    @Value("${jwt.revocation.store:redis}")
+    private String revocationStoreType;
+
+    @Value("${app.cache.redis.serializer:compact}")
+    private String valueSerializerType;
+
+    @Value("${app.cache.redis.compression-threshold-bytes:512}")
+    private int compressionThresholdBytes;
+
+    @Value("${app.cache.redis.coalesce-window-micros:0}")
+    private long coalesceWindowMicros;
+
+    @Value("${app.cache.redis.batch-max-size:100}")
+    private int batchMaxSize;
+
+    @Value("${app.cache.near.stale-seconds:10}")
+    private long nearCacheStaleSeconds;
+
+    @Value("${app.cache.near.early-refresh-beta:1.0}")
+    private double nearCacheEarlyRefreshBeta;
+
     /**
      * Redis 연결 팩토리 설정
+     * - 일반 명령은 공유 네이티브 연결(파이프라인 멀티플렉싱), 블로킹/트랜잭션 명령은 연결 풀 사용
+     *   (share-native-connection=false면 모든 명령이 풀 사용)
+     * - 명령별 타임아웃: 기본은 AppConstants.Timeouts.REDIS_OPERATION, KEYS/SCAN 등은 slow-command-timeout
+     * - 연결이 끊긴 동안의 명령은 버퍼링하지 않고 즉시 실패시켜 요청 스레드가 묶이지 않게 함
+     * - app.redis.replicas 지정 시 master/replica 구성으로 read-from 정책 적용
+     * ClientResources는 Spring Boot 빈(명령 지연 Micrometer 기록 포함)을 공유합니다.
      */
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
-        config.setHostName(redisHost);
-        config.setPort(redisPort);
-        config.setDatabase(redisDatabase);
+    public RedisConnectionFactory redisConnectionFactory(ClientResources clientResources) {
+        GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(poolMaxActive);
+        poolConfig.setMaxIdle(poolMaxIdle);
+        poolConfig.setMinIdle(poolMinIdle);
+        poolConfig.setMaxWait(Duration.ofMillis(poolMaxWaitMs));
+        poolConfig.setJmxNamePrefix("redis-pool");
 
-        if (redisPassword != null && !redisPassword.isEmpty()) {
-            config.setPassword(redisPassword);
+        ClientOptions clientOptions = ClientOptions.builder()
+                .socketOptions(SocketOptions.builder().connectTimeout(Duration.ofMillis(connectTimeoutMs)).build())
+                .timeoutOptions(TimeoutOptions.builder()
+                        .timeoutSource(new CommandTimeoutSource(commandTimeoutMs, slowCommandTimeoutMs))
+                        .build())
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .build();
+
+        LettucePoolingClientConfiguration.LettucePoolingClientConfigurationBuilder clientConfig =
+                LettucePoolingClientConfiguration.builder()
+                        .clientResources(clientResources)
+                        .clientOptions(clientOptions)
+                        // 명령별 타임아웃은 Lettuce가 적용하고, 동기 대기 상한은 가장 긴 타임아웃으로 둠
+                        .commandTimeout(Duration.ofMillis(Math.max(commandTimeoutMs, slowCommandTimeoutMs)))
+                        .poolConfig(poolConfig);
+        if (replicaNodes.length > 0) {
+            // read-from은 master/replica 구성에서만 적용 (단독 서버에 지정하면 토폴로지 조회가 붙은 master/replica 연결로 바뀜)
+            clientConfig.readFrom(ReadFrom.valueOf(readFrom));
         }
 
-        return new LettuceConnectionFactory(config);
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(redisConfiguration(), clientConfig.build());
+        factory.setShareNativeConnection(shareNativeConnection);
+        return factory;
+    }
+
+    /**
+     * Lettuce I/O, computation 스레드 수 (0이면 Lettuce 기본값: CPU 코어 수)
+     */
+    @Bean
+    public ClientResourcesBuilderCustomizer redisClientResourcesCustomizer() {
+        return builder -> {
+            if (ioThreads > 0) {
+                builder.ioThreadPoolSize(ioThreads);
+            }
+            if (computationThreads > 0) {
+                builder.computationThreadPoolSize(computationThreads);
+            }
+        };
+    }
+
+    /**
+     * Redis 연결 풀 메트릭 (commons.pool2.* - 활성/유휴 연결 수, 대기 시간 등)
+     */
+    @Bean
+    public CommonsObjectPool2Metrics redisPoolMetrics() {
+        return new CommonsObjectPool2Metrics();
     }
 
     /**
      * RedisTemplate 설정
      */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate() {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
-        template.setConnectionFactory(redisConnectionFactory());
+        template.setConnectionFactory(connectionFactory);
 
         // Key Serializer
         template.setKeySerializer(new StringRedisSerializer());
         template.setHashKeySerializer(new StringRedisSerializer());
 
         // Value Serializer
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+        RedisSerializer<Object> serializer = valueSerializer();
         template.setValueSerializer(serializer);
         template.setHashValueSerializer(serializer);
 
@@ -77,9 +232,145 @@ public class RedisConfig {
 
     /**
      * 캐시 매니저 설정
+     * Redis 캐시 앞에 노드별 L1 캐시를 두고, 변경 시 pub/sub으로 다른 노드의 L1을 무효화합니다.
+     * 동기 조회(@Cacheable(sync = true))는 키별 single-flight로 로딩되고, L1 만료 전후로 백그라운드 갱신됩니다.
+     */
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     RedisNearCacheInvalidator nearCacheInvalidator,
+                                     RedisBatchCache redisBatchCache) {
+        RefreshPolicy refreshPolicy = new RefreshPolicy(Duration.ofSeconds(nearCacheStaleSeconds),
+                nearCacheEarlyRefreshBeta, RefreshPolicy.newExecutor("near-cache-refresh-", 2, 1000));
+        Duration nearCacheTtl = Duration.ofSeconds(nearCacheTtlSeconds);
+        CacheManager remoteCacheManager = redisCacheManager(connectionFactory);
+        if (redisBatchCache.isCoalescing()) {
+            // L1 미스로 인한 Redis 단건 조회를 MGET으로 병합
+            remoteCacheManager = new CoalescingCacheManager(remoteCacheManager, redisBatchCache);
+        }
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(remoteCacheManager,
+                nearCacheMaxEntries, nearCacheTtl, nearCacheInvalidator, refreshPolicy);
+        // L1 TTL은 Redis TTL을 넘지 않도록 제한
+        cacheTtls().forEach((cacheName, ttl) ->
+                cacheManager.setLocalTtl(cacheName, ttl.compareTo(nearCacheTtl) < 0 ? ttl : nearCacheTtl));
+        return cacheManager;
+    }
+
+    /**
+     * Redis 다건 조회/저장/삭제 (MGET, 파이프라인, 요청 병합)
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public RedisBatchCache redisBatchCache(RedisTemplate<String, Object> redisTemplate) {
+        if (coalesceWindowMicros <= 0) {
+            return new RedisBatchCache(redisTemplate);
+        }
+        return new RedisBatchCache(redisTemplate, Duration.ofNanos(coalesceWindowMicros * 1000), batchMaxSize,
+                RefreshPolicy.newExecutor("redis-coalescer-", 1, 10_000));
+    }
+
+    /**
+     * 캐시 오류 처리: Redis 장애 시 경고 로그만 남기고 원본(DB) 조회로 진행
+     */
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new LoggingCacheErrorHandler();
+    }
+
+    /**
+     * JWT 폐기 목록 저장소
+     * redis: 노드 간 공유 (기본), memory: 단일 노드용
+     */
+    @Bean
+    public TokenRevocationStore tokenRevocationStore(RedisTemplate<String, Object> redisTemplate) {
+        if ("memory".equalsIgnoreCase(revocationStoreType)) {
+            return new InMemoryTokenRevocationStore();
+        }
+        return new RedisTokenRevocationStore(redisTemplate);
+    }
+
+    /**
+     * L1 캐시 무효화 메시지 발행/수신
+     */
+    @Bean
+    public RedisNearCacheInvalidator nearCacheInvalidator(RedisConnectionFactory connectionFactory) {
+        return new RedisNearCacheInvalidator(new StringRedisTemplate(connectionFactory),
+                RedisNearCacheInvalidator.DEFAULT_CHANNEL);
+    }
+
+    /**
+     * L1 캐시 무효화 채널 구독
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       RedisNearCacheInvalidator nearCacheInvalidator) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer() {
+            @Override
+            public void start() {
+                // Redis 없이도 기동되도록 구독 실패는 경고만 남김 (백그라운드 재시도, 그동안은 L1 TTL로 정합성 보장)
+                try {
+                    super.start();
+                } catch (RuntimeException ex) {
+                    RedisConfig.logger.warn("L1 캐시 무효화 채널 구독 실패, 재시도 예정: {}", ex.getMessage());
+                }
+            }
+        };
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(nearCacheInvalidator, new ChannelTopic(nearCacheInvalidator.getChannel()));
+        return container;
+    }
+
+    /**
+     * 단독 서버 또는 (replicas 지정 시) master/replica 구성
+     */
+    private RedisConfiguration redisConfiguration() {
+        if (replicaNodes.length == 0) {
+            RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
+            config.setHostName(redisHost);
+            config.setPort(redisPort);
+            config.setDatabase(redisDatabase);
+            if (redisPassword != null && !redisPassword.isEmpty()) {
+                config.setPassword(redisPassword);
+            }
+            return config;
+        }
+
+        RedisStaticMasterReplicaConfiguration config = new RedisStaticMasterReplicaConfiguration(redisHost, redisPort);
+        for (String node : replicaNodes) {
+            int separator = node.lastIndexOf(':');
+            config.addNode(node.substring(0, separator).trim(), Integer.parseInt(node.substring(separator + 1).trim()));
+        }
+        config.setDatabase(redisDatabase);
+        if (redisPassword != null && !redisPassword.isEmpty()) {
+            config.setPassword(redisPassword);
+        }
+        return config;
+    }
+
+    /**
+     * Redis 값 직렬화
+     * compact: 바이너리 형식 (기존 JSON 값도 읽을 수 있음), json: 기존 GenericJackson2Json 형식
+     */
+    private RedisSerializer<Object> valueSerializer() {
+        if ("json".equalsIgnoreCase(valueSerializerType)) {
+            return new GenericJackson2JsonRedisSerializer();
+        }
+        return EntityCodecs.registerAll(new CompactRedisSerializer(compressionThresholdBytes));
+    }
+
+    /**
+     * 캐시별 TTL (AppConstants.CacheTTL)
+     */
+    private static Map<String, Duration> cacheTtls() {
+        return Map.of(
+                CacheNames.USERS, Duration.ofSeconds(AppConstants.CacheTTL.USER_DATA),
+                CacheNames.PRODUCTS, Duration.ofSeconds(AppConstants.CacheTTL.PRODUCT),
+                CacheNames.PRODUCT_LIST, Duration.ofSeconds(AppConstants.CacheTTL.PRODUCT_LIST)
+        );
+    }
+
+    /**
+     * L2 Redis 캐시 매니저
+     */
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(10)) // 기본 TTL: 10분
                 .disableCachingNullValues()
@@ -89,13 +380,56 @@ public class RedisConfig {
                         )
                 )
                 .serializeValuesWith(
-                        RedisSerializationContext.SerializationPair.fromSerializer(
-                                new GenericJackson2JsonRedisSerializer()
-                        )
+                        RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer())
                 );
 
-        return RedisCacheManager.builder(connectionFactory)
+        Map<String, RedisCacheConfiguration> cacheConfigs = new HashMap<>();
+        cacheTtls().forEach((cacheName, ttl) -> cacheConfigs.put(cacheName, config.entryTtl(ttl)));
+
+        // clear(@CacheEvict(allEntries = true), 벌크 쓰기 후 무효화)는 KEYS 대신 SCAN으로 나눠 삭제
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(
+                connectionFactory, BatchStrategies.scan(1000));
+        RedisCacheManager cacheManager = RedisCacheManager.builder(cacheWriter)
                 .cacheDefaults(config)
+                .withInitialCacheConfigurations(cacheConfigs)
                 .build();
+        cacheManager.afterPropertiesSet();
+        return cacheManager;
+    }
+
+    /**
+     * 명령 종류별 타임아웃
+     * 블로킹 명령은 명령 자체의 BLOCK/timeout 인자를 따르도록 타임아웃을 두지 않습니다.
+     */
+    static final class CommandTimeoutSource extends TimeoutOptions.TimeoutSource {
+
+        private static final Set<ProtocolKeyword> SLOW_COMMANDS = Set.of(
+                CommandType.KEYS, CommandType.SCAN, CommandType.FLUSHDB, CommandType.FLUSHALL,
+                CommandType.EVAL, CommandType.EVALSHA);
+        private static final Set<ProtocolKeyword> BLOCKING_COMMANDS = Set.of(
+                CommandType.BLPOP, CommandType.BRPOP, CommandType.BRPOPLPUSH, CommandType.BLMOVE,
+                CommandType.BZPOPMIN, CommandType.BZPOPMAX, CommandType.XREAD, CommandType.XREADGROUP);
+
+        private final long defaultTimeoutMs;
+        private final long slowTimeoutMs;
+
+        CommandTimeoutSource(long defaultTimeoutMs, long slowTimeoutMs) {
+            this.defaultTimeoutMs = defaultTimeoutMs;
+            this.slowTimeoutMs = slowTimeoutMs;
+        }
+
+        @Override
+        public long getTimeout(RedisCommand<?, ?, ?> command) {
+            ProtocolKeyword type = command.getType();
+            if (BLOCKING_COMMANDS.contains(type)) {
+                return 0;
+            }
+            return SLOW_COMMANDS.contains(type) ? slowTimeoutMs : defaultTimeoutMs;
+        }
+
+        @Override
+        public TimeUnit getTimeUnit() {
+            return TimeUnit.MILLISECONDS;
+        }
     }
 }
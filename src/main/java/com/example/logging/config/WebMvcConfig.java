@@ -1,26 +0,0 @@
-package com.example.logging.config;
-
-import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-
-/**
- * Web MVC 설정
- * 로깅 인터셉터를 등록합니다.
- */
-@Configuration
-public class WebMvcConfig implements WebMvcConfigurer {
-
-    private final LoggingInterceptor loggingInterceptor;
-
-    public WebMvcConfig(LoggingInterceptor loggingInterceptor) {
-        this.loggingInterceptor = loggingInterceptor;
-    }
-
-    @Override
-    public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(loggingInterceptor)
-            .addPathPatterns("/**")
-            .excludePathPatterns("/actuator/**");  // actuator 엔드포인트는 제외
-    }
-}
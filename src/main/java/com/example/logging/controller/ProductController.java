@@ -1,37 +1,168 @@
 package com.example.logging.controller;
 
+import com.example.logging.config.AppConstants;
+import com.example.logging.dto.OrderPlacedEvent;
+import com.example.logging.dto.ProductCursor;
+import com.example.logging.dto.ProductSort;
+import com.example.logging.dto.ProductView;
 import com.example.logging.entity.Product;
-import com.example.logging.repository.ProductRepository;
+import com.example.logging.service.BulkWriteService;
+import com.example.logging.service.InventoryService;
+import com.example.logging.service.OrderService;
+import com.example.logging.service.ProductService;
 import com.example.logging.util.LoggerUtil;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/products")
 public class ProductController {
 
     private static final Logger logger = LoggerFactory.getLogger(ProductController.class);
-    private final ProductRepository productRepository;
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
 
-    public ProductController(ProductRepository productRepository) {
-        this.productRepository = productRepository;
+    private final ProductService productService;
+    private final BulkWriteService bulkWriteService;
+    private final InventoryService inventoryService;
+    private final OrderService orderService;
+    /** NDJSON 한 줄씩 기록 (행마다 flush하지 않고 응답 버퍼가 찰 때 전송) */
+    private final ObjectWriter ndjsonWriter;
+
+    public ProductController(ProductService productService, BulkWriteService bulkWriteService,
+                             InventoryService inventoryService, OrderService orderService,
+                             ObjectMapper objectMapper) {
+        this.productService = productService;
+        this.bulkWriteService = bulkWriteService;
+        this.inventoryService = inventoryService;
+        this.orderService = orderService;
+        this.ndjsonWriter = objectMapper.writerFor(ProductView.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n");
     }
 
+    /**
+     * 상품 목록 (keyset 페이지네이션)
+     * 예: /api/products?sort=-price&size=20, 다음 페이지는 응답의 nextCursor를 cursor로 전달
+     * sort: id(기본), -id, price, -price
+     */
     @GetMapping
-    public List<Product> getAllProducts() {
-        return productRepository.findAll();
+    public ResponseEntity<?> getProducts(@RequestParam(defaultValue = "id") String sort,
+                                         @RequestParam(required = false) String cursor,
+                                         @RequestParam(defaultValue = "" + AppConstants.Pagination.DEFAULT_PAGE_SIZE) int size) {
+        ProductSort productSort = ProductSort.fromParam(sort);
+        if (productSort == null) {
+            return ResponseEntity.badRequest().body("Unknown sort: " + sort);
+        }
+        if (size < 1 || size > AppConstants.Pagination.MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest()
+                    .body("size must be between 1 and " + AppConstants.Pagination.MAX_PAGE_SIZE);
+        }
+        ProductCursor position = null;
+        if (cursor != null) {
+            position = ProductCursor.decode(cursor, productSort);
+            if (position == null) {
+                return ResponseEntity.badRequest().body("Invalid cursor for sort " + sort);
+            }
+        }
+        return ResponseEntity.ok(productService.findPage(productSort, position, size));
+    }
+
+    /**
+     * 전체 상품 스트리밍 (NDJSON, 한 줄에 상품 하나)
+     * DB 커서에서 읽은 행을 바로 응답에 쓰므로 상품 수와 관계없이 메모리 사용량이 일정합니다.
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<?> streamProducts(@RequestParam(defaultValue = "id") String sort) {
+        ProductSort productSort = ProductSort.fromParam(sort);
+        if (productSort == null) {
+            return ResponseEntity.badRequest().body("Unknown sort: " + sort);
+        }
+        StreamingResponseBody body = out -> {
+            long count;
+            try (SequenceWriter sequence = ndjsonWriter.writeValues(out)) {
+                count = productService.streamAll(productSort, product -> {
+                    try {
+                        sequence.write(product);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            if (count > 0) {
+                out.write('\n');
+            }
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    /**
+     * 상품 다건 조회 (예: /api/products/batch?ids=1,2,3)
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<?> getProductsByIds(@RequestParam List<Long> ids) {
+        if (ids.size() > AppConstants.Validation.BATCH_MAX_SIZE) {
+            return ResponseEntity.badRequest()
+                    .body("At most " + AppConstants.Validation.BATCH_MAX_SIZE + " ids are allowed");
+        }
+        return ResponseEntity.ok(productService.findAllById(ids));
+    }
+
+    /**
+     * 상품 대량 등록 (JSON 배열, 최대 BULK_MAX_SIZE건), 결과는 항목별 상태
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<?> createProducts(@RequestBody List<ProductView> products) {
+        if (products.size() > AppConstants.Validation.BULK_MAX_SIZE) {
+            return bulkTooLarge();
+        }
+        return ResponseEntity.ok(bulkWriteService.createProducts(products));
+    }
+
+    /**
+     * 상품 대량 수정 (각 항목에 id 필수)
+     */
+    @PutMapping("/batch")
+    public ResponseEntity<?> updateProducts(@RequestBody List<ProductView> products) {
+        if (products.size() > AppConstants.Validation.BULK_MAX_SIZE) {
+            return bulkTooLarge();
+        }
+        return ResponseEntity.ok(bulkWriteService.updateProducts(products));
+    }
+
+    /**
+     * 상품 대량 삭제 (id JSON 배열)
+     */
+    @DeleteMapping("/batch")
+    public ResponseEntity<?> deleteProducts(@RequestBody List<Long> ids) {
+        if (ids.size() > AppConstants.Validation.BULK_MAX_SIZE) {
+            return bulkTooLarge();
+        }
+        return ResponseEntity.ok(bulkWriteService.deleteProducts(ids));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<?> getProductById(@PathVariable Long id) {
-        return productRepository.findById(id)
+        return productService.findById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -45,32 +176,29 @@ public class ProductController {
             LoggerUtil.logError(logger, "Invalid price for product", new IllegalArgumentException("Price cannot be negative"), context);
             return ResponseEntity.badRequest().body("Price cannot be negative");
         }
-        Product savedProduct = productRepository.save(product);
+        Product savedProduct = productService.create(product);
         return ResponseEntity.status(HttpStatus.CREATED).body(savedProduct);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<Product> updateProduct(@PathVariable Long id, @RequestBody Product productDetails) {
-        return productRepository.findById(id)
-                .map(product -> {
-                    product.setName(productDetails.getName());
-                    product.setDescription(productDetails.getDescription());
-                    product.setPrice(productDetails.getPrice());
-                    return ResponseEntity.ok(productRepository.save(product));
-                })
+        return productService.update(id, productDetails)
+                .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteProduct(@PathVariable Long id) {
-        return productRepository.findById(id)
-                .map(product -> {
-                    productRepository.delete(product);
-                    return ResponseEntity.ok().build();
-                })
-                .orElse(ResponseEntity.notFound().build());
+        if (!productService.delete(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok().build();
     }
 
+    /**
+     * 상품 주문. 가격은 상품 캐시에서 읽고, 재고 차감과 주문 이벤트(outbox) 저장을 한 트랜잭션으로 처리합니다.
+     * 재고가 부족하면 409
+     */
     @PostMapping("/{id}/order")
     public ResponseEntity<?> orderProduct(@PathVariable Long id, @RequestBody Map<String, Integer> orderRequest) {
         long startTime = System.currentTimeMillis();
@@ -80,20 +208,48 @@ public class ProductController {
             return ResponseEntity.badRequest().body("Quantity must be positive");
         }
 
-        return productRepository.findById(id)
-                .map(product -> {
-                    double totalPrice = product.getPrice() * quantity;
-                    Map<String, Object> logData = new HashMap<>();
-                    logData.put("product_id", id);
-                    logData.put("product_name", product.getName());
-                    logData.put("quantity", quantity);
-                    logData.put("total_price", totalPrice);
-                    logData.put("duration_ms", System.currentTimeMillis() - startTime);
+        Optional<Product> found = productService.findById(id);
+        if (found.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        Product product = found.get();
+        Optional<OrderPlacedEvent> order = orderService.placeOrder(product, quantity);
+        if (order.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Insufficient stock");
+        }
 
-                    LoggerUtil.logInfo(logger, "Product ordered successfully", logData);
+        double totalPrice = order.get().totalPrice();
+        Map<String, Object> logData = new HashMap<>();
+        logData.put("order_id", order.get().orderId());
+        logData.put("product_id", id);
+        logData.put("product_name", product.getName());
+        logData.put("quantity", quantity);
+        logData.put("total_price", totalPrice);
+        logData.put("duration_ms", System.currentTimeMillis() - startTime);
 
-                    return ResponseEntity.ok(Map.of("message", "Order successful", "totalPrice", totalPrice));
-                })
-                .orElse(ResponseEntity.notFound().build());
+        LoggerUtil.logInfo(logger, "Product ordered successfully", logData);
+
+        return ResponseEntity.ok(Map.of("message", "Order successful", "orderId", order.get().orderId(),
+                "totalPrice", totalPrice));
+    }
+
+    /**
+     * 재고 입고 (예: {"quantity": 100})
+     */
+    @PostMapping("/{id}/stock")
+    public ResponseEntity<?> restockProduct(@PathVariable Long id, @RequestBody Map<String, Integer> stockRequest) {
+        Integer quantity = stockRequest.get("quantity");
+        if (quantity == null || quantity <= 0) {
+            return ResponseEntity.badRequest().body("Quantity must be positive");
+        }
+        if (!inventoryService.restock(id, quantity)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    private static ResponseEntity<?> bulkTooLarge() {
+        return ResponseEntity.badRequest()
+                .body("At most " + AppConstants.Validation.BULK_MAX_SIZE + " items are allowed");
     }
 }
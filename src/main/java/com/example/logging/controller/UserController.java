@@ -1,7 +1,11 @@
 package com.example.logging.controller;
 
+import com.example.logging.config.AppConstants;
+import com.example.logging.dto.UserView;
 import com.example.logging.entity.User;
 import com.example.logging.repository.UserRepository;
+import com.example.logging.service.BulkWriteService;
+import com.example.logging.service.UserService;
 import com.example.logging.util.LoggerUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -22,9 +27,14 @@ public class UserController {
 
     private static final Logger logger = LoggerFactory.getLogger(UserController.class);
     private final UserRepository userRepository;
+    private final UserService userService;
+    private final BulkWriteService bulkWriteService;
 
-    public UserController(UserRepository userRepository) {
+    public UserController(UserRepository userRepository, UserService userService,
+                          BulkWriteService bulkWriteService) {
         this.userRepository = userRepository;
+        this.userService = userService;
+        this.bulkWriteService = bulkWriteService;
     }
 
     @GetMapping("/")
@@ -38,6 +48,19 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 사용자 목록 (예: /api/users?after=100&size=50, 다음 페이지는 응답의 nextAfter를 after로 전달)
+     */
+    @GetMapping("/users")
+    public ResponseEntity<?> getUsers(@RequestParam(defaultValue = "0") long after,
+                                      @RequestParam(defaultValue = "" + AppConstants.Pagination.DEFAULT_PAGE_SIZE) int size) {
+        if (size < 1 || size > AppConstants.Pagination.MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", "size must be between 1 and " + AppConstants.Pagination.MAX_PAGE_SIZE));
+        }
+        return ResponseEntity.ok(userService.findPage(after, size));
+    }
+
     @GetMapping("/users/{id}")
     public ResponseEntity<?> getUser(@PathVariable Long id) {
         if (id == null || id <= 0) {
@@ -48,8 +71,8 @@ public class UserController {
         long startTime = System.currentTimeMillis();
 
         try {
-            // 사용자 조회
-            User user = userRepository.findById(id)
+            // 사용자 조회 (캐시 우선)
+            User user = userService.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
             long durationMs = System.currentTimeMillis() - startTime;
@@ -83,8 +106,7 @@ public class UserController {
             String name = userData.get("name");
             String email = userData.get("email");
 
-            User user = new User(name, email);
-            User savedUser = userRepository.save(user);
+            User savedUser = userService.create(name, email);
 
             long durationMs = System.currentTimeMillis() - startTime;
 
@@ -107,6 +129,44 @@ public class UserController {
         }
     }
 
+    /**
+     * 사용자 대량 등록 (JSON 배열, 최대 BULK_MAX_SIZE건), 결과는 항목별 상태
+     */
+    @PostMapping("/users/batch")
+    public ResponseEntity<?> createUsers(@RequestBody List<UserView> users) {
+        if (users.size() > AppConstants.Validation.BULK_MAX_SIZE) {
+            return bulkTooLarge();
+        }
+        return ResponseEntity.ok(bulkWriteService.createUsers(users));
+    }
+
+    /**
+     * 사용자 대량 수정 (각 항목에 id 필수)
+     */
+    @PutMapping("/users/batch")
+    public ResponseEntity<?> updateUsers(@RequestBody List<UserView> users) {
+        if (users.size() > AppConstants.Validation.BULK_MAX_SIZE) {
+            return bulkTooLarge();
+        }
+        return ResponseEntity.ok(bulkWriteService.updateUsers(users));
+    }
+
+    /**
+     * 사용자 대량 삭제 (id JSON 배열)
+     */
+    @DeleteMapping("/users/batch")
+    public ResponseEntity<?> deleteUsers(@RequestBody List<Long> ids) {
+        if (ids.size() > AppConstants.Validation.BULK_MAX_SIZE) {
+            return bulkTooLarge();
+        }
+        return ResponseEntity.ok(bulkWriteService.deleteUsers(ids));
+    }
+
+    private static ResponseEntity<?> bulkTooLarge() {
+        return ResponseEntity.badRequest()
+            .body(Map.of("error", "At most " + AppConstants.Validation.BULK_MAX_SIZE + " items are allowed"));
+    }
+
     @GetMapping("/error")
     public ResponseEntity<?> triggerError() {
         try {
@@ -164,7 +224,6 @@ public class UserController {
                 .body(Map.of("error", "Test failed"));
         }
     }
-}
 
     /**
      * DTO for user creation with validation
@@ -187,3 +246,4 @@ public class UserController {
             }
         }
     }
+}
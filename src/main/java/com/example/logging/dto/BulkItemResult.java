@@ -0,0 +1,30 @@
+package com.example.logging.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 대량 요청 항목별 처리 결과
+ * index는 요청 배열 위치이며, error는 실패한 항목에만 채웁니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkItemResult(int index, Long id, String status, String error) {
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+    public static final String NOT_FOUND = "not_found";
+    public static final String INVALID = "invalid";
+    public static final String FAILED = "failed";
+
+    public static BulkItemResult ok(int index, Long id, String status) {
+        return new BulkItemResult(index, id, status, null);
+    }
+
+    public static BulkItemResult error(int index, Long id, String status, String error) {
+        return new BulkItemResult(index, id, status, error);
+    }
+
+    public boolean succeeded() {
+        return CREATED.equals(status) || UPDATED.equals(status) || DELETED.equals(status);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.logging.dto;
+
+import java.util.List;
+
+/**
+ * 대량 등록/수정/삭제 결과 (items는 요청 순서)
+ */
+public record BulkResult(int total, int succeeded, int failed, List<BulkItemResult> items) {
+
+    public static BulkResult of(List<BulkItemResult> items) {
+        int succeeded = (int) items.stream().filter(BulkItemResult::succeeded).count();
+        return new BulkResult(items.size(), succeeded, items.size() - succeeded, items);
+    }
+
+    /** 해당 상태로 끝난 항목이 있는지 (캐시 무효화 판단용) */
+    public boolean any(String status) {
+        return items.stream().anyMatch(item -> status.equals(item.status()));
+    }
+}
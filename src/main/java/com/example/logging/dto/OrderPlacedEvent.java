@@ -0,0 +1,13 @@
+package com.example.logging.dto;
+
+import java.time.Instant;
+
+/**
+ * 주문 완료 이벤트 (outbox payload, 주문 응답)
+ */
+public record OrderPlacedEvent(String orderId, long productId, int quantity,
+                               double unitPrice, double totalPrice, Instant orderedAt) {
+
+    public static final String AGGREGATE_TYPE = "order";
+    public static final String EVENT_TYPE = "order.placed";
+}
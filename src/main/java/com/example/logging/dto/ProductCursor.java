@@ -0,0 +1,37 @@
+package com.example.logging.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 상품 목록 keyset 커서 (마지막으로 반환한 행의 정렬 키)
+ * 클라이언트에는 "정렬:가격:id"를 base64url로 인코딩한 불투명 문자열로 전달하며,
+ * 다른 정렬로 발급된 커서는 받지 않습니다.
+ */
+public record ProductCursor(ProductSort sort, double price, long id) {
+
+    public static ProductCursor after(ProductSort sort, ProductView last) {
+        return new ProductCursor(sort, last.price(), last.id());
+    }
+
+    public String encode() {
+        String raw = sort.getParam() + ":" + price + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석 (형식이 잘못됐거나 정렬이 다르면 null)
+     */
+    public static ProductCursor decode(String cursor, ProductSort sort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", -1);
+            if (parts.length != 3 || !sort.getParam().equals(parts[0])) {
+                return null;
+            }
+            return new ProductCursor(sort, Double.parseDouble(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.logging.dto;
+
+import java.util.List;
+
+/**
+ * 상품 목록 페이지
+ * nextCursor가 null이면 마지막 페이지입니다.
+ */
+public record ProductPage(List<ProductView> items, String nextCursor) {
+}
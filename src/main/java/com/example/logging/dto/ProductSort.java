@@ -0,0 +1,39 @@
+package com.example.logging.dto;
+
+/**
+ * 상품 목록 정렬 (sort 파라미터 값, "-" 접두사는 내림차순)
+ * 모든 정렬은 id를 마지막 기준으로 포함하므로 커서 위치가 항상 유일합니다.
+ */
+public enum ProductSort {
+
+    ID_ASC("id"),
+    ID_DESC("-id"),
+    PRICE_ASC("price"),
+    PRICE_DESC("-price");
+
+    private final String param;
+
+    ProductSort(String param) {
+        this.param = param;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public boolean isByPrice() {
+        return this == PRICE_ASC || this == PRICE_DESC;
+    }
+
+    /**
+     * 파라미터 값으로 조회 (알 수 없는 값이면 null)
+     */
+    public static ProductSort fromParam(String param) {
+        for (ProductSort sort : values()) {
+            if (sort.param.equals(param)) {
+                return sort;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.logging.dto;
+
+/**
+ * 상품 조회 응답 (JPQL 생성자 프로젝션)
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 컬럼 값만 읽으며, JSON 형태는 Product 엔티티와 같습니다.
+ */
+public record ProductView(Long id, String name, String description, double price) {
+}
@@ -0,0 +1,10 @@
+package com.example.logging.dto;
+
+import java.util.List;
+
+/**
+ * 사용자 목록 페이지 (id 오름차순)
+ * nextAfter가 null이면 마지막 페이지이며, 아니면 다음 요청의 after 값입니다.
+ */
+public record UserPage(List<UserView> items, Long nextAfter) {
+}
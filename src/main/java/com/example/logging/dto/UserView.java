@@ -0,0 +1,8 @@
+package com.example.logging.dto;
+
+/**
+ * 사용자 조회 응답 (JPQL 생성자 프로젝션)
+ * JSON 형태는 User 엔티티와 같습니다.
+ */
+public record UserView(Long id, String name, String email) {
+}
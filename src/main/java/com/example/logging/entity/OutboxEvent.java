@@ -0,0 +1,54 @@
+package com.example.logging.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 발행 대기 중인 도메인 이벤트 (transactional outbox)
+ * 주문과 같은 트랜잭션에서 저장하고, OutboxRelay가 발행한 뒤 삭제합니다.
+ * 발행 후 삭제 전에 실패하면 다시 발행될 수 있으므로 소비자는 id로 중복을 걸러야 합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "outbox_event")
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_event_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String aggregateType;
+
+    @Column(nullable = false, length = 64)
+    private String aggregateId;
+
+    @Column(nullable = false, length = 64)
+    private String eventType;
+
+    /** 이벤트 본문 (JSON) */
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    public OutboxEvent(String aggregateType, String aggregateId, String eventType, String payload) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = Instant.now();
+    }
+}
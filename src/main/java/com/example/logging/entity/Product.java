@@ -1,21 +1,30 @@
 package com.example.logging.entity;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
 @Setter
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_product_price_id", columnList = "price, id"))
 public class Product {
 
+    /** 시퀀스 + pooled 최적화(50개씩 미리 할당)로 IDENTITY와 달리 INSERT를 JDBC 배치로 묶을 수 있음 */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -24,6 +33,15 @@ public class Product {
 
     private double price;
 
+    /**
+     * 재고 수량. ProductStockRepository의 조건부 UPDATE로만 변경 (엔티티 저장 시 덮어쓰지 않음)
+     * 캐시된 엔티티의 값은 오래되었을 수 있으므로 응답에는 내보내지 않고 생성 요청에서만 받습니다.
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+    private int stock;
+
     public Product(String name, String description, double price) {
         this.name = name;
         this.description = description;
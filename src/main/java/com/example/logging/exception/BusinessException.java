@@ -1,22 +1,33 @@
 package com.example.logging.exception;
 
+import org.springframework.http.HttpStatus;
+
 /**
  * 비즈니스 로직 예외
  */
 public class BusinessException extends RuntimeException {
     private final String errorCode;
+    private final HttpStatus status;
 
     public BusinessException(String message) {
-        super(message);
-        this.errorCode = null;
+        this(message, null);
     }
 
     public BusinessException(String message, String errorCode) {
+        this(message, errorCode, HttpStatus.BAD_REQUEST);
+    }
+
+    public BusinessException(String message, String errorCode, HttpStatus status) {
         super(message);
         this.errorCode = errorCode;
+        this.status = status;
     }
 
     public String getErrorCode() {
         return errorCode;
     }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
 }
@@ -38,9 +38,9 @@ public class GlobalExceptionHandler {
         Map<String, Object> response = new HashMap<>();
         response.put("error", ex.getMessage());
         response.put("error_code", ex.getErrorCode());
-        response.put("status", HttpStatus.BAD_REQUEST.value());
+        response.put("status", ex.getStatus().value());
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        return ResponseEntity.status(ex.getStatus()).body(response);
     }
 
     /**
@@ -0,0 +1,82 @@
+package com.example.logging.filter;
+
+import com.example.logging.service.MetricsService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청 하나의 관찰 결과
+ * RequestObservationFilter가 요청마다 하나 생성하며, 시간은 System.nanoTime 기준으로 한 번만 측정합니다.
+ */
+public final class RequestObservation {
+
+    private final HttpServletRequest request;
+    private final HttpServletResponse response;
+    private final long startNanos;
+    private long durationNanos = -1;
+    /** 비동기 요청은 다른 스레드에서 기록될 수 있음 */
+    private volatile Throwable failure;
+
+    RequestObservation(HttpServletRequest request, HttpServletResponse response, long startNanos) {
+        this.request = request;
+        this.response = response;
+        this.startNanos = startNanos;
+    }
+
+    void complete(long endNanos) {
+        this.durationNanos = endNanos - startNanos;
+    }
+
+    void fail(Throwable failure) {
+        if (this.failure == null) {
+            this.failure = failure;
+        }
+    }
+
+    public HttpServletRequest getRequest() {
+        return request;
+    }
+
+    public HttpServletResponse getResponse() {
+        return response;
+    }
+
+    public String getMethod() {
+        return request.getMethod();
+    }
+
+    /**
+     * 매칭된 라우트 템플릿 (/api/products/{id}), 매칭 전이거나 매칭되지 않았으면 "other"
+     */
+    public String getRouteTemplate() {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern instanceof String template ? template : MetricsService.OTHER_PATH;
+    }
+
+    /**
+     * 응답 상태 코드 (예외가 필터 밖으로 전파된 경우 500)
+     */
+    public int getStatus() {
+        int status = response.getStatus();
+        return failure != null && status < 400 ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : status;
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * 처리 시간 (완료 전에는 -1)
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * 처리되지 않고 필터 밖으로 전파된 예외 (없으면 null)
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+}
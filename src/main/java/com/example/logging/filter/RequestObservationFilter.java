@@ -0,0 +1,174 @@
+package com.example.logging.filter;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 요청 관찰 필터
+ * 가장 바깥 필터에서 요청 시간을 한 번 측정해 메트릭/로깅 리스너에 전달합니다.
+ * 보안 필터 등 다른 필터의 처리 시간도 포함되며, 완료 후 MDC를 정리합니다.
+ * 비동기 요청(StreamingResponseBody 등)은 AsyncListener로 응답이 끝난 시점에 완료 처리합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestObservationFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestObservationFilter.class);
+    private static final String ACTUATOR_PATH_PREFIX = "/actuator/";
+    private static final String ASYNC_COMPLETION_ATTRIBUTE = RequestObservationFilter.class.getName() + ".ASYNC_COMPLETION";
+
+    private final RequestObservationListener[] listeners;
+
+    public RequestObservationFilter(List<RequestObservationListener> listeners) {
+        this.listeners = listeners.toArray(new RequestObservationListener[0]);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // actuator 엔드포인트는 제외
+        return request.getServletPath().startsWith(ACTUATOR_PATH_PREFIX);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        // 비동기 dispatch에서도 MDC 복원과 예외 기록을 위해 실행
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (isAsyncDispatch(request)) {
+            doFilterAsyncDispatch(request, response, filterChain);
+            return;
+        }
+        RequestObservation observation = new RequestObservation(request, response, System.nanoTime());
+        boolean asyncStarted = false;
+        try {
+            for (RequestObservationListener listener : listeners) {
+                notifyStarted(listener, observation);
+            }
+            filterChain.doFilter(request, response);
+            asyncStarted = request.isAsyncStarted();
+        } catch (IOException | ServletException | RuntimeException | Error e) {
+            observation.fail(e);
+            throw e;
+        } finally {
+            if (asyncStarted) {
+                // StreamingResponseBody 등 비동기 응답은 응답이 끝날 때 완료 처리 (스트림 전체 시간 측정)
+                AsyncCompletion completion = new AsyncCompletion(observation, MDC.getCopyOfContextMap());
+                request.setAttribute(ASYNC_COMPLETION_ATTRIBUTE, completion);
+                request.getAsyncContext().addListener(completion);
+            } else {
+                complete(observation);
+            }
+            MDC.clear();
+        }
+    }
+
+    /**
+     * 비동기 작업 결과 처리 (요청 스레드의 MDC를 복원하고 전파된 예외를 기록)
+     */
+    private void doFilterAsyncDispatch(HttpServletRequest request, HttpServletResponse response,
+                                       FilterChain filterChain) throws ServletException, IOException {
+        AsyncCompletion completion = (AsyncCompletion) request.getAttribute(ASYNC_COMPLETION_ATTRIBUTE);
+        if (completion == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        completion.restoreMdc();
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException | Error e) {
+            completion.observation.fail(e);
+            throw e;
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private void complete(RequestObservation observation) {
+        observation.complete(System.nanoTime());
+        for (RequestObservationListener listener : listeners) {
+            notifyCompleted(listener, observation);
+        }
+    }
+
+    private void notifyStarted(RequestObservationListener listener, RequestObservation observation) {
+        try {
+            listener.onRequestStarted(observation);
+        } catch (RuntimeException e) {
+            logger.warn("Request observation listener failed: {}", listener.getClass().getSimpleName(), e);
+        }
+    }
+
+    private void notifyCompleted(RequestObservationListener listener, RequestObservation observation) {
+        try {
+            listener.onRequestCompleted(observation);
+        } catch (RuntimeException e) {
+            logger.warn("Request observation listener failed: {}", listener.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * 비동기 응답 완료 리스너 (컨테이너 스레드에서 호출되므로 요청 시작 시점의 MDC를 복원)
+     */
+    private final class AsyncCompletion implements AsyncListener {
+
+        private final RequestObservation observation;
+        private final Map<String, String> mdc;
+
+        private AsyncCompletion(RequestObservation observation, Map<String, String> mdc) {
+            this.observation = observation;
+            this.mdc = mdc;
+        }
+
+        private void restoreMdc() {
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            restoreMdc();
+            try {
+                complete(observation);
+            } finally {
+                MDC.clear();
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            observation.fail(new TimeoutException("Async request timed out"));
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            observation.fail(event.getThrowable());
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 비동기 dispatch에서 다시 시작하면 새 AsyncContext에 리스너를 다시 등록
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
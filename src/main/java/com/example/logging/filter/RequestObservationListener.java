@@ -0,0 +1,19 @@
+package com.example.logging.filter;
+
+/**
+ * 요청 관찰 리스너
+ * RequestObservationFilter가 요청 시작/완료 시 등록된 리스너에 순서대로 전달합니다.
+ */
+public interface RequestObservationListener {
+
+    /**
+     * 요청 시작 (다른 필터보다 먼저 호출)
+     */
+    default void onRequestStarted(RequestObservation observation) {
+    }
+
+    /**
+     * 요청 완료 (모든 필터와 핸들러 처리 후 호출)
+     */
+    void onRequestCompleted(RequestObservation observation);
+}
@@ -0,0 +1,406 @@
+package com.example.logging.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비동기 배치 로그 appender
+ * - 요청 스레드는 이벤트를 고정 크기 큐(원형 배열)에 넣기만 하고, 인코딩과 I/O는 전용 스레드가 처리
+ * - 큐 여유가 discardingThreshold 미만이면 discardLevel 이하(기본 INFO) 이벤트는 버림
+ * - 그보다 높은 레벨(WARN, ERROR)은 버리지 않고 큐에 자리가 날 때까지 대기
+ *   (최대 maxBlockingTime, 전용 스레드가 죽었거나 appender가 멈췄으면 대기하지 않고 버림)
+ * - 이벤트는 encoder로 한 번만 인코딩하고, SharedBytesEncoder를 쓰는 하위 appender들이 같은 바이트를 기록
+ * - 하위 OutputStreamAppender는 immediateFlush=false로 두고, 배치가 끝날 때 한 번 flush
+ * - stop()은 maxFlushTime까지 기다린 뒤 전용 스레드를 인터럽트하고, 하위 appender는 스레드가 끝난 뒤에만 멈춤
+ * 하위 appender는 이 appender에서만 참조해야 합니다 (flush가 전용 스레드에서만 안전함).
+ */
+public class AsyncBatchAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    public static final int DEFAULT_QUEUE_SIZE = 8192;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+    public static final int DEFAULT_MAX_FLUSH_TIME_MS = 1000;
+    public static final int DEFAULT_MAX_BLOCKING_TIME_MS = 5000;
+    private static final long POLL_INTERVAL_MS = 100;
+    private static final long DISCARD_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder discarded = new LongAdder();
+
+    private Encoder<ILoggingEvent> encoder;
+    private int queueSize = DEFAULT_QUEUE_SIZE;
+    private int discardingThreshold = -1;
+    private Level discardLevel = Level.INFO;
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+    private int maxFlushTime = DEFAULT_MAX_FLUSH_TIME_MS;
+    private int maxBlockingTime = DEFAULT_MAX_BLOCKING_TIME_MS;
+
+    private BlockingQueue<ILoggingEvent> queue;
+    private volatile Thread worker;
+    private volatile boolean workerDeathReported;
+    private volatile boolean detachOnExit;
+    private long reportedDiscards;
+    private long lastDiscardReportNanos;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (encoder == null) {
+            addError("No encoder set for the appender named [" + name + "]");
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addError("No attached appenders found for the appender named [" + name + "]");
+            return;
+        }
+        if (queueSize < 1) {
+            addError("Invalid queue size [" + queueSize + "]");
+            return;
+        }
+        if (!encoder.isStarted()) {
+            encoder.start();
+        }
+        if (discardingThreshold < 0) {
+            discardingThreshold = queueSize / 5;
+        }
+        queue = new ArrayBlockingQueue<>(queueSize);
+        lastDiscardReportNanos = System.nanoTime() - DISCARD_REPORT_INTERVAL_NANOS;
+        detachOnExit = false;
+        worker = new Thread(this::drainLoop, "logback-async-" + name);
+        worker.setDaemon(true);
+        super.start();
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        try {
+            worker.join(maxFlushTime);
+            if (worker.isAlive()) {
+                addWarn("Max flush time (" + maxFlushTime + " ms) exceeded, "
+                        + queue.size() + " queued events may be lost");
+                worker.interrupt();
+                worker.join(POLL_INTERVAL_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            // 아직 기록 중인 하위 appender를 닫지 않고, 전용 스레드가 끝날 때 정리하도록 넘김
+            detachOnExit = true;
+            if (worker.isAlive()) {
+                addWarn("Worker thread of the appender named [" + name + "] is still running, "
+                        + "attached appenders will be stopped when it exits");
+                return;
+            }
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        event.prepareForDeferredProcessing();
+        if (!isWorkerAlive()) {
+            // 꺼내 갈 스레드가 없으므로 큐에 넣지 않음
+            discarded.increment();
+            return;
+        }
+        if (isDiscardable(event)) {
+            if (queue.remainingCapacity() < discardingThreshold || !queue.offer(event)) {
+                discarded.increment();
+            }
+            return;
+        }
+        if (!offerBlocking(event)) {
+            discarded.increment();
+        }
+    }
+
+    private boolean isDiscardable(ILoggingEvent event) {
+        return event.getLevel().toInt() <= discardLevel.toInt();
+    }
+
+    /**
+     * 큐에 자리가 날 때까지 POLL_INTERVAL_MS 단위로 대기하며 매번 전용 스레드 생존 여부를 확인
+     * 스레드가 죽었거나, appender가 멈췄거나, maxBlockingTime을 넘기면 false (호출자가 버린 것으로 집계)
+     */
+    private boolean offerBlocking(ILoggingEvent event) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxBlockingTime);
+        boolean interrupted = false;
+        try {
+            while (true) {
+                if (!isWorkerAlive()) {
+                    return false;
+                }
+                try {
+                    if (queue.offer(event, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+                if (!isStarted() || (maxBlockingTime > 0 && System.nanoTime() - deadline >= 0)) {
+                    return queue.offer(event);
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private boolean isWorkerAlive() {
+        if (worker.isAlive()) {
+            return true;
+        }
+        if (!workerDeathReported) {
+            workerDeathReported = true;
+            addError("Worker thread of the appender named [" + name + "] is not running, discarding events");
+        }
+        return false;
+    }
+
+    private void drainLoop() {
+        List<ILoggingEvent> batch = new ArrayList<>(maxBatchSize);
+        while (isStarted()) {
+            try {
+                ILoggingEvent first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (reportDiscards()) {
+                        flushAppenders();
+                    }
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, maxBatchSize - 1);
+            try {
+                writeBatch(batch);
+            } catch (RuntimeException e) {
+                // 하위 appender 예외로 전용 스레드가 죽지 않도록 이번 배치만 포기
+                addError("Failed to write batch", e);
+                batch.clear();
+            }
+        }
+        // 종료 시 남은 이벤트 기록
+        while (queue.drainTo(batch, maxBatchSize) > 0) {
+            try {
+                writeBatch(batch);
+            } catch (RuntimeException e) {
+                addError("Failed to write batch", e);
+                batch.clear();
+            }
+        }
+        if (reportDiscards()) {
+            flushAppenders();
+        }
+        if (detachOnExit) {
+            // stop()이 maxFlushTime 안에 끝나지 않아 정리를 넘긴 경우
+            appenders.detachAndStopAllAppenders();
+        }
+    }
+
+    private void writeBatch(List<ILoggingEvent> batch) {
+        for (ILoggingEvent event : batch) {
+            write(event);
+        }
+        batch.clear();
+        reportDiscards();
+        flushAppenders();
+    }
+
+    private void write(ILoggingEvent event) {
+        byte[] bytes;
+        try {
+            bytes = encoder.encode(event);
+        } catch (RuntimeException e) {
+            addError("Failed to encode event", e);
+            return;
+        }
+        SharedBytesEncoder.share(bytes);
+        try {
+            appenders.appendLoopOnAppenders(event);
+        } finally {
+            SharedBytesEncoder.clear();
+        }
+    }
+
+    private void flushAppenders() {
+        Iterator<Appender<ILoggingEvent>> iterator = appenders.iteratorForAppenders();
+        while (iterator.hasNext()) {
+            if (iterator.next() instanceof OutputStreamAppender<ILoggingEvent> appender) {
+                OutputStream out = appender.getOutputStream();
+                if (out == null) {
+                    continue;
+                }
+                try {
+                    out.flush();
+                } catch (IOException e) {
+                    addError("Failed to flush appender named [" + appender.getName() + "]", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 버린 이벤트 수를 WARN 로그로 남김 (최대 10초에 한 번, 기록했으면 true)
+     */
+    private boolean reportDiscards() {
+        long total = discarded.sum();
+        long now = System.nanoTime();
+        if (total == reportedDiscards || now - lastDiscardReportNanos < DISCARD_REPORT_INTERVAL_NANOS) {
+            return false;
+        }
+        long count = total - reportedDiscards;
+        reportedDiscards = total;
+        lastDiscardReportNanos = now;
+        if (getContext() instanceof LoggerContext loggerContext) {
+            write(new LoggingEvent(AsyncBatchAppender.class.getName(),
+                    loggerContext.getLogger(AsyncBatchAppender.class), Level.WARN,
+                    "Log queue full, discarded " + count + " events",
+                    null, null));
+        }
+        return true;
+    }
+
+    /**
+     * 누적 폐기 이벤트 수
+     */
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    public Encoder<ILoggingEvent> getEncoder() {
+        return encoder;
+    }
+
+    public void setEncoder(Encoder<ILoggingEvent> encoder) {
+        this.encoder = encoder;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public int getDiscardingThreshold() {
+        return discardingThreshold;
+    }
+
+    /**
+     * 큐 여유 공간이 이 값 미만이면 discardLevel 이하 이벤트를 버림 (기본: 큐 크기의 1/5, 0이면 큐가 가득 찰 때만)
+     */
+    public void setDiscardingThreshold(int discardingThreshold) {
+        this.discardingThreshold = discardingThreshold;
+    }
+
+    public String getDiscardLevel() {
+        return discardLevel.toString();
+    }
+
+    /**
+     * 버릴 수 있는 최고 레벨 (기본: INFO, OFF면 버리지 않음). ERROR로 지정해도 ERROR는 버리지 않습니다.
+     */
+    public void setDiscardLevel(String discardLevel) {
+        Level level = Level.toLevel(discardLevel, Level.INFO);
+        if (level == Level.OFF) {
+            this.discardLevel = Level.ALL;
+        } else if (level.toInt() >= Level.ERROR_INT) {
+            this.discardLevel = Level.WARN;
+        } else {
+            this.discardLevel = level;
+        }
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+    }
+
+    public int getMaxBlockingTime() {
+        return maxBlockingTime;
+    }
+
+    /**
+     * 큐가 가득 찼을 때 WARN/ERROR 이벤트가 기다리는 최대 시간 (ms, 0 이하면 전용 스레드가 살아 있는 동안 계속 대기)
+     */
+    public void setMaxBlockingTime(int maxBlockingTime) {
+        this.maxBlockingTime = maxBlockingTime;
+    }
+
+    public int getMaxFlushTime() {
+        return maxFlushTime;
+    }
+
+    public void setMaxFlushTime(int maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
@@ -0,0 +1,287 @@
+package com.example.logging.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import net.logstash.logback.argument.StructuredArguments;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로거별 발생량 제한 및 레벨별 샘플링 TurboFilter
+ * - maxLevel(기본 INFO) 이하 이벤트에만 적용하며 WARN/ERROR는 건드리지 않음
+ * - 레벨별 샘플링 비율(TRACE/DEBUG/INFO)로 먼저 걸러낸 뒤 로거별 토큰 버킷(GCRA, CAS 한 번)으로 상한 적용
+ * - 상한으로 버린 이벤트는 다음에 통과하는 이벤트 직전에 "N events suppressed" WARN 요약으로 남김
+ *   (이후 이벤트가 없어도 10초마다, 그리고 stop() 시 남은 요약을 기록)
+ * 로거별 상한은 로거 이름 또는 상위 패키지 이름으로 지정하며, 설정은 실행 중에 변경할 수 있습니다.
+ */
+public class RateLimitingTurboFilter extends TurboFilter {
+
+    private static final ThreadLocal<Boolean> REPORTING = new ThreadLocal<>();
+    private static final long SUMMARY_INTERVAL_SECONDS = 10;
+
+    private final Map<String, Double> loggerEventsPerSecond = new ConcurrentHashMap<>();
+    private final Map<Logger, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong sampledOut = new AtomicLong();
+
+    private volatile double defaultEventsPerSecond;
+    private volatile int burst = 100;
+    private volatile Level maxLevel = Level.INFO;
+    private volatile double traceSampleRate = 1.0;
+    private volatile double debugSampleRate = 1.0;
+    private volatile double infoSampleRate = 1.0;
+    private ScheduledFuture<?> summaryTask;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (getContext() != null) {
+            summaryTask = getContext().getScheduledExecutorService().scheduleAtFixedRate(this::flushSuppressed,
+                    SUMMARY_INTERVAL_SECONDS, SUMMARY_INTERVAL_SECONDS, TimeUnit.SECONDS);
+            getContext().addScheduledFuture(summaryTask);
+        }
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        if (summaryTask != null) {
+            summaryTask.cancel(false);
+            summaryTask = null;
+        }
+        flushSuppressed();
+        super.stop();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isXxxEnabled() 호출(format == null)과 비활성 레벨, 요약 기록 중인 이벤트는 제외
+        if (!isStarted() || format == null || level == null || level.toInt() > maxLevel.toInt()
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel()) || REPORTING.get() != null) {
+            return FilterReply.NEUTRAL;
+        }
+        double sampleRate = sampleRate(level);
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            sampledOut.incrementAndGet();
+            return FilterReply.DENY;
+        }
+        Bucket bucket = buckets.computeIfAbsent(logger, this::newBucket);
+        if (bucket == Bucket.UNLIMITED) {
+            return FilterReply.NEUTRAL;
+        }
+        if (!bucket.tryAcquire(System.nanoTime())) {
+            bucket.suppressed.incrementAndGet();
+            return FilterReply.DENY;
+        }
+        long suppressed = bucket.suppressed.get() > 0 ? bucket.suppressed.getAndSet(0) : 0;
+        if (suppressed > 0) {
+            reportSuppressed(logger, suppressed);
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    /**
+     * 아직 요약되지 않은 로거별 상한 초과 이벤트를 WARN 요약으로 기록
+     */
+    public void flushSuppressed() {
+        buckets.forEach((logger, bucket) -> {
+            long suppressed = bucket.suppressed.get() > 0 ? bucket.suppressed.getAndSet(0) : 0;
+            if (suppressed > 0) {
+                reportSuppressed(logger, suppressed);
+            }
+        });
+    }
+
+    /**
+     * 설정 변경 시 버킷을 다시 만들되, 쌓인 요약은 먼저 기록
+     */
+    private void resetBuckets() {
+        flushSuppressed();
+        buckets.clear();
+    }
+
+    private void reportSuppressed(Logger logger, long suppressed) {
+        REPORTING.set(Boolean.TRUE);
+        try {
+            logger.warn("{} log events suppressed by rate limit",
+                    StructuredArguments.value("suppressed_events", suppressed));
+        } finally {
+            REPORTING.remove();
+        }
+    }
+
+    private double sampleRate(Level level) {
+        return switch (level.toInt()) {
+            case Level.TRACE_INT -> traceSampleRate;
+            case Level.DEBUG_INT -> debugSampleRate;
+            case Level.INFO_INT -> infoSampleRate;
+            default -> 1.0;
+        };
+    }
+
+    private Bucket newBucket(Logger logger) {
+        double eventsPerSecond = eventsPerSecondFor(logger.getName());
+        return eventsPerSecond > 0 ? new Bucket(eventsPerSecond, burst, System.nanoTime()) : Bucket.UNLIMITED;
+    }
+
+    private double eventsPerSecondFor(String loggerName) {
+        String name = loggerName;
+        while (true) {
+            Double configured = loggerEventsPerSecond.get(name);
+            if (configured != null) {
+                return configured;
+            }
+            int dot = name.lastIndexOf('.');
+            if (dot < 0) {
+                return defaultEventsPerSecond;
+            }
+            name = name.substring(0, dot);
+        }
+    }
+
+    /**
+     * 로거별 초당 이벤트 상한 지정 (로거 또는 패키지 이름, 0 이하면 무제한)
+     */
+    public void setLoggerEventsPerSecond(String loggerName, double eventsPerSecond) {
+        loggerEventsPerSecond.put(loggerName, eventsPerSecond);
+        resetBuckets();
+    }
+
+    /**
+     * 로거별 상한 제거 (기본 상한 적용)
+     */
+    public void removeLoggerEventsPerSecond(String loggerName) {
+        loggerEventsPerSecond.remove(loggerName);
+        resetBuckets();
+    }
+
+    public Map<String, Double> getLoggerEventsPerSecond() {
+        return new TreeMap<>(loggerEventsPerSecond);
+    }
+
+    public double getDefaultEventsPerSecond() {
+        return defaultEventsPerSecond;
+    }
+
+    /**
+     * 로거별 상한이 없는 로거의 초당 이벤트 상한 (0 이하면 무제한)
+     */
+    public void setDefaultEventsPerSecond(double defaultEventsPerSecond) {
+        this.defaultEventsPerSecond = defaultEventsPerSecond;
+        resetBuckets();
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * 순간적으로 허용하는 최대 이벤트 수
+     */
+    public void setBurst(int burst) {
+        this.burst = Math.max(1, burst);
+        resetBuckets();
+    }
+
+    public String getMaxLevel() {
+        return maxLevel.toString();
+    }
+
+    /**
+     * 샘플링/상한을 적용할 최고 레벨 (INFO보다 높게 지정하면 INFO로 제한)
+     */
+    public void setMaxLevel(String maxLevel) {
+        Level level = Level.toLevel(maxLevel, Level.INFO);
+        if (level.toInt() > Level.INFO_INT) {
+            addWarn("Max level [" + maxLevel + "] would rate limit WARN/ERROR events, using INFO instead");
+            level = Level.INFO;
+        }
+        this.maxLevel = level;
+    }
+
+    /**
+     * 레벨별 샘플링 비율 (TRACE/DEBUG/INFO만, 0.0~1.0)
+     */
+    public void setSampleRate(String level, double rate) {
+        double clamped = Math.max(0.0, Math.min(1.0, rate));
+        switch (Level.toLevel(level, Level.OFF).toInt()) {
+            case Level.TRACE_INT -> traceSampleRate = clamped;
+            case Level.DEBUG_INT -> debugSampleRate = clamped;
+            case Level.INFO_INT -> infoSampleRate = clamped;
+            default -> throw new IllegalArgumentException("Sampling is only supported for TRACE, DEBUG and INFO: " + level);
+        }
+    }
+
+    public Map<String, Double> getSampleRates() {
+        Map<String, Double> rates = new TreeMap<>();
+        rates.put(Level.TRACE.toString(), traceSampleRate);
+        rates.put(Level.DEBUG.toString(), debugSampleRate);
+        rates.put(Level.INFO.toString(), infoSampleRate);
+        return rates;
+    }
+
+    /**
+     * 레벨 샘플링으로 버린 누적 이벤트 수
+     */
+    public long getSampledOutCount() {
+        return sampledOut.get();
+    }
+
+    /**
+     * 아직 요약되지 않은 로거별 상한 초과 이벤트 수
+     */
+    public Map<String, Long> getPendingSuppressed() {
+        Map<String, Long> pending = new TreeMap<>();
+        buckets.forEach((logger, bucket) -> {
+            long count = bucket.suppressed.get();
+            if (count > 0) {
+                pending.put(logger.getName(), count);
+            }
+        });
+        return pending;
+    }
+
+    /**
+     * GCRA 토큰 버킷: 이론상 다음 도착 시각(tat) 하나를 CAS로 갱신
+     */
+    static final class Bucket {
+        static final Bucket UNLIMITED = new Bucket(0, 1, 0);
+
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final AtomicLong tat;
+        final AtomicLong suppressed = new AtomicLong();
+
+        Bucket(double eventsPerSecond, int burst, long nowNanos) {
+            this.intervalNanos = eventsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / eventsPerSecond) : 0;
+            this.toleranceNanos = intervalNanos * (burst - 1L);
+            this.tat = new AtomicLong(nowNanos);
+        }
+
+        boolean tryAcquire(long nowNanos) {
+            while (true) {
+                long current = tat.get();
+                long base = current - nowNanos > 0 ? current : nowNanos;
+                if (base - nowNanos > toleranceNanos) {
+                    return false;
+                }
+                if (tat.compareAndSet(current, base + intervalNanos)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.logging.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+/**
+ * AsyncBatchAppender가 한 번 인코딩한 바이트를 그대로 돌려주는 인코더
+ * AsyncBatchAppender 하위 appender 전용이며, 그 밖에서 호출되면 아무것도 쓰지 않습니다.
+ */
+public class SharedBytesEncoder extends EncoderBase<ILoggingEvent> {
+
+    private static final byte[] EMPTY = new byte[0];
+    private static final ThreadLocal<byte[]> SHARED = new ThreadLocal<>();
+
+    private boolean warned;
+
+    static void share(byte[] bytes) {
+        SHARED.set(bytes);
+    }
+
+    static void clear() {
+        SHARED.remove();
+    }
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        byte[] bytes = SHARED.get();
+        if (bytes == null) {
+            if (!warned) {
+                warned = true;
+                addWarn("SharedBytesEncoder used outside AsyncBatchAppender, event dropped");
+            }
+            return EMPTY;
+        }
+        return bytes;
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.logging.metrics;
+
+/**
+ * 히스토그램 스냅샷 (불변)
+ * 백분위 조회는 버킷 수에 비례(O(buckets))하며 기록 중인 히스토그램에 영향을 주지 않습니다.
+ */
+public final class HistogramSnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    private HistogramSnapshot(long[] counts, long sum, long max) {
+        long total = 0;
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+        this.counts = counts;
+        this.count = total;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count > 0 ? (double) sum / count : 0.0;
+    }
+
+    /**
+     * 최소값 (해당 버킷의 하한)
+     */
+    public long getMin() {
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                return LatencyHistogram.lowerBound(i);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 백분위 값 (예: 0.99). 해당 버킷의 상한을 반환하며 기록된 최대값을 넘지 않습니다.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile * count));
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return Math.min(LatencyHistogram.upperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 여러 히스토그램을 합산하는 빌더
+     */
+    static final class Builder {
+        final long[] counts;
+        long sum;
+        long max;
+
+        Builder(int bucketCount) {
+            this.counts = new long[bucketCount];
+        }
+
+        HistogramSnapshot build() {
+            return new HistogramSnapshot(counts, sum, max);
+        }
+    }
+}
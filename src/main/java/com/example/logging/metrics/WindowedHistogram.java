@@ -0,0 +1,81 @@
+package com.example.logging.metrics;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 슬라이딩 시간 창 히스토그램
+ * 창을 slotCount개 구간으로 나누어 현재 구간의 LatencyHistogram에만 기록하고,
+ * 스냅샷은 창 안에 있는 구간들을 합산합니다. 오래된 구간은 다시 쓰일 때 초기화됩니다.
+ */
+public class WindowedHistogram {
+
+    private final Slot[] slots;
+    private final long slotNanos;
+    private final LongSupplier ticker;
+    private final int bucketCount;
+
+    public WindowedHistogram(Duration window, int slotCount, long maxValue) {
+        this(window, slotCount, maxValue, System::nanoTime);
+    }
+
+    WindowedHistogram(Duration window, int slotCount, long maxValue, LongSupplier ticker) {
+        this.slotNanos = Math.max(1, window.toNanos() / slotCount);
+        this.ticker = ticker;
+        this.slots = new Slot[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new Slot(new LatencyHistogram(maxValue));
+        }
+        this.bucketCount = slots[0].histogram.bucketCount();
+    }
+
+    /**
+     * 값 기록 (구간이 바뀌는 순간 외에는 락 없음)
+     */
+    public void record(long value) {
+        long epoch = ticker.getAsLong() / slotNanos;
+        Slot slot = slots[(int) Math.floorMod(epoch, (long) slots.length)];
+        if (slot.epoch != epoch) {
+            slot.rotate(epoch);
+        }
+        slot.histogram.record(value);
+    }
+
+    /**
+     * 창 안의 구간을 합산한 스냅샷 (현재 진행 중인 구간 포함)
+     */
+    public HistogramSnapshot snapshot() {
+        long currentEpoch = ticker.getAsLong() / slotNanos;
+        HistogramSnapshot.Builder builder = new HistogramSnapshot.Builder(bucketCount);
+        for (Slot slot : slots) {
+            long epoch = slot.epoch;
+            if (epoch <= currentEpoch && currentEpoch - epoch < slots.length) {
+                slot.histogram.addTo(builder);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 창 길이
+     */
+    public Duration getWindow() {
+        return Duration.ofNanos(slotNanos * slots.length);
+    }
+
+    private static final class Slot {
+        private final LatencyHistogram histogram;
+        private volatile long epoch = Long.MIN_VALUE;
+
+        Slot(LatencyHistogram histogram) {
+            this.histogram = histogram;
+        }
+
+        synchronized void rotate(long newEpoch) {
+            if (epoch < newEpoch) {
+                histogram.reset();
+                epoch = newEpoch;
+            }
+        }
+    }
+}
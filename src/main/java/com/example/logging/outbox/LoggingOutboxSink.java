@@ -0,0 +1,23 @@
+package com.example.logging.outbox;
+
+import com.example.logging.entity.OutboxEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * 로그 발행 (Redis 없는 로컬/테스트 환경용)
+ */
+public class LoggingOutboxSink implements OutboxEventSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingOutboxSink.class);
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            logger.info("Outbox event published: id={}, type={}, aggregate_id={}",
+                    event.getId(), event.getEventType(), event.getAggregateId());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.logging.outbox;
+
+import com.example.logging.entity.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * outbox 이벤트 발행 대상
+ * 배치 전체를 발행하거나 예외를 던져야 하며, 예외가 나면 OutboxRelay가 배치를 남겨 두고 다음 주기에 다시 보냅니다.
+ */
+public interface OutboxEventSink {
+
+    void publish(List<OutboxEvent> events);
+}
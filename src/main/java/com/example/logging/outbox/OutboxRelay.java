@@ -0,0 +1,189 @@
+package com.example.logging.outbox;
+
+import com.example.logging.entity.OutboxEvent;
+import com.example.logging.repository.OutboxEventRepository;
+import com.example.logging.repository.OutboxQueryRepository.Backlog;
+import com.example.logging.util.LoggerUtil;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * outbox 이벤트를 배치 단위로 꺼내 OutboxEventSink로 발행
+ * 배치마다 트랜잭션 하나에서 행을 잠그고(SKIP LOCKED 지원 DB는 다른 노드가 잠근 행을 건너뜀) 발행 후 삭제합니다.
+ * 발행이 실패하면 롤백되어 이벤트가 남고 다음 주기에 다시 보내므로 전달은 at-least-once입니다.
+ * 연속 실패 시 주기 호출을 지수적으로 건너뛰며(최대 max-backoff-ms), 스택 트레이스는 첫 실패에만 남깁니다.
+ * 메트릭: outbox.events.published, outbox.publish.failures, outbox.publish(배치 발행 시간), outbox.backlog, outbox.lag
+ */
+@Component
+public class OutboxRelay implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final long pollIntervalMs;
+    private final long maxBackoffMs;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder publishNanos = new LongAdder();
+    /** 마지막 주기 끝의 적체 (게이지용) */
+    private volatile Backlog backlog = new Backlog(0, null);
+    /** 연속 실패 횟수와 다음 재시도 시각 (System.nanoTime 기준) */
+    private volatile int consecutiveFailures;
+    private volatile long retryAtNanos;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxEventSink sink,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${app.outbox.batch-size:100}") int batchSize,
+                       @Value("${app.outbox.max-batches-per-poll:50}") int maxBatchesPerPoll,
+                       @Value("${app.outbox.poll-interval-ms:500}") long pollIntervalMs,
+                       @Value("${app.outbox.max-backoff-ms:30000}") long maxBackoffMs) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatchesPerPoll = Math.max(1, maxBatchesPerPoll);
+        this.pollIntervalMs = Math.max(1, pollIntervalMs);
+        this.maxBackoffMs = Math.max(this.pollIntervalMs, maxBackoffMs);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:500}")
+    public void poll() {
+        if (consecutiveFailures > 0 && System.nanoTime() - retryAtNanos < 0) {
+            // 발행 대상 장애 중에는 재시도 간격을 늘림
+            return;
+        }
+        drain();
+    }
+
+    /**
+     * 적체가 비거나 주기당 배치 수 상한에 닿을 때까지 발행
+     *
+     * @return 발행한 이벤트 수
+     */
+    public int drain() {
+        int total = 0;
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            int sent = publishBatch();
+            total += sent;
+            if (sent < batchSize) {
+                break;
+            }
+        }
+        refreshBacklog();
+        return total;
+    }
+
+    /** 발행 대기 건수 (마지막 주기 기준) */
+    public long backlogSize() {
+        return backlog.size();
+    }
+
+    /** 가장 오래된 발행 대기 이벤트의 경과 시간 (마지막 주기 기준, 없으면 0) */
+    public Duration lag() {
+        Instant oldest = backlog.oldestCreatedAt();
+        return oldest == null ? Duration.ZERO : Duration.between(oldest, Instant.now());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("outbox.events.published", published, LongAdder::sum)
+                .description("발행한 outbox 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder("outbox.publish.failures", failures, LongAdder::sum)
+                .description("발행 실패로 롤백된 배치 수")
+                .register(registry);
+        FunctionTimer.builder("outbox.publish", this,
+                        relay -> relay.batches.sum(), relay -> relay.publishNanos.sum(), TimeUnit.NANOSECONDS)
+                .description("배치 발행 시간")
+                .register(registry);
+        Gauge.builder("outbox.backlog", this, OutboxRelay::backlogSize)
+                .description("발행 대기 이벤트 수")
+                .register(registry);
+        Gauge.builder("outbox.lag", this, relay -> relay.lag().toMillis() / 1000.0)
+                .baseUnit("seconds")
+                .description("가장 오래된 발행 대기 이벤트의 경과 시간")
+                .register(registry);
+    }
+
+    private int publishBatch() {
+        try {
+            Integer sent = transactionTemplate.execute(status -> {
+                List<OutboxEvent> events = outboxEventRepository.lockNextBatch(batchSize);
+                if (events.isEmpty()) {
+                    return 0;
+                }
+                long start = System.nanoTime();
+                sink.publish(events);
+                publishNanos.add(System.nanoTime() - start);
+                batches.increment();
+                outboxEventRepository.deleteAllByIdInBatch(events.stream().map(OutboxEvent::getId).toList());
+                return events.size();
+            });
+            int count = sent == null ? 0 : sent;
+            published.add(count);
+            if (consecutiveFailures > 0) {
+                logger.info("Outbox publish recovered after {} failed attempts", consecutiveFailures);
+                consecutiveFailures = 0;
+            }
+            return count;
+        } catch (RuntimeException ex) {
+            failures.increment();
+            onFailure(ex);
+            return 0;
+        }
+    }
+
+    /**
+     * 연속 실패 기록: 재시도 간격을 poll 주기의 2배부터 max-backoff-ms까지 두 배씩 늘림
+     * 같은 장애가 주기마다 반복되므로 스택 트레이스는 첫 실패에만 남기고 이후는 WARN 한 줄
+     */
+    private void onFailure(RuntimeException ex) {
+        int failed = ++consecutiveFailures;
+        long backoffMs = Math.min(maxBackoffMs, pollIntervalMs << Math.min(failed, 20));
+        retryAtNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMs);
+        if (failed == 1) {
+            Map<String, Object> context = new HashMap<>();
+            context.put("operation", "outbox_publish");
+            context.put("batch_size", batchSize);
+            context.put("retry_in_ms", backoffMs);
+            LoggerUtil.logError(logger, "Outbox batch publish failed, will retry", ex, context);
+        } else {
+            logger.warn("Outbox batch publish failed {} times in a row, retrying in {}ms: {}",
+                    failed, backoffMs, ex.toString());
+        }
+    }
+
+    private void refreshBacklog() {
+        try {
+            backlog = outboxEventRepository.backlog();
+        } catch (DataAccessException ex) {
+            logger.warn("outbox 적체 조회 실패: {}", ex.getMessage());
+        }
+    }
+}
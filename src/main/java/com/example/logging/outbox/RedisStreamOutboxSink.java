@@ -0,0 +1,59 @@
+package com.example.logging.outbox;
+
+import com.example.logging.entity.OutboxEvent;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis Stream 발행 (XADD)
+ * 배치의 XADD를 파이프라인 한 번으로 보내며, 필드는 값 직렬화 설정과 관계없이 UTF-8 문자열로 기록합니다.
+ * 필드: event_id, event_type, aggregate_type, aggregate_id, created_at, payload(JSON)
+ */
+public class RedisStreamOutboxSink implements OutboxEventSink {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final byte[] streamKey;
+    private final XAddOptions options;
+
+    /**
+     * @param maxLength 스트림 최대 길이 (근사 트리밍, 0이면 트리밍 안 함)
+     */
+    public RedisStreamOutboxSink(RedisTemplate<String, Object> redisTemplate, String streamKey, long maxLength) {
+        this.redisTemplate = redisTemplate;
+        this.streamKey = streamKey.getBytes(StandardCharsets.UTF_8);
+        this.options = maxLength > 0 ? XAddOptions.maxlen(maxLength).approximateTrimming(true) : XAddOptions.none();
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (OutboxEvent event : events) {
+                connection.streamCommands().xAdd(
+                        StreamRecords.rawBytes(fields(event)).withStreamKey(streamKey), options);
+            }
+            return null;
+        });
+    }
+
+    private static Map<byte[], byte[]> fields(OutboxEvent event) {
+        Map<byte[], byte[]> fields = new LinkedHashMap<>();
+        fields.put(bytes("event_id"), bytes(String.valueOf(event.getId())));
+        fields.put(bytes("event_type"), bytes(event.getEventType()));
+        fields.put(bytes("aggregate_type"), bytes(event.getAggregateType()));
+        fields.put(bytes("aggregate_id"), bytes(event.getAggregateId()));
+        fields.put(bytes("created_at"), bytes(event.getCreatedAt().toString()));
+        fields.put(bytes("payload"), bytes(event.getPayload()));
+        return fields;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
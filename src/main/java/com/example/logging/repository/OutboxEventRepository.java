@@ -0,0 +1,11 @@
+package com.example.logging.repository;
+
+import com.example.logging.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * outbox 이벤트 저장소
+ * 발행 대상 잠금/적체 조회는 OutboxQueryRepository(OutboxQueryRepositoryImpl)에서 처리합니다.
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long>, OutboxQueryRepository {
+}
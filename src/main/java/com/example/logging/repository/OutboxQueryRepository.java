@@ -0,0 +1,27 @@
+package com.example.logging.repository;
+
+import com.example.logging.entity.OutboxEvent;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * outbox 발행 대상 조회
+ */
+public interface OutboxQueryRepository {
+
+    /**
+     * 오래된 순으로 limit건을 행 잠금과 함께 조회 (호출자 트랜잭션 안에서, 커밋까지 잠금 유지)
+     * PostgreSQL 등 SKIP LOCKED를 지원하는 DB는 다른 노드가 잠근 행을 건너뛰어 relay끼리 나눠 처리하고,
+     * H2처럼 지원하지 않는 DB는 FOR UPDATE로 대신해 먼저 잠근 relay가 끝날 때까지 기다립니다.
+     */
+    List<OutboxEvent> lockNextBatch(int limit);
+
+    /**
+     * 발행 대기 건수와 가장 오래된 이벤트 생성 시각 (없으면 oldestCreatedAt은 null)
+     */
+    Backlog backlog();
+
+    record Backlog(long size, Instant oldestCreatedAt) {
+    }
+}
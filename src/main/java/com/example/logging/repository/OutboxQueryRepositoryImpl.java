@@ -0,0 +1,40 @@
+package com.example.logging.repository;
+
+import com.example.logging.entity.OutboxEvent;
+import jakarta.persistence.EntityManager;
+import org.hibernate.LockMode;
+import org.hibernate.Session;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * OutboxQueryRepository 구현 (EntityManager로 직접 실행, ProductQueryRepositoryImpl 참고)
+ * Hibernate LockMode.UPGRADE_SKIPLOCKED는 방언이 FOR UPDATE SKIP LOCKED로 바꾸며, 지원하지 않는 방언은 FOR UPDATE로 둡니다.
+ */
+class OutboxQueryRepositoryImpl implements OutboxQueryRepository {
+
+    private static final String NEXT_BATCH = "select e from OutboxEvent e order by e.id asc";
+    private static final String BACKLOG = "select count(e), min(e.createdAt) from OutboxEvent e";
+
+    private final EntityManager entityManager;
+
+    OutboxQueryRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<OutboxEvent> lockNextBatch(int limit) {
+        return entityManager.unwrap(Session.class)
+                .createSelectionQuery(NEXT_BATCH, OutboxEvent.class)
+                .setHibernateLockMode(LockMode.UPGRADE_SKIPLOCKED)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Backlog backlog() {
+        Object[] row = entityManager.createQuery(BACKLOG, Object[].class).getSingleResult();
+        return new Backlog(((Number) row[0]).longValue(), (Instant) row[1]);
+    }
+}
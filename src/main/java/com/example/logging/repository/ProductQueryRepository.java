@@ -0,0 +1,33 @@
+package com.example.logging.repository;
+
+import com.example.logging.dto.ProductCursor;
+import com.example.logging.dto.ProductSort;
+import com.example.logging.dto.ProductView;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 상품 목록 조회 (ProductView 생성자 프로젝션)
+ * 엔티티를 영속성 컨텍스트에 올리지 않으므로 스냅샷 복사와 dirty checking이 없습니다.
+ */
+public interface ProductQueryRepository {
+
+    /**
+     * keyset 페이지 조회 (cursor가 null이면 첫 페이지)
+     * OFFSET 대신 마지막 행의 (price, id) 이후를 조회하므로 페이지 깊이와 관계없이 인덱스 범위 스캔 한 번으로 끝납니다.
+     */
+    List<ProductView> findPage(ProductSort sort, ProductCursor cursor, int limit);
+
+    /**
+     * 전체 상품을 JDBC 커서로 순회 (호출자는 트랜잭션 안에서 스트림을 닫아야 함)
+     * 드라이버가 fetch size 단위로 행을 가져오며, MySQL은 useCursorFetch=true가 있어야 적용됩니다.
+     */
+    Stream<ProductView> streamAll(ProductSort sort);
+
+    /**
+     * 주어진 id 중 존재하는 id (대량 삭제 시 엔티티를 읽지 않고 결과 판단)
+     */
+    List<Long> findExistingIds(Collection<Long> ids);
+}
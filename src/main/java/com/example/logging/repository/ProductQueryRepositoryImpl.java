@@ -0,0 +1,81 @@
+package com.example.logging.repository;
+
+import com.example.logging.config.AppConstants;
+import com.example.logging.dto.ProductCursor;
+import com.example.logging.dto.ProductSort;
+import com.example.logging.dto.ProductView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * ProductQueryRepository 구현
+ * JPQL을 정렬별로 미리 만들어 EntityManager로 직접 실행합니다.
+ * (생성자 표현식 프로젝션에 정렬과 커서 유무에 따라 달라지는 keyset 조건을 붙여야 해서 @Query 하나로는 표현할 수 없음)
+ * 가격 정렬 조건은 선두 컬럼 범위(price >=, <=)를 따로 두어야 (price, id) 인덱스 탐색을 탑니다.
+ */
+class ProductQueryRepositoryImpl implements ProductQueryRepository {
+
+    private static final String VIEW =
+            "select new com.example.logging.dto.ProductView(p.id, p.name, p.description, p.price) from Product p";
+
+    private static final String EXISTING_IDS = "select p.id from Product p where p.id in :ids";
+
+    private static final Map<ProductSort, String> FIRST_PAGE = new EnumMap<>(ProductSort.class);
+    private static final Map<ProductSort, String> NEXT_PAGE = new EnumMap<>(ProductSort.class);
+
+    static {
+        FIRST_PAGE.put(ProductSort.ID_ASC, VIEW + " order by p.id asc");
+        NEXT_PAGE.put(ProductSort.ID_ASC, VIEW + " where p.id > :id order by p.id asc");
+        FIRST_PAGE.put(ProductSort.ID_DESC, VIEW + " order by p.id desc");
+        NEXT_PAGE.put(ProductSort.ID_DESC, VIEW + " where p.id < :id order by p.id desc");
+        FIRST_PAGE.put(ProductSort.PRICE_ASC, VIEW + " order by p.price asc, p.id asc");
+        NEXT_PAGE.put(ProductSort.PRICE_ASC, VIEW
+                + " where p.price >= :price and (p.price > :price or p.id > :id) order by p.price asc, p.id asc");
+        FIRST_PAGE.put(ProductSort.PRICE_DESC, VIEW + " order by p.price desc, p.id desc");
+        NEXT_PAGE.put(ProductSort.PRICE_DESC, VIEW
+                + " where p.price <= :price and (p.price < :price or p.id < :id) order by p.price desc, p.id desc");
+    }
+
+    private final EntityManager entityManager;
+
+    ProductQueryRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<ProductView> findPage(ProductSort sort, ProductCursor cursor, int limit) {
+        TypedQuery<ProductView> query;
+        if (cursor == null) {
+            query = entityManager.createQuery(FIRST_PAGE.get(sort), ProductView.class);
+        } else {
+            query = entityManager.createQuery(NEXT_PAGE.get(sort), ProductView.class)
+                    .setParameter("id", cursor.id());
+            if (sort.isByPrice()) {
+                query.setParameter("price", cursor.price());
+            }
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Stream<ProductView> streamAll(ProductSort sort) {
+        return entityManager.createQuery(FIRST_PAGE.get(sort), ProductView.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, AppConstants.Pagination.STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_CACHEABLE, false)
+                .getResultStream();
+    }
+
+    @Override
+    public List<Long> findExistingIds(Collection<Long> ids) {
+        return entityManager.createQuery(EXISTING_IDS, Long.class)
+                .setParameter("ids", ids)
+                .getResultList();
+    }
+}
@@ -3,5 +3,11 @@ package com.example.logging.repository;
 import com.example.logging.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+/**
+ * 상품 저장소
+ * 목록/스트리밍 조회는 ProductQueryRepository(ProductQueryRepositoryImpl)에서 프로젝션으로 처리합니다.
+ * 재고는 ProductStockRepository의 조건부 UPDATE로만 바꿉니다.
+ */
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductQueryRepository,
+        ProductStockRepository {
 }
@@ -0,0 +1,22 @@
+package com.example.logging.repository;
+
+/**
+ * 상품 재고 증감 (조건부 UPDATE 한 문장, 호출자 트랜잭션 안에서 실행)
+ * 엔티티를 읽지 않고 DB에서 바로 차감하므로 동시 주문이 몰려도 재고가 음수가 되지 않습니다.
+ */
+public interface ProductStockRepository {
+
+    /**
+     * 재고가 quantity 이상일 때만 차감
+     *
+     * @return 차감했으면 true, 재고 부족이거나 상품이 없으면 false
+     */
+    boolean decrementStock(long productId, int quantity);
+
+    /**
+     * 재고 증가 (입고, 미사용 예약분 반환)
+     *
+     * @return 상품이 있으면 true
+     */
+    boolean incrementStock(long productId, long quantity);
+}
@@ -0,0 +1,37 @@
+package com.example.logging.repository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * ProductStockRepository 구현 (EntityManager로 직접 실행, ProductQueryRepositoryImpl 참고)
+ * Product.stock은 updatable=false라 엔티티 저장이 이 UPDATE의 결과를 덮어쓰지 않습니다.
+ */
+class ProductStockRepositoryImpl implements ProductStockRepository {
+
+    private static final String DECREMENT =
+            "update Product p set p.stock = p.stock - :quantity where p.id = :id and p.stock >= :quantity";
+    private static final String INCREMENT =
+            "update Product p set p.stock = p.stock + :quantity where p.id = :id";
+
+    private final EntityManager entityManager;
+
+    ProductStockRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public boolean decrementStock(long productId, int quantity) {
+        return entityManager.createQuery(DECREMENT)
+                .setParameter("quantity", quantity)
+                .setParameter("id", productId)
+                .executeUpdate() == 1;
+    }
+
+    @Override
+    public boolean incrementStock(long productId, long quantity) {
+        return entityManager.createQuery(INCREMENT)
+                .setParameter("quantity", Math.toIntExact(quantity))
+                .setParameter("id", productId)
+                .executeUpdate() == 1;
+    }
+}
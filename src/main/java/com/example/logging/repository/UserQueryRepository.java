@@ -0,0 +1,22 @@
+package com.example.logging.repository;
+
+import com.example.logging.dto.UserView;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자 목록 조회 (UserView 생성자 프로젝션)
+ */
+public interface UserQueryRepository {
+
+    /**
+     * afterId 다음 사용자 목록 (keyset, id 오름차순)
+     */
+    List<UserView> findPageAfter(long afterId, int limit);
+
+    /**
+     * 주어진 id 중 존재하는 id (대량 삭제 시 엔티티를 읽지 않고 결과 판단)
+     */
+    List<Long> findExistingIds(Collection<Long> ids);
+}
@@ -0,0 +1,40 @@
+package com.example.logging.repository;
+
+import com.example.logging.dto.UserView;
+import jakarta.persistence.EntityManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * UserQueryRepository 구현 (EntityManager로 직접 실행, ProductQueryRepositoryImpl 참고)
+ */
+class UserQueryRepositoryImpl implements UserQueryRepository {
+
+    private static final String PAGE_AFTER =
+            "select new com.example.logging.dto.UserView(u.id, u.name, u.email) from User u "
+                    + "where u.id > :afterId order by u.id asc";
+
+    private static final String EXISTING_IDS = "select u.id from User u where u.id in :ids";
+
+    private final EntityManager entityManager;
+
+    UserQueryRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<UserView> findPageAfter(long afterId, int limit) {
+        return entityManager.createQuery(PAGE_AFTER, UserView.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Long> findExistingIds(Collection<Long> ids) {
+        return entityManager.createQuery(EXISTING_IDS, Long.class)
+                .setParameter("ids", ids)
+                .getResultList();
+    }
+}
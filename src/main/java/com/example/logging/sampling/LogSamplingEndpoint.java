@@ -0,0 +1,107 @@
+package com.example.logging.sampling;
+
+import com.example.logging.logback.RateLimitingTurboFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 로그 샘플링/발생량 제한 설정 조회 및 변경 (/actuator/logsampling)
+ * POST /actuator/logsampling/{target} 본문 {"name": ..., "value": ...}
+ * - default: 요청 로그 기본 비율
+ * - route: 라우트 템플릿(name)별 요청 로그 비율, value 생략 시 제거
+ * - target: 라우트별 초당 목표 완료 로그 수 (0이면 자동 조절 안 함)
+ * - slow: 항상 기록할 느린 요청 기준(ms)
+ * - level: 레벨(name)별 샘플링 비율 (TRACE/DEBUG/INFO)
+ * - logger: 로거 또는 패키지(name)별 초당 이벤트 상한, value 생략 시 제거
+ */
+@Component
+@Endpoint(id = "logsampling")
+public class LogSamplingEndpoint {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogSamplingEndpoint.class);
+
+    private final RequestLogSampler sampler;
+    private final RateLimitingTurboFilter rateLimiter;
+
+    public LogSamplingEndpoint(RequestLogSampler sampler, RateLimitingTurboFilter rateLimiter) {
+        this.sampler = sampler;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @ReadOperation
+    public Map<String, Object> settings() {
+        Map<String, Object> requests = new LinkedHashMap<>();
+        requests.put("default_rate", sampler.getDefaultRate());
+        requests.put("route_rates", sampler.getRouteRates());
+        requests.put("target_per_second", sampler.getTargetPerSecond());
+        requests.put("adaptive_rates", sampler.getAdaptiveRates());
+        requests.put("slow_threshold_ms", sampler.getSlowThresholdMs());
+        requests.put("keep_status", sampler.getKeepStatus());
+        requests.put("kept", sampler.getKeptCount());
+        requests.put("sampled_out", sampler.getSampledOutCount());
+
+        Map<String, Object> rateLimit = new LinkedHashMap<>();
+        rateLimit.put("default_per_second", rateLimiter.getDefaultEventsPerSecond());
+        rateLimit.put("burst", rateLimiter.getBurst());
+        rateLimit.put("max_level", rateLimiter.getMaxLevel());
+        rateLimit.put("loggers", rateLimiter.getLoggerEventsPerSecond());
+        rateLimit.put("level_sample_rates", rateLimiter.getSampleRates());
+        rateLimit.put("level_sampled_out", rateLimiter.getSampledOutCount());
+        rateLimit.put("pending_suppressed", rateLimiter.getPendingSuppressed());
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("requests", requests);
+        settings.put("rate_limit", rateLimit);
+        return settings;
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(@Selector String target, @Nullable String name, @Nullable Double value) {
+        switch (target) {
+            case "default" -> sampler.setDefaultRate(require(value, target));
+            case "route" -> {
+                if (value == null) {
+                    sampler.removeRouteRate(requireName(name, target));
+                } else {
+                    sampler.setRouteRate(requireName(name, target), value);
+                }
+            }
+            case "target" -> sampler.setTargetPerSecond(require(value, target).longValue());
+            case "slow" -> sampler.setSlowThresholdMs(require(value, target).longValue());
+            case "level" -> rateLimiter.setSampleRate(requireName(name, target), require(value, target));
+            case "logger" -> {
+                if (value == null) {
+                    rateLimiter.removeLoggerEventsPerSecond(requireName(name, target));
+                } else {
+                    rateLimiter.setLoggerEventsPerSecond(requireName(name, target), value);
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown sampling target: " + target);
+        }
+        logger.info("Log sampling updated: target={}, name={}, value={}", target, name, value);
+        return settings();
+    }
+
+    private static Double require(Double value, String target) {
+        if (value == null) {
+            throw new IllegalArgumentException("value is required for " + target);
+        }
+        return value;
+    }
+
+    private static String requireName(String name, String target) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("name is required for " + target);
+        }
+        return name;
+    }
+}
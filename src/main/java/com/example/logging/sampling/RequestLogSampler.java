@@ -0,0 +1,188 @@
+package com.example.logging.sampling;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * HTTP 요청 로그 샘플러
+ * 요청이 끝난 뒤(tail-based) 결과를 보고 완료 로그를 남길지 결정합니다.
+ * - 실패, 느린 요청(slow-threshold-ms 이상), keep-status 이상 상태 코드는 항상 기록
+ * - 나머지는 라우트 템플릿별 비율(없으면 기본 비율)로 샘플링
+ * - target-per-second 지정 시 라우트별 직전 1초 요청 수에 맞춰 비율을 자동으로 낮춤
+ * 시작 로그는 라우트가 아직 결정되지 않은 시점이므로 요청 경로와 같은 키의 비율(없으면 기본 비율)이
+ * 1.0이고 자동 조절을 쓰지 않을 때만 기록합니다.
+ */
+@Component
+public class RequestLogSampler {
+
+    private final Map<String, Double> routeRates = new ConcurrentHashMap<>();
+    private final Map<String, RouteWindow> windows = new ConcurrentHashMap<>();
+    private final LongAdder kept = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final LongSupplier ticker;
+
+    private volatile double defaultRate;
+    private volatile long targetPerSecond;
+    private volatile long slowThresholdNanos;
+    private volatile int keepStatus;
+
+    @Autowired
+    public RequestLogSampler(@Value("${app.logging.sampling.default-rate:1.0}") double defaultRate,
+                             @Value("${app.logging.sampling.routes:}") String[] routeRates,
+                             @Value("${app.logging.sampling.target-per-second:0}") long targetPerSecond,
+                             @Value("${app.logging.sampling.slow-threshold-ms:1000}") long slowThresholdMs,
+                             @Value("${app.logging.sampling.keep-status:500}") int keepStatus) {
+        this(defaultRate, routeRates, targetPerSecond, slowThresholdMs, keepStatus, System::nanoTime);
+    }
+
+    RequestLogSampler(double defaultRate, String[] routeRates, long targetPerSecond,
+                      long slowThresholdMs, int keepStatus, LongSupplier ticker) {
+        this.ticker = ticker;
+        setDefaultRate(defaultRate);
+        setTargetPerSecond(targetPerSecond);
+        setSlowThresholdMs(slowThresholdMs);
+        this.keepStatus = keepStatus;
+        for (String entry : routeRates) {
+            // "/health=0.01" 형식, 라우트에 '='가 들어갈 수 없으므로 마지막 '=' 기준으로 분리
+            int separator = entry.lastIndexOf('=');
+            if (separator > 0) {
+                setRouteRate(entry.substring(0, separator).trim(),
+                        Double.parseDouble(entry.substring(separator + 1).trim()));
+            }
+        }
+    }
+
+    /**
+     * 요청 시작 로그 기록 여부
+     */
+    public boolean shouldLogStart(String path) {
+        return targetPerSecond <= 0 && routeRates.getOrDefault(path, defaultRate) >= 1.0;
+    }
+
+    /**
+     * 요청 완료 로그 기록 여부 (완료 시점의 결과 기준)
+     */
+    public boolean shouldLogCompletion(String route, int status, long durationNanos, Throwable failure) {
+        double rate = routeRates.getOrDefault(route, defaultRate);
+        if (targetPerSecond > 0) {
+            rate *= windows.computeIfAbsent(route, key -> new RouteWindow()).adjust(ticker.getAsLong(), targetPerSecond);
+        }
+        if (failure != null || status >= keepStatus || durationNanos >= slowThresholdNanos
+                || rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate)) {
+            kept.increment();
+            return true;
+        }
+        sampledOut.increment();
+        return false;
+    }
+
+    public double getDefaultRate() {
+        return defaultRate;
+    }
+
+    public void setDefaultRate(double defaultRate) {
+        this.defaultRate = clamp(defaultRate);
+    }
+
+    /**
+     * 라우트 템플릿별 비율 지정 (예: /api/products/{id})
+     */
+    public void setRouteRate(String route, double rate) {
+        routeRates.put(route, clamp(rate));
+    }
+
+    public void removeRouteRate(String route) {
+        routeRates.remove(route);
+    }
+
+    public Map<String, Double> getRouteRates() {
+        return new TreeMap<>(routeRates);
+    }
+
+    public long getTargetPerSecond() {
+        return targetPerSecond;
+    }
+
+    /**
+     * 라우트별 초당 목표 완료 로그 수 (0 이하면 자동 조절 안 함)
+     */
+    public void setTargetPerSecond(long targetPerSecond) {
+        this.targetPerSecond = targetPerSecond;
+        windows.clear();
+    }
+
+    public long getSlowThresholdMs() {
+        return TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos);
+    }
+
+    public void setSlowThresholdMs(long slowThresholdMs) {
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+    }
+
+    public int getKeepStatus() {
+        return keepStatus;
+    }
+
+    public void setKeepStatus(int keepStatus) {
+        this.keepStatus = keepStatus;
+    }
+
+    /**
+     * 자동 조절로 적용 중인 라우트별 비율
+     */
+    public Map<String, Double> getAdaptiveRates() {
+        Map<String, Double> rates = new TreeMap<>();
+        windows.forEach((route, window) -> rates.put(route, window.rate));
+        return rates;
+    }
+
+    public long getKeptCount() {
+        return kept.sum();
+    }
+
+    public long getSampledOutCount() {
+        return sampledOut.sum();
+    }
+
+    private static double clamp(double rate) {
+        return Math.max(0.0, Math.min(1.0, rate));
+    }
+
+    /**
+     * 라우트별 1초 단위 요청 수와 그에 맞춘 비율
+     */
+    private static final class RouteWindow {
+        private static final long SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+        private final LongAdder count = new LongAdder();
+        private volatile long windowStart = Long.MIN_VALUE;
+        private volatile double rate = 1.0;
+
+        double adjust(long nowNanos, long targetPerSecond) {
+            long start = windowStart;
+            if (start == Long.MIN_VALUE || nowNanos - start >= SECOND_NANOS) {
+                synchronized (this) {
+                    if (windowStart == start) {
+                        if (start != Long.MIN_VALUE) {
+                            // 요청이 뜸해 여러 초가 지났으면 초당 평균으로 계산
+                            double perSecond = count.sumThenReset() * (double) SECOND_NANOS / (nowNanos - start);
+                            rate = perSecond <= targetPerSecond ? 1.0 : targetPerSecond / perSecond;
+                        }
+                        windowStart = nowNanos;
+                    }
+                }
+            }
+            count.increment();
+            return rate;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.logging.security;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 노드용 메모리 폐기 목록 (jwt.revocation.store=memory, 테스트/벤치마크)
+ */
+public class InMemoryTokenRevocationStore implements TokenRevocationStore {
+
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private final Map<String, Instant> revokedSubjects = new ConcurrentHashMap<>();
+    private final Map<String, Instant> used = new ConcurrentHashMap<>();
+
+    @Override
+    public void revoke(String id, Instant expiresAt) {
+        revoked.merge(id, expiresAt, (a, b) -> a.isAfter(b) ? a : b);
+    }
+
+    @Override
+    public boolean isRevoked(String id) {
+        Instant expiresAt = revoked.get(id);
+        return expiresAt != null && expiresAt.isAfter(Instant.now());
+    }
+
+    @Override
+    public void revokeSubject(String subject, Instant revokedAt) {
+        revokedSubjects.put(subject, revokedAt);
+    }
+
+    @Override
+    public Instant getSubjectRevokedAt(String subject) {
+        return revokedSubjects.get(subject);
+    }
+
+    @Override
+    public boolean markUsed(String id, Instant expiresAt) {
+        return used.putIfAbsent(id, expiresAt) == null;
+    }
+
+    @Override
+    public Snapshot snapshot(Instant now, Instant subjectCutoff) {
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        used.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        revokedSubjects.values().removeIf(revokedAt -> revokedAt.isBefore(subjectCutoff));
+        return new Snapshot(new HashSet<>(revoked.keySet()), new HashSet<>(revokedSubjects.keySet()));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.logging.security;
+
+import java.time.Instant;
+
+/**
+ * 검증을 마친 JWT 클레임
+ * 한 번 파싱한 결과를 사용자명/만료 시간 조회에 재사용합니다.
+ *
+ * @param subject      사용자명 (sub)
+ * @param tokenId      토큰 ID (jti, 폐기 단위)
+ * @param familyId     리프레시 토큰 계열 ID (fam, 교체 시 유지되며 재사용 감지 시 계열 전체 폐기)
+ * @param refreshToken 리프레시 토큰 여부 (typ=refresh)
+ * @param keyId        서명 키 ID (kid, 없으면 현재 키로 검증된 토큰)
+ * @param issuedAt     발급 시각 (iat)
+ * @param expiresAt    만료 시각 (exp)
+ */
+public record JwtClaims(String subject, String tokenId, String familyId, boolean refreshToken,
+                        String keyId, Instant issuedAt, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
@@ -1,7 +1,17 @@
 package com.example.logging.security;
 
-import io.jsonwebtoken.*;
+import com.example.logging.security.VerifiedTokenCache.TokenHash;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,87 +20,245 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Instant;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * JWT 토큰 생성 및 검증 유틸리티
+ * 서명 키와 파서는 시작 시 한 번 만들고, 토큰은 parseAndValidate 한 번으로 검증해 JwtClaims로 재사용합니다.
+ * 키 교체: 새 토큰은 현재 키(jwt.key-id)로 서명하고 헤더에 kid를 남기며,
+ * jwt.previous-keys("kid=secret" 목록)의 이전 키로 서명된 토큰도 만료 전까지 검증합니다.
+ * kid가 없는 토큰(교체 기능 이전 발급분)은 현재 키로 검증합니다.
+ * 검증 결과는 VerifiedTokenCache에 exp까지 보관하며, 폐기 여부는 캐시 적중 시에도 매번 확인합니다.
+ * 폐기는 TokenRevocationService(Redis + 로컬 Bloom 필터)가 jti, 리프레시 계열(fam), 사용자 단위로 관리합니다.
+ * 리프레시 토큰은 한 번만 쓸 수 있으며(rotateRefreshToken), 이미 쓴 토큰이 다시 오면 계열 전체를 폐기합니다.
  */
 @Component
 public class JwtTokenProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
-    @Value("${jwt.secret:your-secret-key-change-this-in-production-must-be-at-least-256-bits}")
-    private String jwtSecret;
+    private static final String FAMILY_CLAIM = "fam";
+    private static final String TYPE_CLAIM = "typ";
+    private static final String REFRESH_TYPE = "refresh";
+    private static final String FAMILY_PREFIX = "fam:";
 
-    @Value("${jwt.expiration:86400000}") // 24시간
-    private long jwtExpirationMs;
+    private final long jwtExpirationMs;
+    private final long jwtRefreshExpirationMs;
+    private final String signingKeyId;
+    private final SecretKey signingKey;
+    private final Map<String, SecretKey> verificationKeys;
+    private final JwtParser parser;
+    private final VerifiedTokenCache tokenCache;
+    private final TokenRevocationService revocations;
 
-    @Value("${jwt.refresh-expiration:604800000}") // 7일
-    private long jwtRefreshExpirationMs;
+    public JwtTokenProvider(
+            @Value("${jwt.secret:your-secret-key-change-this-in-production-must-be-at-least-256-bits}") String jwtSecret,
+            @Value("${jwt.expiration:86400000}") long jwtExpirationMs, // 24시간
+            @Value("${jwt.refresh-expiration:604800000}") long jwtRefreshExpirationMs, // 7일
+            @Value("${jwt.key-id:default}") String keyId,
+            @Value("${jwt.previous-keys:}") String[] previousKeys,
+            @Value("${jwt.cache.max-entries:10000}") long cacheMaxEntries,
+            TokenRevocationService revocations) {
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.jwtRefreshExpirationMs = jwtRefreshExpirationMs;
+        this.signingKeyId = keyId;
+        this.signingKey = hmacKey(jwtSecret);
+
+        Map<String, SecretKey> keys = new LinkedHashMap<>();
+        keys.put(keyId, signingKey);
+        for (String entry : previousKeys) {
+            // "kid=secret" 형식, secret에 '='가 들어갈 수 있으므로 첫 '=' 기준으로 분리
+            int separator = entry.indexOf('=');
+            if (separator > 0) {
+                keys.putIfAbsent(entry.substring(0, separator).trim(), hmacKey(entry.substring(separator + 1).trim()));
+            }
+        }
+        this.verificationKeys = Collections.unmodifiableMap(keys);
+        this.parser = Jwts.parser()
+                .keyLocator(new KeyIdLocator())
+                .build();
+        this.tokenCache = new VerifiedTokenCache(cacheMaxEntries);
+        this.revocations = revocations;
+        logger.info("JWT keys loaded: signing kid={}, verification kids={}", signingKeyId, verificationKeys.keySet());
+    }
 
     /**
      * JWT 토큰 생성
      */
     public String generateToken(Authentication authentication) {
-        String username = authentication.getName();
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
+        return buildToken(authentication.getName(), jwtExpirationMs, null, false);
+    }
 
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    /**
+     * 리프레시 토큰 생성 (새 계열 시작)
+     */
+    public String generateRefreshToken(String username) {
+        return buildToken(username, jwtRefreshExpirationMs, newId(), true);
+    }
 
-        return Jwts.builder()
-                .setSubject(username)
-                .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(key, SignatureAlgorithm.HS512)
-                .compact();
+    /**
+     * 로그인 시 액세스/리프레시 토큰을 같은 계열로 발급
+     */
+    public TokenPair issueTokens(String username) {
+        String familyId = newId();
+        return new TokenPair(
+                buildToken(username, jwtExpirationMs, familyId, false),
+                buildToken(username, jwtRefreshExpirationMs, familyId, true));
     }
 
     /**
-     * 리프레시 토큰 생성
+     * 리프레시 토큰 교체: 사용한 토큰은 다시 쓸 수 없고 같은 계열의 새 토큰 쌍을 발급
+     * 이미 사용된 리프레시 토큰이 들어오면 탈취로 보고 계열 전체(발급된 액세스 토큰 포함)를 폐기합니다.
+     *
+     * @throws RevokedJwtException 재사용 감지 또는 폐기된 토큰
+     * @throws UnsupportedJwtException 리프레시 토큰이 아닌 경우
      */
-    public String generateRefreshToken(String username) {
+    public TokenPair rotateRefreshToken(String refreshToken) {
+        JwtClaims claims = parseAndValidate(refreshToken);
+        if (!claims.refreshToken() || claims.tokenId() == null || claims.familyId() == null) {
+            throw new UnsupportedJwtException("Not a refresh token");
+        }
+        if (!revocations.markUsed(claims.tokenId(), claims.expiresAt())) {
+            // 계열의 마지막 토큰이 만료될 때까지 유지
+            revocations.revoke(FAMILY_PREFIX + claims.familyId(), Instant.now().plusMillis(jwtRefreshExpirationMs));
+            logger.warn("Refresh token reuse detected, token family revoked: subject={}, family={}",
+                    claims.subject(), claims.familyId());
+            throw new RevokedJwtException("Refresh token reuse detected");
+        }
+        return new TokenPair(
+                buildToken(claims.subject(), jwtExpirationMs, claims.familyId(), false),
+                buildToken(claims.subject(), jwtRefreshExpirationMs, claims.familyId(), true));
+    }
+
+    private String buildToken(String username, long validityMs, String familyId, boolean refresh) {
         Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + jwtRefreshExpirationMs);
+        Date expiryDate = new Date(now.getTime() + validityMs);
 
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        var builder = Jwts.builder()
+                .header().keyId(signingKeyId).and()
+                .id(newId())
+                .subject(username)
+                .issuedAt(now)
+                .expiration(expiryDate);
+        if (familyId != null) {
+            builder.claim(FAMILY_CLAIM, familyId);
+        }
+        if (refresh) {
+            builder.claim(TYPE_CLAIM, REFRESH_TYPE);
+        }
+        return builder.signWith(signingKey, Jwts.SIG.HS512).compact();
+    }
 
-        return Jwts.builder()
-                .setSubject(username)
-                .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(key, SignatureAlgorithm.HS512)
-                .compact();
+    /**
+     * jti/계열 ID (유일성만 필요하므로 SecureRandom 대신 ThreadLocalRandom)
+     */
+    private static String newId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new UUID(random.nextLong(), random.nextLong()).toString();
     }
 
     /**
-     * JWT 토큰에서 사용자명 추출
+     * 서명, 만료, 폐기 여부를 검증하고 클레임 반환
+     * 검증된 토큰은 캐시에서 바로 반환하고, 캐시에 없을 때만 서명을 검증합니다.
+     *
+     * @throws JwtException 서명 불일치, 만료, 형식 오류, 알 수 없는 kid, 폐기(RevokedJwtException)
+     * @throws IllegalArgumentException 토큰이 비어 있는 경우
      */
-    public String getUsernameFromToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    public JwtClaims parseAndValidate(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT string cannot be null or empty.");
+        }
+        TokenHash key = VerifiedTokenCache.hash(token);
+        JwtClaims claims = tokenCache.get(key);
+        if (claims != null) {
+            checkNotRevoked(key, claims);
+            return claims;
+        }
+        claims = verify(token);
+        checkNotRevoked(key, claims);
+        tokenCache.put(key, claims);
+        return claims;
+    }
 
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private JwtClaims verify(String token) {
+        var jws = parser.parseSignedClaims(token);
+        Claims claims = jws.getPayload();
+        return new JwtClaims(
+                claims.getSubject(),
+                claims.getId(),
+                claims.get(FAMILY_CLAIM, String.class),
+                REFRESH_TYPE.equals(claims.get(TYPE_CLAIM, String.class)),
+                jws.getHeader().getKeyId(),
+                toInstant(claims.getIssuedAt()),
+                toInstant(claims.getExpiration()));
+    }
 
-        return claims.getSubject();
+    private void checkNotRevoked(TokenHash key, JwtClaims claims) {
+        if (revocations.isRevoked(revocationId(key, claims))
+                || (claims.familyId() != null && revocations.isRevoked(FAMILY_PREFIX + claims.familyId()))
+                || revocations.isSubjectRevoked(claims.subject(), claims.issuedAt())) {
+            throw new RevokedJwtException("JWT token has been revoked");
+        }
     }
 
     /**
-     * JWT 토큰 검증
+     * 폐기 ID: jti, jti가 없는 이전 발급 토큰은 토큰 해시
      */
-    public boolean validateToken(String authToken) {
+    private static String revocationId(TokenHash key, JwtClaims claims) {
+        return claims.tokenId() != null ? claims.tokenId() : key.toHex();
+    }
+
+    /**
+     * 토큰 폐기 (만료 시각까지 모든 노드에서 거부, 캐시에서도 제거)
+     * 이미 만료되었거나 유효하지 않은 토큰은 무시합니다.
+     */
+    public void revokeToken(String token) {
+        JwtClaims claims;
         try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+            claims = verify(token);
+        } catch (JwtException | IllegalArgumentException ex) {
+            return;
+        }
+        TokenHash key = VerifiedTokenCache.hash(token);
+        revocations.revoke(revocationId(key, claims),
+                claims.expiresAt() != null ? claims.expiresAt() : Instant.now().plusMillis(jwtRefreshExpirationMs));
+        tokenCache.invalidate(key);
+    }
 
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(authToken);
+    /**
+     * 사용자의 지금까지 발급된 모든 토큰 폐기 (iat가 초 단위이므로 같은 초에 발급된 토큰도 거부)
+     */
+    public void revokeAllTokens(String username) {
+        revocations.revokeSubject(username);
+    }
 
+    /**
+     * 검증 결과 캐시 (적중률 확인, 키 교체 시 invalidateAll)
+     */
+    public VerifiedTokenCache getTokenCache() {
+        return tokenCache;
+    }
+
+    /**
+     * JWT 토큰에서 사용자명 추출
+     */
+    public String getUsernameFromToken(String token) {
+        return parseAndValidate(token).subject();
+    }
+
+    /**
+     * JWT 토큰 검증
+     */
+    public boolean validateToken(String authToken) {
+        try {
+            parseAndValidate(authToken);
             return true;
         } catch (SecurityException ex) {
             logger.error("Invalid JWT signature: {}", ex.getMessage());
@@ -100,6 +268,10 @@ public class JwtTokenProvider {
             logger.error("Expired JWT token: {}", ex.getMessage());
         } catch (UnsupportedJwtException ex) {
             logger.error("Unsupported JWT token: {}", ex.getMessage());
+        } catch (RevokedJwtException ex) {
+            logger.error("Revoked JWT token: {}", ex.getMessage());
+        } catch (JwtException ex) {
+            logger.error("JWT validation failed: {}", ex.getMessage());
         } catch (IllegalArgumentException ex) {
             logger.error("JWT claims string is empty: {}", ex.getMessage());
         }
@@ -111,22 +283,45 @@ public class JwtTokenProvider {
      * 토큰 만료 시간 확인
      */
     public Date getExpirationDateFromToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getExpiration();
+        Instant expiresAt = parseAndValidate(token).expiresAt();
+        return expiresAt != null ? Date.from(expiresAt) : null;
     }
 
     /**
      * 토큰이 만료되었는지 확인
+     * 서명이 유효하고 만료된 토큰은 검증 단계에서 ExpiredJwtException으로 드러나므로 다시 파싱하지 않습니다.
      */
     public boolean isTokenExpired(String token) {
-        Date expiration = getExpirationDateFromToken(token);
-        return expiration.before(new Date());
+        try {
+            return parseAndValidate(token).isExpired(Instant.now());
+        } catch (ExpiredJwtException ex) {
+            return true;
+        }
+    }
+
+    private static SecretKey hmacKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+
+    /**
+     * 헤더의 kid로 검증 키 선택 (kid가 없으면 현재 서명 키)
+     */
+    private final class KeyIdLocator extends LocatorAdapter<Key> {
+        @Override
+        protected Key locate(JwsHeader header) {
+            String keyId = header.getKeyId();
+            if (keyId == null) {
+                return signingKey;
+            }
+            SecretKey key = verificationKeys.get(keyId);
+            if (key == null) {
+                throw new UnsupportedJwtException("Unknown JWT key id: " + keyId);
+            }
+            return key;
+        }
     }
 }
@@ -0,0 +1,79 @@
+package com.example.logging.security;
+
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 기반 토큰 폐기 목록
+ * - jwt:revoked (ZSET): 폐기 ID, score는 만료 시각(epoch 초)이며 스냅샷 시 만료분을 정리
+ * - jwt:revoked-subjects (HASH): 사용자명 → 폐기 시각(epoch ms)
+ * - jwt:used:{jti} (STRING, TTL): 사용된 리프레시 토큰, SET NX로 재사용 감지
+ */
+public class RedisTokenRevocationStore implements TokenRevocationStore {
+
+    static final String REVOKED_KEY = "jwt:revoked";
+    static final String REVOKED_SUBJECTS_KEY = "jwt:revoked-subjects";
+    static final String USED_KEY_PREFIX = "jwt:used:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public RedisTokenRevocationStore(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void revoke(String id, Instant expiresAt) {
+        redisTemplate.opsForZSet().add(REVOKED_KEY, id, expiresAt.getEpochSecond());
+    }
+
+    @Override
+    public boolean isRevoked(String id) {
+        Double expiresAt = redisTemplate.opsForZSet().score(REVOKED_KEY, id);
+        return expiresAt != null && expiresAt > Instant.now().getEpochSecond();
+    }
+
+    @Override
+    public void revokeSubject(String subject, Instant revokedAt) {
+        redisTemplate.opsForHash().put(REVOKED_SUBJECTS_KEY, subject, revokedAt.toEpochMilli());
+    }
+
+    @Override
+    public Instant getSubjectRevokedAt(String subject) {
+        Object revokedAt = redisTemplate.opsForHash().get(REVOKED_SUBJECTS_KEY, subject);
+        return revokedAt instanceof Number millis ? Instant.ofEpochMilli(millis.longValue()) : null;
+    }
+
+    @Override
+    public boolean markUsed(String id, Instant expiresAt) {
+        Duration ttl = Duration.between(Instant.now(), expiresAt);
+        Boolean first = redisTemplate.opsForValue().setIfAbsent(USED_KEY_PREFIX + id, 1,
+                ttl.compareTo(Duration.ofSeconds(1)) > 0 ? ttl : Duration.ofSeconds(1));
+        return Boolean.TRUE.equals(first);
+    }
+
+    @Override
+    public Snapshot snapshot(Instant now, Instant subjectCutoff) {
+        long nowSeconds = now.getEpochSecond();
+        redisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, Double.NEGATIVE_INFINITY, nowSeconds);
+        Set<String> ids = new HashSet<>();
+        Set<Object> members = redisTemplate.opsForZSet().rangeByScore(REVOKED_KEY, nowSeconds, Double.POSITIVE_INFINITY);
+        if (members != null) {
+            members.forEach(member -> ids.add(member.toString()));
+        }
+
+        Set<String> subjects = new HashSet<>();
+        for (Map.Entry<Object, Object> entry : redisTemplate.opsForHash().entries(REVOKED_SUBJECTS_KEY).entrySet()) {
+            if (entry.getValue() instanceof Number millis && millis.longValue() < subjectCutoff.toEpochMilli()) {
+                redisTemplate.opsForHash().delete(REVOKED_SUBJECTS_KEY, entry.getKey());
+            } else {
+                subjects.add(entry.getKey().toString());
+            }
+        }
+        return new Snapshot(ids, subjects);
+    }
+}
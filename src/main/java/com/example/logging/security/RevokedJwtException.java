@@ -0,0 +1,13 @@
+package com.example.logging.security;
+
+import io.jsonwebtoken.JwtException;
+
+/**
+ * 서명과 만료는 유효하지만 폐기된 토큰
+ */
+public class RevokedJwtException extends JwtException {
+
+    public RevokedJwtException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.logging.security;
+
+/**
+ * 같은 계열로 발급한 액세스/리프레시 토큰
+ */
+public record TokenPair(String accessToken, String refreshToken) {
+}
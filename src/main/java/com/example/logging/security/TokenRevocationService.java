@@ -0,0 +1,165 @@
+package com.example.logging.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 토큰 폐기 확인
+ * 폐기 목록은 TokenRevocationStore(Redis)에 두고, 로컬 Bloom 필터로 대부분의 조회를 네트워크 없이 끝냅니다.
+ * - Bloom 필터가 없다고 답하면 폐기되지 않은 토큰 (네트워크 조회 생략)
+ * - 있다고 답하면 저장소에서 확인하며, 저장소 장애 시에는 폐기된 것으로 취급 (fail-closed)
+ * - 필터는 rebuild-interval마다 저장소 스냅샷으로 다시 만들고, 이 노드에서 폐기한 ID는 즉시 추가
+ * 다른 노드에서 폐기한 토큰은 다음 재구성(최대 rebuild-interval)부터 거부됩니다.
+ * 기동 직후 첫 재구성 전이나 저장소 장애로 재구성에 실패하면 이전 필터를 그대로 사용합니다.
+ */
+@Component
+public class TokenRevocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private static final String SUBJECT_PREFIX = "sub:";
+    private static final int MIN_EXPECTED_INSERTIONS = 1024;
+
+    private final TokenRevocationStore store;
+    private final double falsePositiveRate;
+    private final Duration maxTokenLifetime;
+    private final Clock clock;
+    private final LongAdder bloomNegatives = new LongAdder();
+    private final LongAdder storeLookups = new LongAdder();
+    // 이 노드에서 폐기한 필터 항목 → 만료 시각 (재구성 중 폐기분이 새 필터에서 빠지지 않도록 유지)
+    private final Map<String, Instant> localRevocations = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter filter;
+
+    @Autowired
+    public TokenRevocationService(TokenRevocationStore store,
+                                  @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+                                  @Value("${jwt.refresh-expiration:604800000}") long maxTokenLifetimeMs) {
+        this(store, falsePositiveRate, Duration.ofMillis(maxTokenLifetimeMs), Clock.systemUTC());
+    }
+
+    TokenRevocationService(TokenRevocationStore store, double falsePositiveRate,
+                           Duration maxTokenLifetime, Clock clock) {
+        this.store = store;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxTokenLifetime = maxTokenLifetime;
+        this.clock = clock;
+        this.filter = BloomFilter.create(MIN_EXPECTED_INSERTIONS, falsePositiveRate);
+    }
+
+    /**
+     * ID(jti 또는 family) 폐기 여부
+     */
+    public boolean isRevoked(String id) {
+        if (!filter.mightContain(id)) {
+            bloomNegatives.increment();
+            return false;
+        }
+        Instant localExpiry = localRevocations.get(id);
+        if (localExpiry != null && localExpiry.isAfter(clock.instant())) {
+            return true;
+        }
+        storeLookups.increment();
+        try {
+            return store.isRevoked(id);
+        } catch (DataAccessException ex) {
+            logger.warn("Token revocation lookup failed, rejecting token: {}", ex.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 사용자 단위 폐기 이전에 발급된 토큰인지 (iat가 초 단위이므로 같은 초에 발급된 토큰도 거부)
+     */
+    public boolean isSubjectRevoked(String subject, Instant issuedAt) {
+        if (subject == null || !filter.mightContain(SUBJECT_PREFIX + subject)) {
+            bloomNegatives.increment();
+            return false;
+        }
+        storeLookups.increment();
+        try {
+            Instant revokedAt = store.getSubjectRevokedAt(subject);
+            return revokedAt != null && (issuedAt == null || !issuedAt.isAfter(revokedAt));
+        } catch (DataAccessException ex) {
+            logger.warn("Subject revocation lookup failed, rejecting token: {}", ex.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * ID 폐기 (로컬에 먼저 기록하므로 저장소 기록이 실패해도 이 노드에서는 거부)
+     */
+    public void revoke(String id, Instant expiresAt) {
+        localRevocations.put(id, expiresAt);
+        filter.add(id);
+        store.revoke(id, expiresAt);
+    }
+
+    /**
+     * 사용자의 지금까지 발급된 모든 토큰 폐기
+     */
+    public void revokeSubject(String subject) {
+        Instant now = clock.instant();
+        localRevocations.put(SUBJECT_PREFIX + subject, now.plus(maxTokenLifetime));
+        filter.add(SUBJECT_PREFIX + subject);
+        store.revokeSubject(subject, now);
+    }
+
+    /**
+     * 리프레시 토큰 사용 표시 (이미 사용된 토큰이면 false)
+     */
+    public boolean markUsed(String id, Instant expiresAt) {
+        return store.markUsed(id, expiresAt);
+    }
+
+    /**
+     * 저장소 스냅샷으로 Bloom 필터 재구성
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval-ms:5000}")
+    public void rebuild() {
+        Instant now = clock.instant();
+        TokenRevocationStore.Snapshot snapshot;
+        try {
+            snapshot = store.snapshot(now, now.minus(maxTokenLifetime));
+        } catch (DataAccessException ex) {
+            logger.warn("Token revocation filter rebuild failed, keeping previous filter: {}", ex.getMessage());
+            return;
+        }
+        int entries = snapshot.ids().size() + snapshot.subjects().size();
+        // 재구성 사이에 추가될 폐기분을 고려해 여유 있게 잡음
+        BloomFilter rebuilt = BloomFilter.create(Math.max(MIN_EXPECTED_INSERTIONS, entries * 2L), falsePositiveRate);
+        snapshot.ids().forEach(rebuilt::add);
+        snapshot.subjects().forEach(subject -> rebuilt.add(SUBJECT_PREFIX + subject));
+        localRevocations.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        localRevocations.keySet().forEach(rebuilt::add);
+        filter = rebuilt;
+        // 교체 직전에 폐기된 항목 반영
+        localRevocations.keySet().forEach(rebuilt::add);
+    }
+
+    /**
+     * Bloom 필터로 저장소 조회를 생략한 횟수
+     */
+    public long getBloomNegativeCount() {
+        return bloomNegatives.sum();
+    }
+
+    /**
+     * 저장소에서 확인한 횟수 (폐기된 토큰 + 오탐)
+     */
+    public long getStoreLookupCount() {
+        return storeLookups.sum();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.logging.security;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * 토큰 폐기 목록 저장소 (노드 간 공유)
+ * 폐기 ID는 토큰 jti 또는 리프레시 토큰 계열(family) ID이며, 만료 시각이 지나면 삭제해도 됩니다.
+ */
+public interface TokenRevocationStore {
+
+    /**
+     * ID 폐기 (expiresAt까지 유지)
+     */
+    void revoke(String id, Instant expiresAt);
+
+    boolean isRevoked(String id);
+
+    /**
+     * 사용자 단위 폐기 (revokedAt 이전에 발급된 토큰 거부)
+     */
+    void revokeSubject(String subject, Instant revokedAt);
+
+    /**
+     * 사용자 단위 폐기 시각 (없으면 null)
+     */
+    Instant getSubjectRevokedAt(String subject);
+
+    /**
+     * 리프레시 토큰 사용 표시. 처음 사용이면 true, 이미 사용된 토큰(재사용)이면 false
+     */
+    boolean markUsed(String id, Instant expiresAt);
+
+    /**
+     * 만료된 항목을 정리하고 현재 폐기 목록 반환 (Bloom 필터 재구성용)
+     * subjectCutoff 이전의 사용자 단위 폐기는 대상 토큰이 모두 만료되었으므로 정리합니다.
+     */
+    Snapshot snapshot(Instant now, Instant subjectCutoff);
+
+    /**
+     * 폐기 목록 스냅샷
+     */
+    record Snapshot(Set<String> ids, Set<String> subjects) {
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.logging.security;
+
+import com.example.logging.cache.BoundedLocalCache;
+import com.example.logging.cache.RemovalListener;
+import com.example.logging.cache.Weigher;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 서명 검증을 마친 토큰의 클레임 캐시
+ * 같은 토큰이 수명 동안 반복해서 들어오므로 HS512 검증과 파싱을 한 번만 하도록 합니다.
+ * - 키는 토큰 원문 대신 SHA-256 해시 (메모리에 토큰을 남기지 않음)
+ * - 항목은 토큰의 exp에 만료되고, 조회 시에도 exp를 다시 확인
+ * - 폐기 여부는 캐시가 아니라 호출자(JwtTokenProvider)가 매 조회마다 확인하며,
+ *   invalidate 계열 메서드는 폐기 시 메모리에서 바로 내리기 위한 훅입니다.
+ * maxEntries가 0 이하면 아무것도 저장하지 않습니다.
+ */
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    });
+
+    private final BoundedLocalCache<TokenHash, JwtClaims> cache;
+    private final Clock clock;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public VerifiedTokenCache(long maxEntries) {
+        this(maxEntries, System::nanoTime, Clock.systemUTC());
+    }
+
+    /**
+     * ticker/clock: 테스트에서 시간 제어용
+     */
+    VerifiedTokenCache(long maxEntries, LongSupplier ticker, Clock clock) {
+        this.cache = maxEntries > 0
+                ? new BoundedLocalCache<>(maxEntries, Long.MAX_VALUE, Weigher.singleton(), RemovalListener.noop(), ticker)
+                : null;
+        this.clock = clock;
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * 토큰 해시 (캐시와 폐기 목록의 공통 키)
+     */
+    public static TokenHash hash(String token) {
+        MessageDigest digest = SHA_256.get();
+        byte[] bytes = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new TokenHash(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * 만료되지 않은 캐시 항목 조회 (없으면 null)
+     */
+    public JwtClaims get(TokenHash key) {
+        if (cache == null) {
+            return null;
+        }
+        JwtClaims claims = cache.get(key);
+        if (claims == null || claims.isExpired(clock.instant())) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return claims;
+    }
+
+    /**
+     * 검증된 클레임 저장 (exp까지 유지, exp가 없거나 지났으면 저장하지 않음)
+     */
+    public void put(TokenHash key, JwtClaims claims) {
+        if (cache == null || claims.expiresAt() == null) {
+            return;
+        }
+        long ttlNanos = Duration.between(clock.instant(), claims.expiresAt()).toNanos();
+        if (ttlNanos > 0) {
+            cache.put(key, claims, ttlNanos);
+        }
+    }
+
+    /**
+     * 토큰 하나를 캐시에서 제거 (폐기 훅)
+     */
+    public void invalidate(TokenHash key) {
+        if (cache != null) {
+            cache.remove(key);
+        }
+    }
+
+    /**
+     * 전체 제거 (키 교체, 사용자 단위 폐기 등)
+     */
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * 만료 항목 정리
+     */
+    public int cleanUp() {
+        return cache != null ? cache.cleanUp() : 0;
+    }
+
+    public int size() {
+        return cache != null ? cache.size() : 0;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 토큰의 SHA-256 해시 (256비트)
+     */
+    public record TokenHash(long h0, long h1, long h2, long h3) {
+
+        public String toHex() {
+            return String.format("%016x%016x%016x%016x", h0, h1, h2, h3);
+        }
+    }
+}
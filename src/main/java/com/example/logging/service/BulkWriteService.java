@@ -0,0 +1,344 @@
+package com.example.logging.service;
+
+import com.example.logging.config.AppConstants.CacheNames;
+import com.example.logging.dto.BulkItemResult;
+import com.example.logging.dto.BulkResult;
+import com.example.logging.dto.ProductView;
+import com.example.logging.dto.UserView;
+import com.example.logging.entity.Product;
+import com.example.logging.entity.User;
+import com.example.logging.repository.ProductRepository;
+import com.example.logging.repository.UserRepository;
+import com.example.logging.util.LoggerUtil;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * 상품/사용자 대량 등록/수정/삭제 서비스
+ * 요청을 chunk-size 건씩 나눠 chunk마다 트랜잭션 하나로 처리하고, 끝에서 flush/clear 하여
+ * INSERT/UPDATE는 JDBC 배치(hibernate.jdbc.batch_size)로 전송되고 영속성 컨텍스트는 chunk 크기를 넘지 않습니다.
+ * chunk가 DB 오류로 실패하면 해당 chunk만 항목별 트랜잭션으로 다시 처리해 실패 항목을 찾아냅니다.
+ * 캐시는 항목별로 무효화하지 않고 작업이 끝난 뒤 관련 캐시를 한 번에 비웁니다.
+ */
+@Service
+public class BulkWriteService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkWriteService.class);
+    private static final Pattern EMAIL = Pattern.compile("^[^\\s@]+@[^\\s@]+\\.[^\\s@]+$");
+
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final int chunkSize;
+
+    public BulkWriteService(ProductRepository productRepository,
+                            UserRepository userRepository,
+                            EntityManager entityManager,
+                            PlatformTransactionManager transactionManager,
+                            CacheManager cacheManager,
+                            @Value("${app.bulk.chunk-size:500}") int chunkSize) {
+        this.productRepository = productRepository;
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheManager = cacheManager;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * 상품 대량 등록 (id는 무시하고 새로 발급)
+     */
+    public BulkResult createProducts(List<ProductView> products) {
+        BulkResult result = run("create_products", products, BulkWriteService::validateProduct,
+                chunk -> {
+                    List<Product> entities = new ArrayList<>(chunk.size());
+                    for (Indexed<ProductView> item : chunk) {
+                        entities.add(new Product(item.value().name(), item.value().description(), item.value().price()));
+                    }
+                    productRepository.saveAll(entities);
+                    flushAndClear(productRepository);
+                    List<BulkItemResult> results = new ArrayList<>(chunk.size());
+                    for (int i = 0; i < chunk.size(); i++) {
+                        results.add(BulkItemResult.ok(chunk.get(i).index(), entities.get(i).getId(), BulkItemResult.CREATED));
+                    }
+                    return results;
+                });
+        evictProductCaches(result);
+        return result;
+    }
+
+    /**
+     * 상품 대량 수정 (id 필수, 없는 상품은 not_found)
+     */
+    public BulkResult updateProducts(List<ProductView> products) {
+        BulkResult result = run("update_products", products,
+                product -> product.id() == null ? "id is required" : validateProduct(product),
+                chunk -> {
+                    Map<Long, Product> found = new HashMap<>();
+                    for (Product product : productRepository.findAllById(ids(chunk, ProductView::id))) {
+                        found.put(product.getId(), product);
+                    }
+                    List<BulkItemResult> results = new ArrayList<>(chunk.size());
+                    for (Indexed<ProductView> item : chunk) {
+                        Product product = found.get(item.value().id());
+                        if (product == null) {
+                            results.add(BulkItemResult.ok(item.index(), item.value().id(), BulkItemResult.NOT_FOUND));
+                            continue;
+                        }
+                        product.setName(item.value().name());
+                        product.setDescription(item.value().description());
+                        product.setPrice(item.value().price());
+                        results.add(BulkItemResult.ok(item.index(), product.getId(), BulkItemResult.UPDATED));
+                    }
+                    // dirty checking으로 변경분만 UPDATE 배치 전송
+                    flushAndClear(productRepository);
+                    return results;
+                });
+        evictProductCaches(result);
+        return result;
+    }
+
+    /**
+     * 상품 대량 삭제 (없는 id는 not_found)
+     */
+    public BulkResult deleteProducts(List<Long> ids) {
+        BulkResult result = run("delete_products", ids, BulkWriteService::validateId,
+                chunk -> delete(chunk, productRepository.findExistingIds(ids(chunk, Function.identity())),
+                        productRepository::deleteAllByIdInBatch));
+        evictProductCaches(result);
+        return result;
+    }
+
+    /**
+     * 사용자 대량 등록 (이메일 중복 등 DB 제약 위반 항목은 failed)
+     */
+    public BulkResult createUsers(List<UserView> users) {
+        // 새 사용자는 아직 캐시에 없으므로 무효화할 캐시가 없음
+        return run("create_users", users, BulkWriteService::validateUser,
+                chunk -> {
+                    List<User> entities = new ArrayList<>(chunk.size());
+                    for (Indexed<UserView> item : chunk) {
+                        entities.add(new User(item.value().name(), item.value().email()));
+                    }
+                    userRepository.saveAll(entities);
+                    flushAndClear(userRepository);
+                    List<BulkItemResult> results = new ArrayList<>(chunk.size());
+                    for (int i = 0; i < chunk.size(); i++) {
+                        results.add(BulkItemResult.ok(chunk.get(i).index(), entities.get(i).getId(), BulkItemResult.CREATED));
+                    }
+                    return results;
+                });
+    }
+
+    /**
+     * 사용자 대량 수정 (id 필수, 없는 사용자는 not_found)
+     */
+    public BulkResult updateUsers(List<UserView> users) {
+        BulkResult result = run("update_users", users,
+                user -> user.id() == null ? "id is required" : validateUser(user),
+                chunk -> {
+                    Map<Long, User> found = new HashMap<>();
+                    for (User user : userRepository.findAllById(ids(chunk, UserView::id))) {
+                        found.put(user.getId(), user);
+                    }
+                    List<BulkItemResult> results = new ArrayList<>(chunk.size());
+                    for (Indexed<UserView> item : chunk) {
+                        User user = found.get(item.value().id());
+                        if (user == null) {
+                            results.add(BulkItemResult.ok(item.index(), item.value().id(), BulkItemResult.NOT_FOUND));
+                            continue;
+                        }
+                        user.setName(item.value().name());
+                        user.setEmail(item.value().email());
+                        results.add(BulkItemResult.ok(item.index(), user.getId(), BulkItemResult.UPDATED));
+                    }
+                    flushAndClear(userRepository);
+                    return results;
+                });
+        evictUserCache(result);
+        return result;
+    }
+
+    /**
+     * 사용자 대량 삭제 (없는 id는 not_found)
+     */
+    public BulkResult deleteUsers(List<Long> ids) {
+        BulkResult result = run("delete_users", ids, BulkWriteService::validateId,
+                chunk -> delete(chunk, userRepository.findExistingIds(ids(chunk, Function.identity())),
+                        userRepository::deleteAllByIdInBatch));
+        evictUserCache(result);
+        return result;
+    }
+
+    /**
+     * 검증 후 chunk 단위로 처리하고 결과를 요청 순서로 모음
+     *
+     * @param validator 오류 메시지 반환, 통과하면 null
+     */
+    private <T> BulkResult run(String operation, List<T> items, Function<T, String> validator,
+                               ChunkWriter<T> writer) {
+        BulkItemResult[] results = new BulkItemResult[items.size()];
+        List<Indexed<T>> chunk = new ArrayList<>(Math.min(chunkSize, items.size()));
+        for (int i = 0; i < items.size(); i++) {
+            T item = items.get(i);
+            String error = item == null ? "item is required" : validator.apply(item);
+            if (error != null) {
+                results[i] = BulkItemResult.error(i, null, BulkItemResult.INVALID, error);
+                continue;
+            }
+            chunk.add(new Indexed<>(i, item));
+            if (chunk.size() == chunkSize) {
+                writeChunk(operation, chunk, writer, results);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(operation, chunk, writer, results);
+        }
+        return BulkResult.of(Arrays.asList(results));
+    }
+
+    private <T> void writeChunk(String operation, List<Indexed<T>> chunk, ChunkWriter<T> writer,
+                                BulkItemResult[] results) {
+        try {
+            for (BulkItemResult result : transactionTemplate.execute(status -> writer.write(chunk))) {
+                results[result.index()] = result;
+            }
+            return;
+        } catch (DataAccessException | TransactionException ex) {
+            // 롤백된 chunk는 항목마다 따로 커밋해 실패 항목만 골라냄
+            logger.warn("대량 처리 chunk 실패, 항목별 재시도: operation={}, size={}, error={}",
+                    operation, chunk.size(), ex.getMessage());
+        }
+        for (Indexed<T> item : chunk) {
+            try {
+                BulkItemResult result = transactionTemplate.execute(status -> writer.write(List.of(item))).get(0);
+                results[item.index()] = result;
+            } catch (DataAccessException | TransactionException ex) {
+                Map<String, Object> context = new HashMap<>();
+                context.put("operation", operation);
+                context.put("index", item.index());
+                LoggerUtil.logError(logger, "Bulk item failed", ex, context);
+                results[item.index()] = BulkItemResult.error(item.index(), null, BulkItemResult.FAILED,
+                        ex.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    private List<BulkItemResult> delete(List<Indexed<Long>> chunk, List<Long> existing,
+                                        Consumer<List<Long>> deleteInBatch) {
+        Set<Long> found = new HashSet<>(existing);
+        if (!found.isEmpty()) {
+            deleteInBatch.accept(new ArrayList<>(found));
+        }
+        List<BulkItemResult> results = new ArrayList<>(chunk.size());
+        for (Indexed<Long> item : chunk) {
+            // 같은 id가 여러 번 오면 처음 것만 deleted
+            String status = found.remove(item.value()) ? BulkItemResult.DELETED : BulkItemResult.NOT_FOUND;
+            results.add(BulkItemResult.ok(item.index(), item.value(), status));
+        }
+        return results;
+    }
+
+    /**
+     * 저장소를 통해 flush 해야 제약 위반 등이 DataAccessException으로 변환됨
+     */
+    private void flushAndClear(JpaRepository<?, ?> repository) {
+        repository.flush();
+        entityManager.clear();
+    }
+
+    private void evictProductCaches(BulkResult result) {
+        if (result.succeeded() == 0) {
+            return;
+        }
+        clearCache(CacheNames.PRODUCT_LIST);
+        if (result.any(BulkItemResult.UPDATED) || result.any(BulkItemResult.DELETED)) {
+            clearCache(CacheNames.PRODUCTS);
+        }
+    }
+
+    private void evictUserCache(BulkResult result) {
+        if (result.any(BulkItemResult.UPDATED) || result.any(BulkItemResult.DELETED)) {
+            clearCache(CacheNames.USERS);
+        }
+    }
+
+    private void clearCache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.clear();
+        } catch (DataAccessException ex) {
+            // @CacheEvict 경로(LoggingCacheErrorHandler)와 같이 캐시 오류로 쓰기 결과를 실패 처리하지 않음
+            logger.warn("대량 처리 후 캐시 비우기 실패: cache={}, error={}", name, ex.getMessage());
+        }
+    }
+
+    private static <T> List<Long> ids(List<Indexed<T>> chunk, Function<T, Long> id) {
+        List<Long> ids = new ArrayList<>(chunk.size());
+        for (Indexed<T> item : chunk) {
+            ids.add(id.apply(item.value()));
+        }
+        return ids;
+    }
+
+    private static String validateProduct(ProductView product) {
+        if (product.name() == null || product.name().isBlank()) {
+            return "name is required";
+        }
+        if (product.price() < 0) {
+            return "Price cannot be negative";
+        }
+        return null;
+    }
+
+    private static String validateUser(UserView user) {
+        if (user.name() == null || user.name().isBlank()) {
+            return "name is required";
+        }
+        if (user.email() == null || !EMAIL.matcher(user.email()).matches()) {
+            return "Invalid email format";
+        }
+        return null;
+    }
+
+    private static String validateId(Long id) {
+        return id <= 0 ? "id must be positive" : null;
+    }
+
+    /** 요청 배열 위치를 함께 들고 다니는 항목 */
+    private record Indexed<T>(int index, T value) {
+    }
+
+    /** chunk 하나를 한 트랜잭션 안에서 처리 */
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        List<BulkItemResult> write(List<Indexed<T>> chunk);
+    }
+}
@@ -1,59 +1,181 @@
 package com.example.logging.service;
 
+import com.example.logging.cache.BoundedLocalCache;
+import com.example.logging.cache.CachedValue;
+import com.example.logging.cache.RefreshPolicy;
+import com.example.logging.cache.RemovalListener;
+import com.example.logging.cache.SingleFlight;
+import com.example.logging.cache.SizeEstimator;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.time.Instant;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 /**
- * 간단한 인메모리 캐시 서비스
+ * 인메모리 캐시 서비스
+ * 최대 항목 수와 최대 가중치(추정 바이트)를 넘으면 W-TinyLFU 정책으로 제거합니다.
+ * 만료된 항목은 타이머 휠로 관리되어 주기적인 cleanup()에서 만료 건수만큼만 정리됩니다.
+ *
+ * 통계는 키 접두사(namespace, 예: "product:1" → "product") 단위로 LongAdder에 집계하며
+ * Micrometer cache.* 메트릭으로 노출합니다.
+ *
+ * getOrLoad()는 키별 single-flight로 로딩하여 만료 시점에 동시 미스가 몰려도 원본 조회는 한 번만 일어나며,
+ * XFetch 조기 갱신과 stale-while-revalidate로 만료 자체를 백그라운드 갱신으로 대체합니다.
  */
 @Service
-public class CacheService {
+public class CacheService implements MeterBinder {
 
     private static final Logger logger = LoggerFactory.getLogger(CacheService.class);
 
-    private final Map<String, CacheEntry> cache = new ConcurrentHashMap<>();
-    private long hits = 0;
-    private long misses = 0;
+    /** 캐시 노드 및 맵 엔트리 오버헤드 (바이트) */
+    private static final int ENTRY_OVERHEAD = 96;
+
+    private static final String CACHE_NAME = "local";
+    private static final String DEFAULT_NAMESPACE = "default";
+    private static final String OTHER_NAMESPACE = "other";
+    /** 메트릭 태그 카디널리티 제한. 초과한 접두사는 "other"로 합산 */
+    private static final int MAX_NAMESPACES = 64;
+
+    private final BoundedLocalCache<String, Object> cache;
+    private final Map<String, NamespaceStats> namespaces = new ConcurrentHashMap<>();
+    private final SingleFlight<String> loading = new SingleFlight<>();
+    private final RefreshPolicy refreshPolicy;
+    private final LongSupplier ticker;
+    private volatile MeterRegistry meterRegistry;
+
+    @Autowired
+    public CacheService(@Value("${app.cache.local.max-entries:10000}") long maxEntries,
+                        @Value("${app.cache.local.max-weight-bytes:67108864}") long maxWeightBytes,
+                        @Value("${app.cache.local.stale-seconds:10}") long staleSeconds,
+                        @Value("${app.cache.local.early-refresh-beta:1.0}") double earlyRefreshBeta) {
+        this(maxEntries, maxWeightBytes,
+                new RefreshPolicy(Duration.ofSeconds(staleSeconds), earlyRefreshBeta,
+                        RefreshPolicy.newExecutor("cache-refresh-", 2, 1000)),
+                System::nanoTime);
+    }
+
+    /**
+     * 조기 갱신/stale 구간 없는 캐시
+     */
+    public CacheService(long maxEntries, long maxWeightBytes) {
+        this(maxEntries, maxWeightBytes, RefreshPolicy.disabled(), System::nanoTime);
+    }
+
+    CacheService(long maxEntries, long maxWeightBytes, RefreshPolicy refreshPolicy, LongSupplier ticker) {
+        this.refreshPolicy = refreshPolicy;
+        this.ticker = ticker;
+        this.cache = new BoundedLocalCache<>(maxEntries, maxWeightBytes,
+                (key, value) -> (int) Math.min(Integer.MAX_VALUE,
+                        ENTRY_OVERHEAD + SizeEstimator.estimate(key) + SizeEstimator.estimate(value)),
+                this::onRemoval, ticker);
+    }
 
     /**
      * 캐시에서 값 조회
+     * getOrLoad로 적재된 값은 TTL이 지나면 stale 구간이라도 미스로 처리 (stale 값은 getOrLoad만 반환)
      */
     public <T> T get(String key, Class<T> type) {
-        CacheEntry entry = cache.get(key);
+        Object value = cache.get(key);
+        NamespaceStats stats = statsFor(key);
 
-        if (entry == null) {
-            misses++;
+        if (value instanceof CachedValue<?> cached) {
+            value = cached.isFresh(ticker.getAsLong()) ? cached.getValue() : null;
+        }
+        if (value == null) {
+            stats.misses.increment();
             logger.debug("캐시 미스: {}", key);
             return null;
         }
 
-        if (Instant.now().isAfter(entry.getExpiresAt())) {
-            cache.remove(key);
-            misses++;
-            logger.debug("캐시 만료: {}", key);
-            return null;
+        stats.hits.increment();
+        logger.debug("캐시 히트: {}", key);
+        return type.cast(value);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 로딩 후 저장
+     * - 같은 키의 동시 미스는 하나의 loader 결과를 함께 기다림 (single-flight)
+     * - TTL 이후 stale 구간에는 이전 값을 반환하고 백그라운드에서 갱신
+     * - TTL 이전에도 로딩 시간에 비례한 확률(XFetch)로 미리 백그라운드 갱신
+     * loader가 null을 반환하면 캐시하지 않으며, loader 예외는 기다리던 호출 모두에 전달됩니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrLoad(String key, Supplier<T> loader, long ttlSeconds) {
+        Object value = cache.get(key);
+        NamespaceStats stats = statsFor(key);
+
+        if (value == null) {
+            stats.misses.increment();
+            logger.debug("캐시 미스: {}", key);
+            return loading.load(key, () -> load(key, loader, ttlSeconds));
         }
 
-        hits++;
-        logger.debug("캐시 히트: {}", key);
-        return type.cast(entry.getValue());
+        stats.hits.increment();
+        if (value instanceof CachedValue<?> cached) {
+            if (refreshPolicy.needsRefresh(cached, ticker.getAsLong())
+                    && loading.refresh(key, () -> load(key, loader, ttlSeconds), refreshPolicy.executor())) {
+                logger.debug("캐시 백그라운드 갱신: {}", key);
+            }
+            return (T) cached.getValue();
+        }
+        return (T) value;
     }
 
     /**
      * 캐시에 값 저장
      */
     public void put(String key, Object value, long ttlSeconds) {
-        Instant expiresAt = Instant.now().plusSeconds(ttlSeconds);
-        cache.put(key, new CacheEntry(value, expiresAt));
+        if (cache.put(key, value, TimeUnit.SECONDS.toNanos(ttlSeconds)) == null) {
+            statsFor(key).entries.increment();
+        }
         logger.debug("캐시 저장: {} (TTL: {}초)", key, ttlSeconds);
     }
 
+    /**
+     * loader 실행 후 소요 시간과 함께 저장 (stale 구간만큼 더 보관)
+     */
+    private <T> T load(String key, Supplier<T> loader, long ttlSeconds) {
+        long start = ticker.getAsLong();
+        T value = loader.get();
+        long loadNanos = ticker.getAsLong() - start;
+        recordLoad(key, loadNanos);
+
+        if (value != null) {
+            long ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+            CachedValue<T> cached = new CachedValue<>(value, start + loadNanos + ttlNanos, loadNanos);
+            if (cache.put(key, cached, refreshPolicy.hardTtlNanos(ttlNanos)) == null) {
+                statsFor(key).entries.increment();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 캐시 미스 후 원본 조회에 걸린 시간 기록
+     */
+    public void recordLoad(String key, long loadTimeNanos) {
+        NamespaceStats stats = statsFor(key);
+        stats.loads.increment();
+        stats.loadTimeNanos.add(loadTimeNanos);
+    }
+
     /**
      * 캐시에서 값 삭제
      */
@@ -68,25 +190,17 @@ public class CacheService {
     public void clear() {
         int size = cache.size();
         cache.clear();
-        hits = 0;
-        misses = 0;
+        // 등록된 메트릭이 참조하므로 namespace 객체는 유지하고 값만 초기화
+        namespaces.values().forEach(NamespaceStats::reset);
         logger.info("캐시 전체 삭제: {}개 항목", size);
     }
 
     /**
-     * 만료된 캐시 정리
+     * 만료된 캐시 정리 (타이머 휠에서 경과한 버킷만 처리)
      */
+    @Scheduled(fixedDelayString = "${app.cache.local.expiry-interval-ms:1000}")
     public int cleanup() {
-        Instant now = Instant.now();
-        int cleanedCount = 0;
-
-        cache.entrySet().removeIf(entry -> {
-            if (now.isAfter(entry.getValue().getExpiresAt())) {
-                cleanedCount++;
-                return true;
-            }
-            return false;
-        });
+        int cleanedCount = cache.cleanUp();
 
         if (cleanedCount > 0) {
             logger.info("캐시 정리 완료: {}개 항목 삭제, {}개 항목 남음", cleanedCount, cache.size());
@@ -99,6 +213,18 @@ public class CacheService {
      * 캐시 통계 조회
      */
     public Map<String, Object> getStats() {
+        long hits = 0;
+        long misses = 0;
+        long evictions = 0;
+        Map<String, Object> namespaceStats = new HashMap<>();
+        for (Map.Entry<String, NamespaceStats> entry : namespaces.entrySet()) {
+            NamespaceStats stats = entry.getValue();
+            hits += stats.hits.sum();
+            misses += stats.misses.sum();
+            evictions += stats.evictions.sum();
+            namespaceStats.put(entry.getKey(), stats.toMap());
+        }
+
         long totalRequests = hits + misses;
         double hitRate = totalRequests > 0 ? (double) hits / totalRequests * 100 : 0.0;
 
@@ -108,28 +234,140 @@ public class CacheService {
         stats.put("misses", misses);
         stats.put("hit_rate", Math.round(hitRate * 100.0) / 100.0);
         stats.put("total_requests", totalRequests);
+        stats.put("evictions", evictions);
+        stats.put("weighted_size_bytes", cache.weightedSize());
+        stats.put("max_entries", cache.maximumSize());
+        stats.put("max_weight_bytes", cache.maximumWeight());
+        stats.put("namespaces", namespaceStats);
 
         return stats;
     }
 
     /**
-     * 캐시 엔트리 클래스
+     * Micrometer 등록. 이후 새로 생기는 namespace도 자동 등록됩니다.
      */
-    private static class CacheEntry {
-        private final Object value;
-        private final Instant expiresAt;
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+        Tags tags = Tags.of("cache", CACHE_NAME);
+        Gauge.builder("cache.size", cache, BoundedLocalCache::size)
+                .tags(tags)
+                .description("캐시 항목 수")
+                .register(registry);
+        Gauge.builder("cache.weighted.size", cache, BoundedLocalCache::weightedSize)
+                .tags(tags)
+                .baseUnit("bytes")
+                .description("캐시 추정 크기")
+                .register(registry);
+        namespaces.forEach((namespace, stats) -> bindNamespace(registry, namespace, stats));
+    }
+
+    /**
+     * 만료/용량 초과로 제거된 항목 집계 (eviction 락 안에서 호출)
+     */
+    private void onRemoval(String key, Object value, RemovalListener.Cause cause) {
+        if (cause == RemovalListener.Cause.REPLACED) {
+            return;
+        }
+        NamespaceStats stats = statsFor(key);
+        stats.entries.decrement();
+        if (cause == RemovalListener.Cause.SIZE) {
+            stats.evictions.increment();
+            logger.debug("캐시 용량 초과 제거: {}", key);
+        } else if (cause == RemovalListener.Cause.EXPIRED) {
+            logger.debug("캐시 만료: {}", key);
+        }
+    }
+
+    private NamespaceStats statsFor(String key) {
+        int separator = key.indexOf(':');
+        String namespace = separator > 0 ? key.substring(0, separator) : DEFAULT_NAMESPACE;
+        NamespaceStats stats = namespaces.get(namespace);
+        return stats != null ? stats : registerNamespace(namespace);
+    }
 
-        public CacheEntry(Object value, Instant expiresAt) {
-            this.value = value;
-            this.expiresAt = expiresAt;
+    private NamespaceStats registerNamespace(String namespace) {
+        if (namespaces.size() >= MAX_NAMESPACES) {
+            namespace = OTHER_NAMESPACE;
+            NamespaceStats other = namespaces.get(namespace);
+            if (other != null) {
+                return other;
+            }
+        }
+        NamespaceStats created = new NamespaceStats();
+        NamespaceStats existing = namespaces.putIfAbsent(namespace, created);
+        if (existing != null) {
+            return existing;
         }
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            bindNamespace(registry, namespace, created);
+        }
+        return created;
+    }
 
-        public Object getValue() {
-            return value;
+    private static void bindNamespace(MeterRegistry registry, String namespace, NamespaceStats stats) {
+        Tags tags = Tags.of("cache", CACHE_NAME, "namespace", namespace);
+        FunctionCounter.builder("cache.gets", stats.hits, LongAdder::sum)
+                .tags(tags).tag("result", "hit")
+                .description("캐시 조회 결과")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", stats.misses, LongAdder::sum)
+                .tags(tags).tag("result", "miss")
+                .description("캐시 조회 결과")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", stats.evictions, LongAdder::sum)
+                .tags(tags)
+                .description("용량 초과로 제거된 항목 수")
+                .register(registry);
+        Gauge.builder("cache.namespace.size", stats.entries, LongAdder::sum)
+                .tags(tags)
+                .description("namespace별 캐시 항목 수")
+                .register(registry);
+        FunctionTimer.builder("cache.loads", stats,
+                        s -> s.loads.sum(), s -> s.loadTimeNanos.sum(), TimeUnit.NANOSECONDS)
+                .tags(tags)
+                .description("캐시 미스 후 원본 조회 시간")
+                .register(registry);
+    }
+
+    /**
+     * namespace별 통계 (LongAdder로 스레드 간 경합 없이 집계)
+     */
+    private static class NamespaceStats {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder entries = new LongAdder();
+        private final LongAdder loads = new LongAdder();
+        private final LongAdder loadTimeNanos = new LongAdder();
+
+        void reset() {
+            hits.reset();
+            misses.reset();
+            evictions.reset();
+            entries.reset();
+            loads.reset();
+            loadTimeNanos.reset();
         }
 
-        public Instant getExpiresAt() {
-            return expiresAt;
+        Map<String, Object> toMap() {
+            long hitCount = hits.sum();
+            long total = hitCount + misses.sum();
+            long loadCount = loads.sum();
+
+            Map<String, Object> map = new HashMap<>();
+            map.put("hits", hitCount);
+            map.put("misses", total - hitCount);
+            map.put("hit_rate", total > 0 ? Math.round((double) hitCount / total * 10000.0) / 100.0 : 0.0);
+            map.put("evictions", evictions.sum());
+            map.put("entries", entries.sum());
+            map.put("loads", loadCount);
+            if (loadCount > 0) {
+                double avgLoadMs = loadTimeNanos.sum() / (double) loadCount / 1_000_000.0;
+                map.put("avg_load_time_ms", Math.round(avgLoadMs * 100.0) / 100.0);
+            }
+            return map;
         }
     }
 }
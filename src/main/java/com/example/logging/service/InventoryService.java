@@ -0,0 +1,193 @@
+package com.example.logging.service;
+
+import com.example.logging.repository.ProductRepository;
+import com.example.logging.util.LoggerUtil;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 재고 차감 서비스 (초과 판매 없음)
+ * 기본 경로는 조건부 UPDATE(stock >= 수량) 한 문장이며 호출자 트랜잭션에 참여합니다.
+ * flush 주기 동안 주문이 hot-threshold 이상 들어온 상품은 DB 재고를 block-size 단위로 미리 차감해
+ * 메모리 StockPool에서 나눠 주므로, 같은 행에 UPDATE가 몰려 행 잠금을 기다리는 일이 줄어듭니다.
+ * 주문이 줄어든 상품의 미사용 예약분은 flush 때 한 트랜잭션으로 DB에 돌려줍니다.
+ * (노드가 비정상 종료되면 예약분만큼 덜 팔 수는 있어도 더 팔지는 않음)
+ */
+@Service
+public class InventoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InventoryService.class);
+
+    private final ProductRepository productRepository;
+    /** 기본 경로: 호출자 트랜잭션에 참여 (주문이 롤백되면 차감도 롤백) */
+    private final TransactionTemplate orderTransaction;
+    /** 예약분 확보/반환: 항상 별도 트랜잭션으로 바로 커밋 (메모리 예약분과 DB가 어긋나지 않도록) */
+    private final TransactionTemplate poolTransaction;
+    private final long hotThreshold;
+    private final int blockSize;
+    private final int stripes;
+
+    /** 이번 flush 주기의 상품별 주문 수 */
+    private final Map<Long, LongAdder> recentOrders = new ConcurrentHashMap<>();
+    private final Map<Long, StockPool> pools = new ConcurrentHashMap<>();
+    /** DB 반환에 실패해 다음 flush에서 다시 시도할 수량 */
+    private final Map<Long, Long> pendingReturns = new ConcurrentHashMap<>();
+
+    public InventoryService(ProductRepository productRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.inventory.hot-threshold:100}") long hotThreshold,
+                            @Value("${app.inventory.block-size:100}") int blockSize,
+                            @Value("${app.inventory.stripes:0}") int stripes) {
+        this.productRepository = productRepository;
+        this.orderTransaction = new TransactionTemplate(transactionManager);
+        this.poolTransaction = new TransactionTemplate(transactionManager);
+        this.poolTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.hotThreshold = hotThreshold <= 0 ? Long.MAX_VALUE : hotThreshold;
+        this.blockSize = Math.max(1, blockSize);
+        this.stripes = stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * 재고 차감
+     *
+     * @return 차감했으면 true, 재고 부족이거나 상품이 없으면 false
+     */
+    public boolean reserve(long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("quantity must be positive");
+        }
+        LongAdder orders = recentOrders.computeIfAbsent(productId, id -> new LongAdder());
+        orders.increment();
+
+        StockPool pool = pools.get(productId);
+        if (pool == null && orders.sum() >= hotThreshold) {
+            pool = pools.computeIfAbsent(productId, id -> new StockPool(stripes));
+        }
+        if (pool != null) {
+            StockPool.Result result = pool.tryTake(quantity) ? StockPool.Result.TAKEN
+                    : pool.refillAndTake(quantity, blockSize, units -> claim(productId, units));
+            if (result == StockPool.Result.TAKEN) {
+                returnOnRollback(productId, quantity);
+                return true;
+            }
+            if (result == StockPool.Result.OUT_OF_STOCK) {
+                return false;
+            }
+            // 다른 스레드가 보충 중(BUSY)이거나 flush가 방금 닫은 예약분(CLOSED)이면 기본 경로로 처리
+        }
+        return Boolean.TRUE.equals(orderTransaction.execute(
+                status -> productRepository.decrementStock(productId, quantity)));
+    }
+
+    /**
+     * 재고 입고
+     *
+     * @return 상품이 있으면 true
+     */
+    public boolean restock(long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("quantity must be positive");
+        }
+        return Boolean.TRUE.equals(orderTransaction.execute(
+                status -> productRepository.incrementStock(productId, quantity)));
+    }
+
+    /** 메모리 예약분으로 들고 있는 수량 (상품이 hot이 아니면 0) */
+    public long pooledStock(long productId) {
+        StockPool pool = pools.get(productId);
+        return pool == null ? 0 : pool.available();
+    }
+
+    /**
+     * 주문이 줄어든 상품의 예약분을 닫고 남은 수량을 DB에 일괄 반환
+     */
+    @Scheduled(fixedDelayString = "${app.inventory.flush-interval-ms:1000}")
+    public void flush() {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : recentOrders.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().sum());
+            recentOrders.remove(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<Long, StockPool> entry : pools.entrySet()) {
+            if (counts.getOrDefault(entry.getKey(), 0L) < hotThreshold
+                    && pools.remove(entry.getKey(), entry.getValue())) {
+                addReturn(entry.getKey(), entry.getValue().close());
+            }
+        }
+        returnPending();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Long productId : pools.keySet()) {
+            StockPool pool = pools.remove(productId);
+            if (pool != null) {
+                addReturn(productId, pool.close());
+            }
+        }
+        returnPending();
+    }
+
+    /**
+     * 메모리 예약분에서 가져간 수량은 DB 차감과 달리 호출자 트랜잭션과 함께 롤백되지 않으므로
+     * 롤백되면 다음 flush에서 DB에 돌려줌
+     */
+    private void returnOnRollback(long productId, int quantity) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    addReturn(productId, quantity);
+                }
+            }
+        });
+    }
+
+    private boolean claim(long productId, int units) {
+        return Boolean.TRUE.equals(poolTransaction.execute(
+                status -> productRepository.decrementStock(productId, units)));
+    }
+
+    private void addReturn(long productId, long units) {
+        if (units > 0) {
+            pendingReturns.merge(productId, units, Long::sum);
+        }
+    }
+
+    /** flush와 종료 처리가 같은 반환분을 두 번 더하지 않도록 직렬화 */
+    private synchronized void returnPending() {
+        if (pendingReturns.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> returns = new HashMap<>(pendingReturns);
+        try {
+            poolTransaction.executeWithoutResult(status ->
+                    returns.forEach(productRepository::incrementStock));
+            returns.forEach((productId, units) -> pendingReturns.computeIfPresent(productId,
+                    (id, pending) -> pending == units.longValue() ? null : pending - units));
+        } catch (DataAccessException ex) {
+            Map<String, Object> context = new HashMap<>();
+            context.put("operation", "return_reserved_stock");
+            context.put("products", returns.size());
+            LoggerUtil.logError(logger, "Failed to return reserved stock, will retry", ex, context);
+        }
+    }
+}
@@ -1,27 +1,88 @@
 package com.example.logging.service;
 
+import com.example.logging.metrics.HistogramSnapshot;
+import com.example.logging.metrics.WindowedHistogram;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
 
 /**
  * 애플리케이션 메트릭 수집 서비스
+ * 엔드포인트별 응답 시간은 슬라이딩 창 히스토그램(μs 단위)으로 기록하며,
+ * 기록은 락/할당 없이 처리되고 조회는 버킷 수에 비례합니다.
+ * 메트릭은 요청 URI가 아닌 라우트 템플릿(/api/products/{id}) 기준으로 모으며,
+ * 엔드포인트 수가 상한을 넘으면 이후 엔드포인트는 "other" 하나로 합산합니다.
  */
 @Service
 public class MetricsService {
 
-    private final Map<String, RequestMetrics> metricsMap = new ConcurrentHashMap<>();
+    /** 히스토그램이 구분하는 최대 응답 시간 (1시간, μs) */
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    /** 엔드포인트 수 상한 초과 시 합산되는 경로 */
+    public static final String OTHER_PATH = "other";
+    private static final String OTHER_METHOD = "*";
+
+    /** 경로 -> HTTP 메서드 -> 메트릭 (키 문자열 조합 없이 조회) */
+    private final Map<String, Map<String, RequestMetrics>> metricsMap = new ConcurrentHashMap<>();
+    private final AtomicInteger endpointCount = new AtomicInteger();
     private final long startTime = System.currentTimeMillis();
+    private final Duration window;
+    private final int windowSlots;
+    private final int maxEndpoints;
+    private volatile RequestMetrics other;
+
+    public MetricsService(@Value("${app.metrics.window-seconds:60}") long windowSeconds,
+                          @Value("${app.metrics.window-slots:6}") int windowSlots,
+                          @Value("${app.metrics.max-endpoints:200}") int maxEndpoints) {
+        this.window = Duration.ofSeconds(windowSeconds);
+        this.windowSlots = windowSlots;
+        this.maxEndpoints = maxEndpoints;
+        this.other = new RequestMetrics(OTHER_METHOD, OTHER_PATH, newHistogram());
+    }
 
     /**
      * 요청 메트릭 기록
      */
     public void recordRequest(String method, String path, int statusCode, long durationMs) {
-        String key = method + ":" + path;
+        recordRequestNanos(method, path, statusCode, TimeUnit.MILLISECONDS.toNanos(durationMs));
+    }
 
-        metricsMap.computeIfAbsent(key, k -> new RequestMetrics(method, path))
-                .recordRequest(statusCode, durationMs);
+    /**
+     * 요청 메트릭 기록 (나노초)
+     * path는 라우트 템플릿이어야 합니다. 요청 URI를 넘기면 ID마다 엔드포인트가 생겨 "other"로 합산됩니다.
+     */
+    public void recordRequestNanos(String method, String path, int statusCode, long durationNanos) {
+        endpoint(method, path).recordRequest(statusCode, TimeUnit.NANOSECONDS.toMicros(durationNanos));
+    }
+
+    private RequestMetrics endpoint(String method, String path) {
+        if (OTHER_PATH.equals(path)) {
+            return other;
+        }
+        Map<String, RequestMetrics> byMethod = metricsMap.get(path);
+        RequestMetrics metrics = byMethod != null ? byMethod.get(method) : null;
+        if (metrics != null) {
+            return metrics;
+        }
+        if (endpointCount.get() >= maxEndpoints) {
+            return other;
+        }
+        return metricsMap.computeIfAbsent(path, p -> new ConcurrentHashMap<>(4))
+                .computeIfAbsent(method, m -> register(method, path));
+    }
+
+    private RequestMetrics register(String method, String path) {
+        // 상한 검사와 등록 사이 경합으로 동시 등록 수만큼 상한을 넘을 수 있음
+        endpointCount.incrementAndGet();
+        return new RequestMetrics(method, path, newHistogram());
     }
 
     /**
@@ -32,15 +93,12 @@ public class MetricsService {
 
         long uptimeSeconds = (System.currentTimeMillis() - startTime) / 1000;
         result.put("uptime_seconds", uptimeSeconds);
+        result.put("window_seconds", window.getSeconds());
 
-        long totalRequests = metricsMap.values().stream()
-                .mapToLong(RequestMetrics::getTotalRequests)
-                .sum();
+        long totalRequests = allMetrics().mapToLong(RequestMetrics::getTotalRequests).sum();
         result.put("total_requests", totalRequests);
 
-        long totalErrors = metricsMap.values().stream()
-                .mapToLong(RequestMetrics::getTotalErrors)
-                .sum();
+        long totalErrors = allMetrics().mapToLong(RequestMetrics::getTotalErrors).sum();
         result.put("total_errors", totalErrors);
 
         double overallErrorRate = totalRequests > 0
@@ -49,19 +107,54 @@ public class MetricsService {
         result.put("overall_error_rate", Math.round(overallErrorRate * 100.0) / 100.0);
 
         Map<String, Map<String, Object>> endpoints = new HashMap<>();
-        metricsMap.forEach((key, metrics) -> {
-            endpoints.put(metrics.getPath(), metrics.toMap());
-        });
+        metricsMap.forEach((path, byMethod) -> byMethod.forEach((method, metrics) -> {
+            endpoints.put(method + " " + path, metrics.toMap());
+        }));
+        RequestMetrics overflow = other;
+        if (overflow.getTotalRequests() > 0) {
+            endpoints.put(OTHER_PATH, overflow.toMap());
+        }
         result.put("endpoints", endpoints);
 
         return result;
     }
 
+    /**
+     * 엔드포인트 응답 시간 스냅샷 (μs, 최근 창 기준)
+     */
+    public Optional<HistogramSnapshot> getLatencySnapshot(String method, String path) {
+        if (OTHER_PATH.equals(path)) {
+            return Optional.of(other.snapshot());
+        }
+        return Optional.ofNullable(metricsMap.get(path))
+                .map(byMethod -> byMethod.get(method))
+                .map(RequestMetrics::snapshot);
+    }
+
+    /**
+     * 집계 중인 엔드포인트 수 ("other" 제외)
+     */
+    public int getEndpointCount() {
+        return endpointCount.get();
+    }
+
     /**
      * 메트릭 초기화
      */
     public void reset() {
         metricsMap.clear();
+        endpointCount.set(0);
+        other = new RequestMetrics(OTHER_METHOD, OTHER_PATH, newHistogram());
+    }
+
+    private Stream<RequestMetrics> allMetrics() {
+        return Stream.concat(
+                metricsMap.values().stream().flatMap(byMethod -> byMethod.values().stream()),
+                Stream.of(other));
+    }
+
+    private WindowedHistogram newHistogram() {
+        return new WindowedHistogram(window, windowSlots, MAX_TRACKABLE_MICROS);
     }
 
     /**
@@ -70,28 +163,24 @@ public class MetricsService {
     private static class RequestMetrics {
         private final String method;
         private final String path;
-        private long totalRequests = 0;
-        private long totalErrors = 0;
-        private final List<Long> responseTimes = Collections.synchronizedList(new ArrayList<>());
+        private final LongAdder totalRequests = new LongAdder();
+        private final LongAdder totalErrors = new LongAdder();
+        private final WindowedHistogram responseTimes;
 
-        public RequestMetrics(String method, String path) {
+        public RequestMetrics(String method, String path, WindowedHistogram responseTimes) {
             this.method = method;
             this.path = path;
+            this.responseTimes = responseTimes;
         }
 
-        public synchronized void recordRequest(int statusCode, long durationMs) {
-            totalRequests++;
+        public void recordRequest(int statusCode, long durationMicros) {
+            totalRequests.increment();
 
             if (statusCode >= 400) {
-                totalErrors++;
+                totalErrors.increment();
             }
 
-            responseTimes.add(durationMs);
-
-            // 최근 100개만 유지
-            if (responseTimes.size() > 100) {
-                responseTimes.remove(0);
-            }
+            responseTimes.record(durationMicros);
         }
 
         public String getMethod() {
@@ -103,43 +192,47 @@ public class MetricsService {
         }
 
         public long getTotalRequests() {
-            return totalRequests;
+            return totalRequests.sum();
         }
 
         public long getTotalErrors() {
-            return totalErrors;
+            return totalErrors.sum();
+        }
+
+        public HistogramSnapshot snapshot() {
+            return responseTimes.snapshot();
         }
 
         public Map<String, Object> toMap() {
             Map<String, Object> map = new HashMap<>();
+            long requests = getTotalRequests();
+            long errors = getTotalErrors();
             map.put("method", method);
-            map.put("total_requests", totalRequests);
-            map.put("total_errors", totalErrors);
+            map.put("total_requests", requests);
+            map.put("total_errors", errors);
 
-            double errorRate = totalRequests > 0
-                    ? (double) totalErrors / totalRequests * 100
+            double errorRate = requests > 0
+                    ? (double) errors / requests * 100
                     : 0.0;
             map.put("error_rate", Math.round(errorRate * 100.0) / 100.0);
 
-            if (!responseTimes.isEmpty()) {
-                double avg = responseTimes.stream()
-                        .mapToLong(Long::longValue)
-                        .average()
-                        .orElse(0.0);
-                map.put("avg_response_time_ms", Math.round(avg * 100.0) / 100.0);
-
-                map.put("max_response_time_ms", responseTimes.stream()
-                        .mapToLong(Long::longValue)
-                        .max()
-                        .orElse(0L));
-
-                map.put("min_response_time_ms", responseTimes.stream()
-                        .mapToLong(Long::longValue)
-                        .min()
-                        .orElse(0L));
+            HistogramSnapshot snapshot = responseTimes.snapshot();
+            map.put("window_requests", snapshot.getCount());
+            if (snapshot.getCount() > 0) {
+                map.put("avg_response_time_ms", toMillis(snapshot.getMean()));
+                map.put("max_response_time_ms", toMillis(snapshot.getMax()));
+                map.put("min_response_time_ms", toMillis(snapshot.getMin()));
+                map.put("p50_response_time_ms", toMillis(snapshot.getValueAtPercentile(0.50)));
+                map.put("p90_response_time_ms", toMillis(snapshot.getValueAtPercentile(0.90)));
+                map.put("p99_response_time_ms", toMillis(snapshot.getValueAtPercentile(0.99)));
+                map.put("p999_response_time_ms", toMillis(snapshot.getValueAtPercentile(0.999)));
             }
 
             return map;
         }
+
+        private static double toMillis(double micros) {
+            return Math.round(micros / 10.0) / 100.0;
+        }
     }
 }
@@ -0,0 +1,60 @@
+package com.example.logging.service;
+
+import com.example.logging.dto.OrderPlacedEvent;
+import com.example.logging.entity.OutboxEvent;
+import com.example.logging.entity.Product;
+import com.example.logging.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 주문 처리 서비스
+ * 재고 차감과 주문 이벤트(outbox) 저장을 한 트랜잭션으로 묶어, 주문이 커밋되면 이벤트도 반드시 남습니다.
+ * 이벤트 발행(Redis 등)은 OutboxRelay가 요청과 별도로 처리하므로 응답 시간에 더해지지 않습니다.
+ */
+@Service
+public class OrderService {
+
+    private final InventoryService inventoryService;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public OrderService(InventoryService inventoryService,
+                        OutboxEventRepository outboxEventRepository,
+                        ObjectMapper objectMapper) {
+        this.inventoryService = inventoryService;
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 주문 (가격은 호출자가 넘긴 상품 기준)
+     *
+     * @return 재고가 부족하면 빈 값
+     */
+    @Transactional
+    public Optional<OrderPlacedEvent> placeOrder(Product product, int quantity) {
+        if (!inventoryService.reserve(product.getId(), quantity)) {
+            return Optional.empty();
+        }
+        OrderPlacedEvent event = new OrderPlacedEvent(UUID.randomUUID().toString(), product.getId(), quantity,
+                product.getPrice(), product.getPrice() * quantity, Instant.now());
+        outboxEventRepository.save(new OutboxEvent(OrderPlacedEvent.AGGREGATE_TYPE, event.orderId(),
+                OrderPlacedEvent.EVENT_TYPE, toJson(event)));
+        return Optional.of(event);
+    }
+
+    private String toJson(OrderPlacedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize order event", ex);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.logging.service;
+
+import com.example.logging.cache.RedisBatchCache;
+import com.example.logging.config.AppConstants;
+import com.example.logging.config.AppConstants.CacheNames;
+import com.example.logging.dto.ProductCursor;
+import com.example.logging.dto.ProductPage;
+import com.example.logging.dto.ProductSort;
+import com.example.logging.dto.ProductView;
+import com.example.logging.entity.Product;
+import com.example.logging.repository.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 상품 조회/변경 서비스
+ * 조회는 캐시(L1 + Redis)를 거치고, 변경 시 단건 캐시는 새 값으로 갱신(write-through)하며 목록 캐시는 무효화합니다.
+ * 목록은 keyset 페이지 단위로 조회하고, 첫 페이지만 정렬/크기별로 캐시합니다.
+ */
+@Service
+public class ProductService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductService.class);
+
+    private final ProductRepository productRepository;
+    private final RedisBatchCache redisBatchCache;
+
+    public ProductService(ProductRepository productRepository, RedisBatchCache redisBatchCache) {
+        this.productRepository = productRepository;
+        this.redisBatchCache = redisBatchCache;
+    }
+
+    /**
+     * 상품 단건 조회 (없는 상품은 캐시하지 않음)
+     */
+    @Cacheable(cacheNames = CacheNames.PRODUCTS, key = "#id", sync = true)
+    public Optional<Product> findById(Long id) {
+        return productRepository.findById(id);
+    }
+
+    /**
+     * 상품 다건 조회 (요청 순서 유지, 없는 상품 제외)
+     * Redis MGET 한 번으로 캐시된 상품을 읽고, 나머지는 DB에서 한 번에 조회한 뒤 파이프라인으로 캐시에 적재합니다.
+     * 단건 캐시(products)와 같은 키/직렬화를 사용하므로 서로의 적재 결과를 공유합니다.
+     */
+    public List<Product> findAllById(List<Long> ids) {
+        Map<Long, Product> found = new HashMap<>();
+        Map<String, Object> cached = Map.of();
+        try {
+            cached = redisBatchCache.getAll(ids.stream().map(ProductService::cacheKey).toList());
+        } catch (DataAccessException ex) {
+            logger.warn("상품 캐시 다건 조회 실패, DB 조회로 진행: {}", ex.getMessage());
+        }
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (cached.get(cacheKey(id)) instanceof Product product) {
+                found.put(id, product);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<String, Product> loaded = new HashMap<>();
+            for (Product product : productRepository.findAllById(missing)) {
+                found.put(product.getId(), product);
+                loaded.put(cacheKey(product.getId()), product);
+            }
+            try {
+                redisBatchCache.putAll(loaded, Duration.ofSeconds(AppConstants.CacheTTL.PRODUCT));
+            } catch (DataAccessException ex) {
+                logger.warn("상품 캐시 다건 저장 실패: {}", ex.getMessage());
+            }
+        }
+
+        List<Product> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Product product = found.get(id);
+            if (product != null) {
+                result.add(product);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 상품 목록 페이지 조회 (cursor가 null이면 첫 페이지)
+     * size + 1건을 조회해 다음 페이지가 있을 때만 nextCursor를 채웁니다.
+     * 읽기 전용 트랜잭션에서 프로젝션으로 읽으므로 flush/dirty checking 대상이 없습니다.
+     */
+    @Cacheable(cacheNames = CacheNames.PRODUCT_LIST, key = "#sort.param + ':' + #size",
+            condition = "#cursor == null", sync = true)
+    @Transactional(readOnly = true)
+    public ProductPage findPage(ProductSort sort, ProductCursor cursor, int size) {
+        List<ProductView> rows = productRepository.findPage(sort, cursor, size + 1);
+        if (rows.size() <= size) {
+            return new ProductPage(rows, null);
+        }
+        List<ProductView> items = new ArrayList<>(rows.subList(0, size));
+        return new ProductPage(items, ProductCursor.after(sort, items.get(size - 1)).encode());
+    }
+
+    /**
+     * 전체 상품을 정렬 순서대로 하나씩 전달 (JDBC 커서, 캐시 미사용)
+     * 프로젝션은 영속성 컨텍스트에 남지 않으므로 행 수와 관계없이 메모리 사용량이 일정합니다.
+     *
+     * @return 전달한 상품 수
+     */
+    @Transactional(readOnly = true)
+    public long streamAll(ProductSort sort, Consumer<ProductView> consumer) {
+        long count = 0;
+        try (Stream<ProductView> products = productRepository.streamAll(sort)) {
+            for (ProductView product : (Iterable<ProductView>) products::iterator) {
+                consumer.accept(product);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 상품 생성
+     */
+    @CacheEvict(cacheNames = CacheNames.PRODUCT_LIST, allEntries = true)
+    public Product create(Product product) {
+        return productRepository.save(product);
+    }
+
+    /**
+     * 상품 수정. 저장된 값으로 단건 캐시를 갱신합니다.
+     */
+    @Caching(
+            put = @CachePut(cacheNames = CacheNames.PRODUCTS, key = "#id", unless = "#result == null"),
+            evict = @CacheEvict(cacheNames = CacheNames.PRODUCT_LIST, allEntries = true)
+    )
+    public Optional<Product> update(Long id, Product productDetails) {
+        return productRepository.findById(id)
+                .map(product -> {
+                    product.setName(productDetails.getName());
+                    product.setDescription(productDetails.getDescription());
+                    product.setPrice(productDetails.getPrice());
+                    return productRepository.save(product);
+                });
+    }
+
+    /**
+     * 상품 삭제. 삭제 여부와 관계없이 캐시를 무효화합니다.
+     */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.PRODUCTS, key = "#id"),
+            @CacheEvict(cacheNames = CacheNames.PRODUCT_LIST, allEntries = true)
+    })
+    public boolean delete(Long id) {
+        return productRepository.findById(id)
+                .map(product -> {
+                    productRepository.delete(product);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    private static String cacheKey(Long id) {
+        return RedisBatchCache.cacheKey(CacheNames.PRODUCTS, id);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.logging.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntPredicate;
+
+/**
+ * 인기 상품 하나의 메모리 재고 예약분
+ * DB에서 이미 차감해 온 수량을 stripe로 나눠 들고, 주문 스레드는 자기 stripe부터 CAS로 가져갑니다.
+ * 단위마다 CAS 한 번으로만 나가므로 두 주문이 같은 단위를 받을 수 없고, DB 차감분을 넘겨 팔 수 없습니다.
+ * 보충(refill)과 반환(close)만 락을 잡으며, 보충 중에 온 주문은 락을 기다리지 않고 BUSY를 받습니다.
+ * (보충은 별도 트랜잭션이라 DB 연결이 하나 더 필요한데, 연결을 쥔 주문 스레드들이 락을 기다리면 연결 풀이 고갈될 수 있음)
+ */
+final class StockPool {
+
+    /** stripe 간격 (long 16개 = 128바이트, 인접 stripe가 같은 캐시 라인을 공유하지 않도록) */
+    private static final int PAD = 16;
+
+    enum Result { TAKEN, OUT_OF_STOCK, BUSY, CLOSED }
+
+    private final int stripes;
+    private final AtomicLongArray slots;
+    private final ReentrantLock lock = new ReentrantLock();
+    /** lock으로 보호 */
+    private boolean closed;
+
+    StockPool(int stripes) {
+        this.stripes = stripes;
+        this.slots = new AtomicLongArray(stripes * PAD);
+    }
+
+    /**
+     * 락 없이 예약분에서 가져오기 (현재 스레드 stripe부터 차례로)
+     */
+    boolean tryTake(int quantity) {
+        int start = stripeIndex();
+        for (int i = 0; i < stripes; i++) {
+            int slot = ((start + i) % stripes) * PAD;
+            long available;
+            while ((available = slots.get(slot)) >= quantity) {
+                if (slots.compareAndSet(slot, available, available - quantity)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * stripe에 흩어진 잔량을 모으고 부족하면 DB에서 blockSize만큼 더 받아 온 뒤 가져가기
+     * blockSize를 못 받으면 부족한 만큼만 다시 시도하고, 그래도 안 되면 OUT_OF_STOCK (잔량은 그대로 둠)
+     *
+     * @param claim DB에서 해당 수량 차감 시도 (별도 트랜잭션으로 커밋되어야 함)
+     */
+    Result refillAndTake(int quantity, int blockSize, IntPredicate claim) {
+        if (!lock.tryLock()) {
+            return Result.BUSY;
+        }
+        try {
+            if (closed) {
+                return Result.CLOSED;
+            }
+            if (tryTake(quantity)) {
+                // 다른 스레드가 방금 보충함
+                return Result.TAKEN;
+            }
+            long held = drain();
+            try {
+                if (held < quantity) {
+                    int needed = (int) (quantity - held);
+                    int block = Math.max(blockSize, needed);
+                    if (claim.test(block)) {
+                        held += block;
+                    } else if (block > needed && claim.test(needed)) {
+                        held += needed;
+                    } else {
+                        return Result.OUT_OF_STOCK;
+                    }
+                }
+                held -= quantity;
+                return Result.TAKEN;
+            } finally {
+                deposit(held);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 더 이상 쓰지 않도록 닫고 남은 수량을 회수 (DB로 돌려줄 수량)
+     */
+    long close() {
+        lock.lock();
+        try {
+            closed = true;
+            return drain();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 현재 들고 있는 수량 (근사값) */
+    long available() {
+        long sum = 0;
+        for (int i = 0; i < stripes; i++) {
+            sum += slots.get(i * PAD);
+        }
+        return sum;
+    }
+
+    private long drain() {
+        long sum = 0;
+        for (int i = 0; i < stripes; i++) {
+            sum += slots.getAndSet(i * PAD, 0);
+        }
+        return sum;
+    }
+
+    /** stripe에 고르게 나눠 넣음 (락 안에서만 호출) */
+    private void deposit(long units) {
+        if (units <= 0) {
+            return;
+        }
+        long share = units / stripes;
+        long rest = units % stripes;
+        for (int i = 0; i < stripes; i++) {
+            long amount = share + (i < rest ? 1 : 0);
+            if (amount > 0) {
+                slots.addAndGet(i * PAD, amount);
+            }
+        }
+    }
+
+    private int stripeIndex() {
+        long id = Thread.currentThread().getId();
+        long hash = (id ^ (id >>> 16)) * 0x9E3779B9L;
+        return (int) ((hash >>> 1) % stripes);
+    }
+}
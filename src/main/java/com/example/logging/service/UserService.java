@@ -0,0 +1,59 @@
+package com.example.logging.service;
+
+import com.example.logging.config.AppConstants.CacheNames;
+import com.example.logging.dto.UserPage;
+import com.example.logging.dto.UserView;
+import com.example.logging.entity.User;
+import com.example.logging.repository.UserRepository;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사용자 조회/생성 서비스
+ * 조회는 캐시(L1 + Redis)를 거치고, 생성한 사용자는 바로 캐시에 적재(write-through)합니다.
+ */
+@Service
+public class UserService {
+
+    private final UserRepository userRepository;
+
+    public UserService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * 사용자 단건 조회 (없는 사용자는 캐시하지 않음)
+     */
+    @Cacheable(cacheNames = CacheNames.USERS, key = "#id", sync = true)
+    public Optional<User> findById(Long id) {
+        return userRepository.findById(id);
+    }
+
+    /**
+     * 사용자 목록 페이지 (afterId 다음부터 id 오름차순)
+     * 읽기 전용 트랜잭션에서 프로젝션으로 읽으므로 엔티티를 영속성 컨텍스트에 올리지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public UserPage findPage(long afterId, int size) {
+        List<UserView> rows = userRepository.findPageAfter(afterId, size + 1);
+        if (rows.size() <= size) {
+            return new UserPage(rows, null);
+        }
+        List<UserView> items = new ArrayList<>(rows.subList(0, size));
+        return new UserPage(items, items.get(size - 1).id());
+    }
+
+    /**
+     * 사용자 생성
+     */
+    @CachePut(cacheNames = CacheNames.USERS, key = "#result.id")
+    public User create(String name, String email) {
+        return userRepository.save(new User(name, email));
+    }
+}
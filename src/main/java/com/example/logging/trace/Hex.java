@@ -0,0 +1,92 @@
+package com.example.logging.trace;
+
+/**
+ * ID용 소문자 hex 인코딩/파싱
+ */
+final class Hex {
+
+    private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+
+    private Hex() {
+    }
+
+    /**
+     * 64비트 값을 hex 16자로
+     */
+    static String of(long value) {
+        char[] chars = new char[16];
+        write(value, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * 128비트 값을 hex 32자로
+     */
+    static String of(long high, long low) {
+        char[] chars = new char[32];
+        write(high, chars, 0);
+        write(low, chars, 16);
+        return new String(chars);
+    }
+
+    /**
+     * 128비트 값을 UUID 형식(8-4-4-4-12)으로
+     */
+    static String uuid(long high, long low) {
+        char[] chars = new char[36];
+        char[] hex = new char[32];
+        write(high, hex, 0);
+        write(low, hex, 16);
+        int position = 0;
+        for (int i = 0; i < 32; i++) {
+            if (i == 8 || i == 12 || i == 16 || i == 20) {
+                chars[position++] = '-';
+            }
+            chars[position++] = hex[i];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * offset부터 16자를 64비트 값으로 (유효성은 isLowerHex로 먼저 확인)
+     */
+    static long parseLong(String value, int offset) {
+        long result = 0;
+        for (int i = offset; i < offset + 16; i++) {
+            result = (result << 4) | Character.digit(value.charAt(i), 16);
+        }
+        return result;
+    }
+
+    /**
+     * [from, to) 구간이 모두 소문자 hex인지
+     */
+    static boolean isLowerHex(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * [from, to) 구간이 모두 '0'인지
+     */
+    static boolean isZero(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (value.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void write(long value, char[] target, int offset) {
+        for (int i = 15; i >= 0; i--) {
+            target[offset + i] = DIGITS[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
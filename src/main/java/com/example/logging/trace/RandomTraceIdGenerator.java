@@ -0,0 +1,36 @@
+package com.example.logging.trace;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 스레드별 PRNG(ThreadLocalRandom) 기반 ID 생성기
+ * UUID.randomUUID()와 달리 SecureRandom을 쓰지 않으므로 스레드 간 경합이나 엔트로피 대기가 없습니다.
+ * ID는 추적/상관관계용이며 보안 토큰으로 쓰면 안 됩니다.
+ */
+@Component
+public class RandomTraceIdGenerator implements TraceIdGenerator {
+
+    @Override
+    public String newTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long high;
+        long low;
+        do {
+            high = random.nextLong();
+            low = random.nextLong();
+        } while (high == 0 && low == 0);
+        return Hex.of(high, low);
+    }
+
+    @Override
+    public String newSpanId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long spanId;
+        do {
+            spanId = random.nextLong();
+        } while (spanId == 0);
+        return Hex.of(spanId);
+    }
+}
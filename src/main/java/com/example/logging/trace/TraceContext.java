@@ -0,0 +1,107 @@
+package com.example.logging.trace;
+
+/**
+ * 요청의 추적 컨텍스트 (trace_id, span_id, request_id)
+ * 들어온 W3C traceparent 헤더를 우선 사용하고, 없거나 잘못되었으면 X-Trace-Id, 그것도 없으면 새로 생성합니다.
+ * span ID는 항상 이 서버의 span으로 새로 만들고, 들어온 parent-id는 parentSpanId로 보관합니다.
+ */
+public final class TraceContext {
+
+    public static final String TRACEPARENT_HEADER = "traceparent";
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    /** X-Trace-Id로 받아들이는 최대 길이 */
+    private static final int MAX_TRACE_ID_LENGTH = 128;
+    private static final int TRACEPARENT_LENGTH = 55;
+
+    private final String traceId;
+    private final String spanId;
+    private final String parentSpanId;
+    private final String requestId;
+    private final boolean sampled;
+
+    private TraceContext(String traceId, String spanId, String parentSpanId, String requestId, boolean sampled) {
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.requestId = requestId;
+        this.sampled = sampled;
+    }
+
+    /**
+     * 요청 헤더 값으로 컨텍스트 생성
+     */
+    public static TraceContext resolve(String traceparent, String traceIdHeader, TraceIdGenerator generator) {
+        String traceId = null;
+        String parentSpanId = null;
+        boolean sampled = true;
+        if (isValidTraceparent(traceparent)) {
+            traceId = traceparent.substring(3, 35);
+            parentSpanId = traceparent.substring(36, 52);
+            sampled = (Character.digit(traceparent.charAt(54), 16) & 1) == 1;
+        } else if (traceIdHeader != null && !traceIdHeader.isEmpty()
+                && traceIdHeader.length() <= MAX_TRACE_ID_LENGTH) {
+            traceId = traceIdHeader;
+        }
+        if (traceId == null) {
+            traceId = generator.newTraceId();
+        }
+        String spanId = generator.newSpanId();
+        return new TraceContext(traceId, spanId, parentSpanId, generator.requestId(traceId, spanId), sampled);
+    }
+
+    /**
+     * W3C trace-context traceparent 검증 (version-traceid-parentid-flags)
+     * 알 수 없는 상위 버전은 앞 55자만 해석합니다.
+     */
+    static boolean isValidTraceparent(String value) {
+        if (value == null || value.length() < TRACEPARENT_LENGTH) {
+            return false;
+        }
+        if (!Hex.isLowerHex(value, 0, 2) || value.startsWith("ff")) {
+            return false;
+        }
+        boolean version00 = value.startsWith("00");
+        if (version00 ? value.length() != TRACEPARENT_LENGTH
+                : value.length() > TRACEPARENT_LENGTH && value.charAt(TRACEPARENT_LENGTH) != '-') {
+            return false;
+        }
+        return value.charAt(2) == '-' && value.charAt(35) == '-' && value.charAt(52) == '-'
+                && Hex.isLowerHex(value, 3, 35) && !Hex.isZero(value, 3, 35)
+                && Hex.isLowerHex(value, 36, 52) && !Hex.isZero(value, 36, 52)
+                && Hex.isLowerHex(value, 53, 55);
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    /**
+     * 호출자 span ID (traceparent로 들어온 경우만, 없으면 null)
+     */
+    public String getParentSpanId() {
+        return parentSpanId;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    /**
+     * 하위 호출에 전달할 traceparent (trace ID가 W3C 형식이 아니면 null)
+     */
+    public String toTraceparent() {
+        if (traceId.length() != 32 || !Hex.isLowerHex(traceId, 0, 32) || Hex.isZero(traceId, 0, 32)) {
+            return null;
+        }
+        return "00-" + traceId + "-" + spanId + (sampled ? "-01" : "-00");
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.logging.trace;
+
+/**
+ * trace/span/request ID 생성기
+ * 기본 구현은 RandomTraceIdGenerator이며, 다른 구현을 @Primary 빈으로 등록해 교체할 수 있습니다.
+ */
+public interface TraceIdGenerator {
+
+    /**
+     * W3C trace-context trace-id (128비트, 소문자 hex 32자, 전부 0이 아님)
+     */
+    String newTraceId();
+
+    /**
+     * W3C trace-context parent-id 형식의 span ID (64비트, 소문자 hex 16자, 전부 0이 아님)
+     */
+    String newSpanId();
+
+    /**
+     * 요청 ID (UUID 형식)
+     * 추가 난수 없이 span ID(상위 64비트)와 trace ID 하위 64비트를 합쳐 만듭니다.
+     */
+    default String requestId(String traceId, String spanId) {
+        long high = spanId.length() == 16 && Hex.isLowerHex(spanId, 0, 16)
+                ? Hex.parseLong(spanId, 0)
+                : spanId.hashCode();
+        long low = traceId.length() == 32 && Hex.isLowerHex(traceId, 16, 32)
+                ? Hex.parseLong(traceId, 16)
+                : traceId.hashCode();
+        return Hex.uuid(high, low);
+    }
+}
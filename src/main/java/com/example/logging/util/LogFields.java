@@ -0,0 +1,222 @@
+package com.example.logging.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import net.logstash.logback.argument.StructuredArgument;
+
+import java.io.IOException;
+
+/**
+ * 통합 로그 포맷의 구조화 필드 (http, query, error, context)
+ * 필드명은 미리 인코딩해 두고, 인코더의 JsonGenerator에 Map 없이 바로 씁니다.
+ * 값은 생성 시점에 고정되므로 비동기 appender에서 나중에 인코딩해도 안전합니다.
+ */
+final class LogFields {
+
+    private static final String PROJECT_PACKAGE = "com.example";
+
+    static final SerializedString HTTP = new SerializedString("http");
+    static final SerializedString QUERY = new SerializedString("query");
+    static final SerializedString ERROR = new SerializedString("error");
+    static final SerializedString CONTEXT = new SerializedString("context");
+
+    private static final SerializedString METHOD = new SerializedString("method");
+    private static final SerializedString PATH = new SerializedString("path");
+    private static final SerializedString STATUS_CODE = new SerializedString("status_code");
+    private static final SerializedString DURATION_MS = new SerializedString("duration_ms");
+    private static final SerializedString CLIENT_IP = new SerializedString("client_ip");
+    private static final SerializedString USER_AGENT = new SerializedString("user_agent");
+    private static final SerializedString TYPE = new SerializedString("type");
+    private static final SerializedString STATEMENT = new SerializedString("statement");
+    private static final SerializedString ROWS_AFFECTED = new SerializedString("rows_affected");
+    private static final SerializedString DATABASE = new SerializedString("database");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString LOCATION = new SerializedString("location");
+    private static final SerializedString FILE = new SerializedString("file");
+    private static final SerializedString LINE = new SerializedString("line");
+    private static final SerializedString FUNCTION = new SerializedString("function");
+    private static final SerializedString CLASS = new SerializedString("class");
+    private static final SerializedString THRESHOLD_MS = new SerializedString("threshold_ms");
+    private static final SerializedString WARNING = new SerializedString("warning");
+
+    private LogFields() {
+    }
+
+    /**
+     * http: method, path, [status_code, duration_ms], client_ip, user_agent
+     * 완료 전 요청은 status_code/duration_ms를 쓰지 않음 (statusCode < 0)
+     */
+    static final class Http implements StructuredArgument {
+        private final String method;
+        private final String path;
+        private final int statusCode;
+        private final long durationMs;
+        private final String clientIp;
+        private final String userAgent;
+
+        Http(String method, String path, int statusCode, long durationMs, String clientIp, String userAgent) {
+            this.method = method;
+            this.path = path;
+            this.statusCode = statusCode;
+            this.durationMs = durationMs;
+            this.clientIp = clientIp;
+            this.userAgent = userAgent;
+        }
+
+        @Override
+        public void writeTo(JsonGenerator generator) throws IOException {
+            generator.writeFieldName(HTTP);
+            generator.writeStartObject();
+            generator.writeFieldName(METHOD);
+            generator.writeString(method);
+            generator.writeFieldName(PATH);
+            generator.writeString(path);
+            if (statusCode >= 0) {
+                generator.writeFieldName(STATUS_CODE);
+                generator.writeNumber(statusCode);
+                generator.writeFieldName(DURATION_MS);
+                generator.writeNumber(durationMs);
+            }
+            generator.writeFieldName(CLIENT_IP);
+            generator.writeString(clientIp);
+            generator.writeFieldName(USER_AGENT);
+            generator.writeString(userAgent);
+            generator.writeEndObject();
+        }
+
+        @Override
+        public String toString() {
+            return "http={method=" + method + ", path=" + path
+                    + (statusCode >= 0 ? ", status_code=" + statusCode + ", duration_ms=" + durationMs : "")
+                    + ", client_ip=" + clientIp + ", user_agent=" + userAgent + "}";
+        }
+    }
+
+    /**
+     * query: type, statement, duration_ms, rows_affected, database
+     */
+    static final class Query implements StructuredArgument {
+        private final String type;
+        private final String statement;
+        private final long durationMs;
+        private final int rowsAffected;
+        private final String database;
+
+        Query(String type, String statement, long durationMs, int rowsAffected, String database) {
+            this.type = type;
+            this.statement = statement;
+            this.durationMs = durationMs;
+            this.rowsAffected = rowsAffected;
+            this.database = database;
+        }
+
+        @Override
+        public void writeTo(JsonGenerator generator) throws IOException {
+            generator.writeFieldName(QUERY);
+            generator.writeStartObject();
+            generator.writeFieldName(TYPE);
+            generator.writeString(type);
+            generator.writeFieldName(STATEMENT);
+            generator.writeString(statement);
+            generator.writeFieldName(DURATION_MS);
+            generator.writeNumber(durationMs);
+            generator.writeFieldName(ROWS_AFFECTED);
+            generator.writeNumber(rowsAffected);
+            generator.writeFieldName(DATABASE);
+            generator.writeString(database);
+            generator.writeEndObject();
+        }
+
+        @Override
+        public String toString() {
+            return "query={type=" + type + ", statement=" + statement + ", duration_ms=" + durationMs
+                    + ", rows_affected=" + rowsAffected + ", database=" + database + "}";
+        }
+    }
+
+    /**
+     * error: type, message, [location: file, line, function, class]
+     * 발생 위치는 인코딩 시점에 계산 (프로젝트 패키지의 첫 프레임, 없으면 첫 프레임)
+     */
+    static final class Error implements StructuredArgument {
+        private final Throwable throwable;
+        private final boolean includeLocation;
+
+        Error(Throwable throwable, boolean includeLocation) {
+            this.throwable = throwable;
+            this.includeLocation = includeLocation;
+        }
+
+        @Override
+        public void writeTo(JsonGenerator generator) throws IOException {
+            generator.writeFieldName(ERROR);
+            generator.writeStartObject();
+            generator.writeFieldName(TYPE);
+            generator.writeString(throwable.getClass().getSimpleName());
+            generator.writeFieldName(MESSAGE);
+            generator.writeString(throwable.getMessage());
+            StackTraceElement element = includeLocation ? location(throwable) : null;
+            if (element != null) {
+                generator.writeFieldName(LOCATION);
+                generator.writeStartObject();
+                generator.writeFieldName(FILE);
+                generator.writeString(element.getFileName());
+                generator.writeFieldName(LINE);
+                generator.writeNumber(element.getLineNumber());
+                generator.writeFieldName(FUNCTION);
+                generator.writeString(element.getMethodName());
+                generator.writeFieldName(CLASS);
+                generator.writeString(element.getClassName());
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+        }
+
+        private static StackTraceElement location(Throwable throwable) {
+            StackTraceElement[] stackTrace = throwable.getStackTrace();
+            if (stackTrace == null || stackTrace.length == 0) {
+                return null;
+            }
+            for (StackTraceElement element : stackTrace) {
+                if (element.getClassName().startsWith(PROJECT_PACKAGE)) {
+                    return element;
+                }
+            }
+            return stackTrace[0];
+        }
+
+        @Override
+        public String toString() {
+            return "error={type=" + throwable.getClass().getSimpleName() + ", message=" + throwable.getMessage() + "}";
+        }
+    }
+
+    /**
+     * context: threshold_ms, warning (느린 쿼리 경고)
+     */
+    static final class Threshold implements StructuredArgument {
+        private final long thresholdMs;
+        private final String warning;
+
+        Threshold(long thresholdMs, String warning) {
+            this.thresholdMs = thresholdMs;
+            this.warning = warning;
+        }
+
+        @Override
+        public void writeTo(JsonGenerator generator) throws IOException {
+            generator.writeFieldName(CONTEXT);
+            generator.writeStartObject();
+            generator.writeFieldName(THRESHOLD_MS);
+            generator.writeNumber(thresholdMs);
+            generator.writeFieldName(WARNING);
+            generator.writeString(warning);
+            generator.writeEndObject();
+        }
+
+        @Override
+        public String toString() {
+            return "context={threshold_ms=" + thresholdMs + ", warning=" + warning + "}";
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.logging.util;
+
+import net.logstash.logback.argument.StructuredArguments;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import java.util.Map;
+
+/**
+ * 구조화 로그 빌더
+ * 레벨을 먼저 확인해 비활성 레벨이면 아무것도 만들지 않는 빌더를 반환하고,
+ * 활성 레벨이면 스레드별로 재사용하는 빌더에 필드를 모아 log() 시점에 한 번 기록합니다.
+ * 필드는 Map 대신 LogFields로 전달되어 인코더가 JsonGenerator에 바로 씁니다.
+ *
+ * <pre>
+ * StructuredLog.info(logger)
+ *     .query("SELECT", sql, durationMs, rows, "h2")
+ *     .log("Database query executed");
+ * </pre>
+ */
+public final class StructuredLog {
+
+    private static final int MAX_ARGUMENTS = 4;
+    private static final StructuredLog DISABLED = new StructuredLog();
+    private static final ThreadLocal<StructuredLog> BUILDERS = ThreadLocal.withInitial(StructuredLog::new);
+
+    private final Object[] arguments = new Object[MAX_ARGUMENTS];
+    private int size;
+    private Throwable throwable;
+    private Logger logger;
+    private Level level;
+
+    private StructuredLog() {
+    }
+
+    public static StructuredLog info(Logger logger) {
+        return at(logger, Level.INFO);
+    }
+
+    public static StructuredLog warn(Logger logger) {
+        return at(logger, Level.WARN);
+    }
+
+    public static StructuredLog error(Logger logger) {
+        return at(logger, Level.ERROR);
+    }
+
+    /**
+     * 레벨이 비활성이면 모든 호출을 무시하는 빌더 반환
+     */
+    public static StructuredLog at(Logger logger, Level level) {
+        if (!logger.isEnabledForLevel(level)) {
+            return DISABLED;
+        }
+        StructuredLog builder = BUILDERS.get();
+        if (builder.logger != null) {
+            // 필드 값 계산 중 다시 로그를 남겼거나, 예외로 log()까지 가지 못한 빌더가 남은 경우
+            // 사용 중일 수 있는 빌더는 그대로 두고 새 빌더로 교체 (이후 호출은 새 빌더를 재사용)
+            builder = new StructuredLog();
+            BUILDERS.set(builder);
+        }
+        builder.logger = logger;
+        builder.level = level;
+        return builder;
+    }
+
+    /**
+     * http 필드 (요청 시작)
+     */
+    public StructuredLog http(String method, String path, String clientIp, String userAgent) {
+        return logger == null ? this : add(new LogFields.Http(method, path, -1, 0, clientIp, userAgent));
+    }
+
+    /**
+     * http 필드 (요청 완료)
+     */
+    public StructuredLog http(String method, String path, int statusCode, long durationMs,
+                              String clientIp, String userAgent) {
+        return logger == null ? this
+                : add(new LogFields.Http(method, path, statusCode, durationMs, clientIp, userAgent));
+    }
+
+    /**
+     * query 필드
+     */
+    public StructuredLog query(String type, String statement, long durationMs, int rowsAffected, String database) {
+        return logger == null ? this
+                : add(new LogFields.Query(type, statement, durationMs, rowsAffected, database));
+    }
+
+    /**
+     * error 필드 (type, message, location)와 스택 트레이스
+     */
+    public StructuredLog error(Throwable ex) {
+        if (logger == null) {
+            return this;
+        }
+        throwable = ex;
+        return add(new LogFields.Error(ex, true));
+    }
+
+    /**
+     * error 필드 (type, message만)와 스택 트레이스
+     */
+    public StructuredLog errorSummary(Throwable ex) {
+        if (logger == null) {
+            return this;
+        }
+        throwable = ex;
+        return add(new LogFields.Error(ex, false));
+    }
+
+    /**
+     * context 필드 (호출자가 만든 Map, null이면 생략)
+     */
+    public StructuredLog context(Map<String, Object> context) {
+        return logger == null || context == null ? this : add(StructuredArguments.keyValue("context", context));
+    }
+
+    /**
+     * context 필드 (느린 쿼리 임계값 경고)
+     */
+    public StructuredLog threshold(long thresholdMs, String warning) {
+        return logger == null ? this : add(new LogFields.Threshold(thresholdMs, warning));
+    }
+
+    /**
+     * 기록 후 빌더 초기화
+     */
+    public void log(String message) {
+        if (logger == null) {
+            return;
+        }
+        Object[] args = new Object[throwable != null ? size + 1 : size];
+        System.arraycopy(arguments, 0, args, 0, size);
+        if (throwable != null) {
+            args[size] = throwable;
+        }
+        Logger target = logger;
+        Level targetLevel = level;
+        reset();
+
+        switch (targetLevel) {
+            case ERROR -> target.error(message, args);
+            case WARN -> target.warn(message, args);
+            case INFO -> target.info(message, args);
+            case DEBUG -> target.debug(message, args);
+            default -> target.trace(message, args);
+        }
+    }
+
+    private StructuredLog add(Object argument) {
+        if (size == MAX_ARGUMENTS) {
+            reset();
+            throw new IllegalStateException("Too many structured fields (max " + MAX_ARGUMENTS + ")");
+        }
+        arguments[size++] = argument;
+        return this;
+    }
+
+    private void reset() {
+        for (int i = 0; i < size; i++) {
+            arguments[i] = null;
+        }
+        size = 0;
+        throwable = null;
+        logger = null;
+        level = null;
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.logging.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BoundedLocalCache 테스트
+ */
+class BoundedLocalCacheTest {
+
+    @Test
+    void testMaximumSizeIsEnforced() {
+        AtomicInteger evicted = new AtomicInteger();
+        BoundedLocalCache<Integer, String> cache = new BoundedLocalCache<>(100, Long.MAX_VALUE,
+                Weigher.singleton(), (key, value, cause) -> {
+                    if (cause == RemovalListener.Cause.SIZE) {
+                        evicted.incrementAndGet();
+                    }
+                });
+
+        for (int i = 0; i < 1_000; i++) {
+            cache.put(i, "value-" + i);
+        }
+
+        assertEquals(100, cache.size());
+        assertEquals(900, evicted.get());
+    }
+
+    @Test
+    void testMaximumWeightIsEnforced() {
+        BoundedLocalCache<Integer, byte[]> cache = new BoundedLocalCache<>(1_000, 10_000,
+                (key, value) -> value.length, RemovalListener.noop());
+
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, new byte[1_000]);
+        }
+
+        assertTrue(cache.weightedSize() <= 10_000);
+        assertEquals(cache.size() * 1_000L, cache.weightedSize());
+    }
+
+    @Test
+    void testOverweightEntryIsRejectedWithoutFlushingCache() {
+        List<String> removals = new ArrayList<>();
+        BoundedLocalCache<Integer, byte[]> cache = new BoundedLocalCache<>(1_000, 10_000,
+                (key, value) -> value.length, (key, value, cause) -> removals.add(key + ":" + cause));
+        for (int i = 0; i < 5; i++) {
+            cache.put(i, new byte[1_000]);
+        }
+
+        assertNull(cache.put(100, new byte[10_001]));
+        assertNotNull(cache.put(0, new byte[20_000]));
+
+        assertNull(cache.get(100));
+        assertNull(cache.get(0));
+        assertEquals(4, cache.size());
+        assertEquals(4_000, cache.weightedSize());
+        assertEquals(List.of("100:SIZE", "0:REPLACED", "0:SIZE"), removals);
+    }
+
+    @Test
+    void testFrequentEntriesSurviveScan() {
+        BoundedLocalCache<Integer, Integer> cache = new BoundedLocalCache<>(100, Long.MAX_VALUE,
+                Weigher.singleton(), RemovalListener.noop());
+
+        // 자주 쓰는 키 50개를 빈도 스케치에 충분히 기록
+        for (int round = 0; round < 20; round++) {
+            for (int hot = 0; hot < 50; hot++) {
+                if (cache.get(hot) == null) {
+                    cache.put(hot, hot);
+                }
+            }
+        }
+        // 한 번만 쓰이는 키로 대량 스캔
+        for (int cold = 1_000; cold < 11_000; cold++) {
+            cache.put(cold, cold);
+        }
+
+        int retained = 0;
+        for (int hot = 0; hot < 50; hot++) {
+            if (cache.get(hot) != null) {
+                retained++;
+            }
+        }
+        assertTrue(retained >= 45, "hot entries retained: " + retained);
+    }
+
+    @Test
+    void testExpiredEntryIsHiddenBeforeCleanUp() {
+        AtomicLong nanos = new AtomicLong();
+        BoundedLocalCache<String, String> cache = new BoundedLocalCache<>(10, Long.MAX_VALUE,
+                Weigher.singleton(), RemovalListener.noop(), nanos::get);
+        cache.put("key", "value", TimeUnit.SECONDS.toNanos(5));
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(5) - 1);
+        assertEquals("value", cache.get("key"));
+
+        nanos.incrementAndGet();
+        assertNull(cache.get("key"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testCleanUpExpiresOnlyDueEntries() {
+        AtomicLong nanos = new AtomicLong();
+        AtomicInteger expired = new AtomicInteger();
+        BoundedLocalCache<Integer, Integer> cache = new BoundedLocalCache<>(10_000, Long.MAX_VALUE,
+                Weigher.singleton(), (key, value, cause) -> {
+                    if (cause == RemovalListener.Cause.EXPIRED) {
+                        expired.incrementAndGet();
+                    }
+                }, nanos::get);
+
+        for (int i = 0; i < 1_000; i++) {
+            cache.put(i, i, TimeUnit.SECONDS.toNanos(10));
+        }
+        for (int i = 1_000; i < 2_000; i++) {
+            cache.put(i, i, TimeUnit.MINUTES.toNanos(90));
+        }
+        cache.put(-1, -1);
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(12));
+        assertEquals(1_000, cache.cleanUp());
+        assertEquals(1_001, cache.size());
+
+        // 상위 단계 버킷에서 하위 단계로 내려온 뒤 만료
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(89));
+        assertEquals(0, cache.cleanUp());
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(2));
+        assertEquals(1_000, cache.cleanUp());
+
+        assertEquals(2_000, expired.get());
+        assertEquals(1, cache.size());
+        assertEquals(-1, cache.get(-1));
+    }
+
+    @Test
+    void testReplacingValueReschedulesExpiry() {
+        AtomicLong nanos = new AtomicLong();
+        BoundedLocalCache<String, String> cache = new BoundedLocalCache<>(10, Long.MAX_VALUE,
+                Weigher.singleton(), RemovalListener.noop(), nanos::get);
+        cache.put("key", "first", TimeUnit.SECONDS.toNanos(1));
+        cache.put("key", "second", TimeUnit.MINUTES.toNanos(10));
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        assertEquals(0, cache.cleanUp());
+        assertEquals("second", cache.get("key"));
+    }
+}
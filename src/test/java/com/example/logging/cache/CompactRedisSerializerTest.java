@@ -0,0 +1,111 @@
+package com.example.logging.cache;
+
+import com.example.logging.dto.ProductPage;
+import com.example.logging.dto.ProductView;
+import com.example.logging.entity.Product;
+import com.example.logging.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CompactRedisSerializer 테스트
+ */
+class CompactRedisSerializerTest {
+
+    private final CompactRedisSerializer serializer = EntityCodecs.registerAll(new CompactRedisSerializer(512));
+
+    @Test
+    void testEntityRoundTripIsSmallerThanJson() {
+        Product product = product(1L, "Keyboard");
+
+        byte[] bytes = serializer.serialize(product);
+        Product restored = (Product) serializer.deserialize(bytes);
+
+        assertEquals(1L, restored.getId());
+        assertEquals("Keyboard", restored.getName());
+        assertEquals("mechanical keyboard", restored.getDescription());
+        assertEquals(99.5, restored.getPrice());
+        assertTrue(bytes.length * 2 < new GenericJackson2JsonRedisSerializer().serialize(product).length);
+
+        User user = new User("김철수", "kim@example.com");
+        User restoredUser = (User) serializer.deserialize(serializer.serialize(user));
+        assertNull(restoredUser.getId());
+        assertEquals("김철수", restoredUser.getName());
+        assertEquals("kim@example.com", restoredUser.getEmail());
+
+        ProductPage page = new ProductPage(List.of(
+                new ProductView(1L, "Keyboard", null, 99.5),
+                new ProductView(2L, "Mouse", "wireless", 25.0)), "cursor");
+        ProductPage restoredPage = (ProductPage) serializer.deserialize(serializer.serialize(page));
+        assertEquals("cursor", restoredPage.nextCursor());
+        assertEquals(new ProductView(2L, "Mouse", "wireless", 25.0), restoredPage.items().get(1));
+        assertNull(restoredPage.items().get(0).description());
+        assertNull(((ProductPage) serializer.deserialize(serializer.serialize(new ProductPage(List.of(), null)))).nextCursor());
+    }
+
+    @Test
+    void testScalarsListsAndUnregisteredTypes() {
+        assertEquals("text", serializer.deserialize(serializer.serialize("text")));
+        assertEquals(-42L, serializer.deserialize(serializer.serialize(-42L)));
+        assertEquals(7, serializer.deserialize(serializer.serialize(7)));
+        assertEquals(Boolean.TRUE, serializer.deserialize(serializer.serialize(true)));
+        Map<String, Object> map = new HashMap<>(Map.of("status", "UP"));
+        assertEquals(map, serializer.deserialize(serializer.serialize(map)));
+        assertNull(serializer.serialize(null));
+
+        List<Object> mixed = new ArrayList<>(List.of("a", 1L));
+        mixed.add(null);
+        assertEquals(mixed, serializer.deserialize(serializer.serialize(mixed)));
+    }
+
+    @Test
+    void testLargeValuesAreCompressed() {
+        List<Product> products = new ArrayList<>();
+        for (long i = 0; i < 200; i++) {
+            products.add(product(i, "Product " + i));
+        }
+
+        byte[] compressed = serializer.serialize(products);
+        byte[] uncompressed = EntityCodecs.registerAll(new CompactRedisSerializer(0)).serialize(products);
+
+        assertEquals(CompactRedisSerializer.FLAG_LZ4, compressed[2]);
+        assertEquals(0, uncompressed[2]);
+        assertTrue(compressed.length < uncompressed.length);
+        @SuppressWarnings("unchecked")
+        List<Product> restored = (List<Product>) serializer.deserialize(compressed);
+        assertEquals(200, restored.size());
+        assertEquals("Product 199", restored.get(199).getName());
+    }
+
+    @Test
+    void testReadsLegacyJsonValues() {
+        byte[] legacy = new GenericJackson2JsonRedisSerializer().serialize(product(3L, "Legacy"));
+
+        Product restored = (Product) serializer.deserialize(legacy);
+
+        assertEquals(3L, restored.getId());
+        assertEquals("Legacy", restored.getName());
+    }
+
+    @Test
+    void testRejectsUnknownFormatVersion() {
+        byte[] bytes = serializer.serialize("text");
+        bytes[1] = 99;
+
+        assertThrows(SerializationException.class, () -> serializer.deserialize(bytes));
+    }
+
+    private static Product product(Long id, String name) {
+        Product product = new Product(name, "mechanical keyboard", 99.5);
+        product.setId(id);
+        return product;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.logging.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RequestCoalescer 테스트
+ */
+class RequestCoalescerTest {
+
+    @Test
+    void testRequestsWithinWindowShareOneBatch() {
+        List<List<String>> batches = new ArrayList<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        RequestCoalescer<String, String> coalescer = new RequestCoalescer<>(keys -> {
+            batches.add(keys);
+            Map<String, String> values = new HashMap<>();
+            keys.stream().filter(key -> !key.equals("missing")).forEach(key -> values.put(key, "v-" + key));
+            return values;
+        }, TimeUnit.MILLISECONDS.toNanos(50), 100, executor);
+
+        CompletableFuture<String> a = coalescer.submit("a");
+        CompletableFuture<String> b = coalescer.submit("b");
+        CompletableFuture<String> duplicate = coalescer.submit("a");
+        CompletableFuture<String> missing = coalescer.submit("missing");
+
+        assertEquals("v-a", a.join());
+        assertEquals("v-b", b.join());
+        assertEquals("v-a", duplicate.join());
+        assertNull(missing.join());
+        assertEquals(List.of(List.of("a", "b", "missing")), batches);
+        assertEquals(4.0, coalescer.averageBatchSize());
+        executor.shutdown();
+    }
+
+    @Test
+    void testBatchesAreSplitByMaxSize() {
+        List<Integer> batchSizes = new ArrayList<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        RequestCoalescer<Integer, Integer> coalescer = new RequestCoalescer<>(keys -> {
+            batchSizes.add(keys.size());
+            Map<Integer, Integer> values = new HashMap<>();
+            keys.forEach(key -> values.put(key, key));
+            return values;
+        }, TimeUnit.MILLISECONDS.toNanos(50), 2, executor);
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(coalescer.submit(i));
+        }
+        futures.forEach(CompletableFuture::join);
+
+        assertEquals(List.of(2, 2, 1), batchSizes);
+        executor.shutdown();
+    }
+
+    @Test
+    void testBatchFailureReachesEveryCaller() {
+        RequestCoalescer<String, String> coalescer = new RequestCoalescer<>(keys -> {
+            throw new IllegalStateException("redis down");
+        }, 0, 100, Runnable::run);
+
+        CompletionException ex = assertThrows(CompletionException.class, () -> coalescer.submit("a").join());
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+    }
+}
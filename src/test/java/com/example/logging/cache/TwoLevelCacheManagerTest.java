@@ -0,0 +1,238 @@
+package com.example.logging.cache;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TwoLevelCacheManager 테스트
+ * 두 노드가 같은 L2(ConcurrentMapCacheManager)와 Redis pub/sub 대역을 공유하는 상황을 흉내냅니다.
+ */
+class TwoLevelCacheManagerTest {
+
+    @Test
+    void testRemoteHitIsServedFromLocalAfterwards() {
+        ConcurrentMapCacheManager remote = new ConcurrentMapCacheManager("products");
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(remote, 100, Duration.ofSeconds(30), new StubBus());
+        remote.getCache("products").put(1L, "product-1");
+
+        Cache cache = manager.getCache("products");
+        assertEquals("product-1", cache.get(1L).get());
+
+        // L2에서 지워져도 L1 TTL 동안은 로컬 값 사용
+        remote.getCache("products").evict(1L);
+        assertEquals("product-1", cache.get(1L, String.class));
+    }
+
+    @Test
+    void testValueLoaderRunsOnceAcrossLevels() {
+        ConcurrentMapCacheManager remote = new ConcurrentMapCacheManager("products");
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(remote, 100, Duration.ofSeconds(30), new StubBus());
+        AtomicInteger loads = new AtomicInteger();
+
+        Cache cache = manager.getCache("products");
+        cache.get(1L, () -> "loaded-" + loads.incrementAndGet());
+        cache.get(1L, () -> "loaded-" + loads.incrementAndGet());
+
+        assertEquals(1, loads.get());
+        assertEquals("loaded-1", remote.getCache("products").get(1L).get());
+    }
+
+    @Test
+    void testConcurrentLoadsOfSameKeyRunLoaderOnce() throws Exception {
+        ConcurrentMapCacheManager remote = new ConcurrentMapCacheManager("products");
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(remote, 100, Duration.ofSeconds(30), new StubBus());
+        Cache cache = manager.getCache("products");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<String>> results = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            results.add(executor.submit(() -> cache.get(1L, () -> {
+                loads.incrementAndGet();
+                release.await(10, TimeUnit.SECONDS);
+                return "product-1";
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+        for (Future<String> result : results) {
+            assertEquals("product-1", result.get(10, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertEquals(1, loads.get());
+        assertEquals("product-1", remote.getCache("products").get(1L).get());
+    }
+
+    @Test
+    void testLoaderFailureIsWrapped() {
+        ConcurrentMapCacheManager remote = new ConcurrentMapCacheManager("products");
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(remote, 100, Duration.ofSeconds(30), new StubBus());
+
+        assertThrows(Cache.ValueRetrievalException.class, () -> manager.getCache("products").get(1L, () -> {
+            throw new Exception("db down");
+        }));
+        assertNull(remote.getCache("products").get(1L));
+    }
+
+    @Test
+    void testFailedRemoteWriteDropsLocalCopy() {
+        ConcurrentMapCacheManager healthy = new ConcurrentMapCacheManager("products");
+        Cache remote = spy(healthy.getCache("products"));
+        CacheManager remoteManager = mock(CacheManager.class);
+        when(remoteManager.getCache("products")).thenReturn(remote);
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(remoteManager, 100, Duration.ofSeconds(30), new StubBus());
+        Cache cache = manager.getCache("products");
+        cache.put(1L, "v1");
+
+        doThrow(new IllegalStateException("redis down")).when(remote).put(1L, "v2");
+        assertThrows(IllegalStateException.class, () -> cache.put(1L, "v2"));
+        remote.evict(1L);
+
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void testLoadDoesNotOverwriteConcurrentPut() {
+        ConcurrentMapCacheManager remote = new ConcurrentMapCacheManager("products");
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(remote, 100, Duration.ofSeconds(30), new StubBus());
+        Cache cache = manager.getCache("products");
+
+        // 로딩 중에 @CachePut이 새 값을 씀 (로더는 그 전에 읽은 이전 값을 반환)
+        String loaded = cache.get(1L, () -> {
+            cache.put(1L, "new");
+            return "old";
+        });
+
+        assertEquals("old", loaded);
+        assertEquals("new", cache.get(1L).get());
+        assertEquals("new", remote.getCache("products").get(1L).get());
+
+        // 로딩 중 삭제되면 이전 값을 다시 적재하지 않음
+        String reloaded = cache.get(2L, () -> {
+            cache.evict(2L);
+            return "stale";
+        });
+        assertEquals("stale", reloaded);
+        assertNull(cache.get(2L));
+    }
+
+    @Test
+    void testFailedRemoteWriteAfterLoadStillReturnsValue() {
+        ConcurrentMapCacheManager healthy = new ConcurrentMapCacheManager("products");
+        Cache remote = spy(healthy.getCache("products"));
+        CacheManager remoteManager = mock(CacheManager.class);
+        when(remoteManager.getCache("products")).thenReturn(remote);
+        doThrow(new IllegalStateException("redis down")).when(remote).put(any(), any());
+        doThrow(new IllegalStateException("redis down")).when(remote).putIfAbsent(any(), any());
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(remoteManager, 100, Duration.ofSeconds(30), new StubBus());
+        Cache cache = manager.getCache("products");
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("v1", cache.get(1L, () -> "v" + loads.incrementAndGet()));
+        assertEquals("v1", cache.get(1L, () -> "v" + loads.incrementAndGet()));
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testWriteOnOneNodeInvalidatesOtherNodes() {
+        ConcurrentMapCacheManager remote = new ConcurrentMapCacheManager("products");
+        StubBus bus = new StubBus();
+        TwoLevelCacheManager nodeA = new TwoLevelCacheManager(remote, 100, Duration.ofSeconds(30), bus.node());
+        TwoLevelCacheManager nodeB = new TwoLevelCacheManager(remote, 100, Duration.ofSeconds(30), bus.node());
+
+        nodeA.getCache("products").put(1L, "v1");
+        assertEquals("v1", nodeB.getCache("products").get(1L).get());
+
+        nodeA.getCache("products").put(1L, "v2");
+        assertEquals("v2", nodeB.getCache("products").get(1L).get());
+
+        nodeA.getCache("products").evict(1L);
+        assertNull(nodeB.getCache("products").get(1L));
+    }
+
+    @Test
+    void testRedisInvalidatorRoundTripIgnoresOwnMessages() {
+        StringRedisTemplate publisherTemplate = mock(StringRedisTemplate.class);
+        RedisNearCacheInvalidator publisher = new RedisNearCacheInvalidator(publisherTemplate, "channel");
+        RedisNearCacheInvalidator subscriber = new RedisNearCacheInvalidator(mock(StringRedisTemplate.class), "channel");
+        List<String> received = new ArrayList<>();
+        publisher.subscribe((cache, key) -> received.add("self:" + cache + "/" + key));
+        subscriber.subscribe((cache, key) -> received.add(cache + "/" + key));
+
+        publisher.publish("products", "product:1");
+        publisher.publish("users", null);
+
+        ArgumentCaptor<String> messages = ArgumentCaptor.forClass(String.class);
+        verify(publisherTemplate, times(2)).convertAndSend(eq("channel"), messages.capture());
+        for (String message : messages.getAllValues()) {
+            DefaultMessage redisMessage = new DefaultMessage("channel".getBytes(StandardCharsets.UTF_8),
+                    message.getBytes(StandardCharsets.UTF_8));
+            publisher.onMessage(redisMessage, null);
+            subscriber.onMessage(redisMessage, null);
+        }
+
+        assertEquals(List.of("products/product:1", "users/null"), received);
+    }
+
+    /**
+     * Redis pub/sub 대역: 발행한 노드를 제외한 모든 노드에 전달
+     */
+    private static class StubBus implements NearCacheInvalidator {
+        private final List<Node> nodes = new ArrayList<>();
+
+        Node node() {
+            Node node = new Node();
+            nodes.add(node);
+            return node;
+        }
+
+        @Override
+        public void publish(String cacheName, String key) {
+        }
+
+        @Override
+        public void subscribe(BiConsumer<String, String> handler) {
+        }
+
+        private class Node implements NearCacheInvalidator {
+            private final List<BiConsumer<String, String>> handlers = new ArrayList<>();
+
+            @Override
+            public void publish(String cacheName, String key) {
+                for (Node node : nodes) {
+                    if (node != this) {
+                        node.handlers.forEach(handler -> handler.accept(cacheName, key));
+                    }
+                }
+            }
+
+            @Override
+            public void subscribe(BiConsumer<String, String> handler) {
+                handlers.add(handler);
+            }
+        }
+    }
+}
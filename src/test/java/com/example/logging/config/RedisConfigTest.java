@@ -0,0 +1,28 @@
+package com.example.logging.config;
+
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RedisConfig 테스트
+ */
+class RedisConfigTest {
+
+    @Test
+    void testCommandTimeoutsByCommandType() {
+        RedisConfig.CommandTimeoutSource source = new RedisConfig.CommandTimeoutSource(2000, 10000);
+
+        assertEquals(2000, source.getTimeout(command(CommandType.GET)));
+        assertEquals(10000, source.getTimeout(command(CommandType.KEYS)));
+        assertEquals(0, source.getTimeout(command(CommandType.BLPOP)));
+    }
+
+    private static Command<String, String, String> command(CommandType type) {
+        return new Command<>(type, new StatusOutput<>(StringCodec.UTF8));
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.logging.controller;
+
+import com.example.logging.cache.NearCacheInvalidator;
+import com.example.logging.cache.TwoLevelCacheManager;
+import com.example.logging.config.AppConstants;
+import com.example.logging.config.AppConstants.CacheNames;
+import com.example.logging.entity.Product;
+import com.example.logging.entity.User;
+import com.example.logging.repository.ProductRepository;
+import com.example.logging.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 상품/사용자 조회 캐시 정합성 통합 테스트
+ * Redis 대신 공유 ConcurrentMapCacheManager(L2)와 인메모리 무효화 버스로 두 노드를 구성합니다.
+ * 애플리케이션은 node A를 사용하고, node B는 같은 L2를 보는 다른 인스턴스 역할입니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class CacheConsistencyIntegrationTest {
+
+    /** 기본 정렬/크기 첫 페이지의 목록 캐시 키 */
+    private static final String FIRST_PAGE_KEY = "id:" + AppConstants.Pagination.DEFAULT_PAGE_SIZE;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    @Qualifier("otherNodeCacheManager")
+    private CacheManager otherNode;
+
+    @BeforeEach
+    void clearCaches() {
+        for (String name : List.of(CacheNames.PRODUCTS, CacheNames.PRODUCT_LIST, CacheNames.USERS)) {
+            cacheManager.getCache(name).clear();
+        }
+    }
+
+    @Test
+    void testProductReadIsServedFromCache() throws Exception {
+        Product product = productRepository.save(new Product("Keyboard", "desc", 100.0));
+
+        mockMvc.perform(get("/api/products/{id}", product.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Keyboard"));
+
+        // 캐시를 거치지 않은 변경은 TTL 동안 보이지 않아야 캐시가 사용된 것
+        product.setName("Changed directly");
+        productRepository.save(product);
+
+        mockMvc.perform(get("/api/products/{id}", product.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Keyboard"));
+    }
+
+    @Test
+    void testUpdateWritesThroughToAllNodes() throws Exception {
+        Product product = productRepository.save(new Product("Mouse", "desc", 20.0));
+        mockMvc.perform(get("/api/products/{id}", product.getId())).andExpect(status().isOk());
+        assertEquals("Mouse", cachedProduct(otherNode, product.getId()).getName());
+
+        mockMvc.perform(put("/api/products/{id}", product.getId()).with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Mouse v2\",\"description\":\"desc\",\"price\":25.0}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/products/{id}", product.getId()))
+                .andExpect(jsonPath("$.name").value("Mouse v2"))
+                .andExpect(jsonPath("$.price").value(25.0));
+        assertEquals("Mouse v2", cachedProduct(otherNode, product.getId()).getName());
+    }
+
+    @Test
+    void testDeleteEvictsProductAndList() throws Exception {
+        Product product = productRepository.save(new Product("Monitor", "desc", 300.0));
+        mockMvc.perform(get("/api/products/{id}", product.getId())).andExpect(status().isOk());
+        mockMvc.perform(get("/api/products")).andExpect(status().isOk());
+        assertNotNull(cacheManager.getCache(CacheNames.PRODUCT_LIST).get(FIRST_PAGE_KEY));
+        assertNotNull(cachedProduct(otherNode, product.getId()));
+
+        mockMvc.perform(delete("/api/products/{id}", product.getId()).with(csrf()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/products/{id}", product.getId()))
+                .andExpect(status().isNotFound());
+        assertNull(cachedProduct(otherNode, product.getId()));
+        assertNull(cacheManager.getCache(CacheNames.PRODUCT_LIST).get(FIRST_PAGE_KEY));
+    }
+
+    @Test
+    void testCreateProductInvalidatesList() throws Exception {
+        mockMvc.perform(get("/api/products").param("sort", "-id")).andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/products").with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Desk\",\"description\":\"desc\",\"price\":150.0}"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/products").param("sort", "-id"))
+                .andExpect(jsonPath("$.items[0].name").value("Desk"));
+    }
+
+    @Test
+    void testBatchReadKeepsRequestOrderWithoutRedis() throws Exception {
+        Product first = productRepository.save(new Product("Cable", "desc", 5.0));
+        Product second = productRepository.save(new Product("Hub", "desc", 30.0));
+
+        // 테스트 환경에는 Redis가 없으므로 MGET 실패 후 DB 조회로 진행
+        mockMvc.perform(get("/api/products/batch")
+                        .param("ids", second.getId() + "," + first.getId() + ",999999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].name").value("Hub"))
+                .andExpect(jsonPath("$[1].name").value("Cable"));
+    }
+
+    @Test
+    void testCreatedUserIsCached() throws Exception {
+        mockMvc.perform(post("/api/users").with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Kim\",\"email\":\"kim@example.com\"}"))
+                .andExpect(status().isCreated());
+        User user = userRepository.findAll().stream()
+                .filter(u -> "kim@example.com".equals(u.getEmail()))
+                .findFirst()
+                .orElseThrow();
+
+        Cache.ValueWrapper cached = otherNode.getCache(CacheNames.USERS).get(user.getId());
+        assertNotNull(cached);
+        assertEquals("Kim", ((User) cached.get()).getName());
+
+        mockMvc.perform(get("/api/users/{id}", user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("kim@example.com"));
+    }
+
+    private static Product cachedProduct(CacheManager node, Long id) {
+        Cache.ValueWrapper wrapper = node.getCache(CacheNames.PRODUCTS).get(id);
+        return wrapper != null ? (Product) wrapper.get() : null;
+    }
+
+    @TestConfiguration
+    static class TwoNodeCacheConfig {
+
+        private final ConcurrentMapCacheManager remote = new ConcurrentMapCacheManager();
+        private final InMemoryBus bus = new InMemoryBus();
+
+        @Bean
+        @Primary
+        CacheManager testCacheManager() {
+            return new TwoLevelCacheManager(remote, 100, Duration.ofSeconds(30), bus.node());
+        }
+
+        @Bean
+        CacheManager otherNodeCacheManager() {
+            return new TwoLevelCacheManager(remote, 100, Duration.ofSeconds(30), bus.node());
+        }
+    }
+
+    /**
+     * Redis pub/sub 대역: 발행한 노드를 제외한 모든 노드에 전달
+     */
+    static class InMemoryBus {
+        private final List<List<BiConsumer<String, String>>> nodes = new ArrayList<>();
+
+        NearCacheInvalidator node() {
+            List<BiConsumer<String, String>> handlers = new ArrayList<>();
+            nodes.add(handlers);
+            return new NearCacheInvalidator() {
+                @Override
+                public void publish(String cacheName, String key) {
+                    for (List<BiConsumer<String, String>> other : nodes) {
+                        if (other != handlers) {
+                            other.forEach(handler -> handler.accept(cacheName, key));
+                        }
+                    }
+                }
+
+                @Override
+                public void subscribe(BiConsumer<String, String> handler) {
+                    handlers.add(handler);
+                }
+            };
+        }
+    }
+}
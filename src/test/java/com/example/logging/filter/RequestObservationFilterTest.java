@@ -0,0 +1,144 @@
+package com.example.logging.filter;
+
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * RequestObservationFilter 테스트
+ */
+class RequestObservationFilterTest {
+
+    private static final long STREAM_DELAY_MS = 200;
+
+    @Test
+    void testObservationIsTimedOnceAndSharedByListeners() throws Exception {
+        List<RequestObservation> first = new ArrayList<>();
+        List<RequestObservation> second = new ArrayList<>();
+        RequestObservationFilter filter = new RequestObservationFilter(List.of(first::add, second::add));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/7");
+        request.setServletPath("/api/products/7");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/products/{id}");
+            }
+        });
+
+        assertEquals(1, first.size());
+        assertSame(first.get(0), second.get(0));
+        RequestObservation observation = first.get(0);
+        assertEquals("/api/products/{id}", observation.getRouteTemplate());
+        assertEquals(200, observation.getStatus());
+        assertTrue(observation.getDurationNanos() >= 0);
+    }
+
+    @Test
+    void testPropagatedFailureIsReportedAsServerError() {
+        List<RequestObservation> observed = new ArrayList<>();
+        RequestObservationFilter filter = new RequestObservationFilter(List.of(observed::add));
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/orders");
+        request.setServletPath("/api/orders");
+
+        assertThrows(ServletException.class, () -> filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> {
+                    throw new ServletException("boom");
+                }));
+
+        RequestObservation observation = observed.get(0);
+        assertEquals(500, observation.getStatus());
+        assertEquals("other", observation.getRouteTemplate());
+        assertInstanceOf(ServletException.class, observation.getFailure());
+    }
+
+    @Test
+    void testActuatorRequestsAreNotObserved() throws Exception {
+        List<RequestObservation> observed = new ArrayList<>();
+        RequestObservationFilter filter = new RequestObservationFilter(List.of(observed::add));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+        request.setServletPath("/actuator/health");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertTrue(observed.isEmpty());
+    }
+
+    @Test
+    void testStreamingResponseIsObservedUntilBodyIsWritten() throws Exception {
+        List<RequestObservation> observed = new ArrayList<>();
+        List<String> completionTraceIds = new ArrayList<>();
+        RequestObservationListener tracing = new RequestObservationListener() {
+            @Override
+            public void onRequestStarted(RequestObservation observation) {
+                MDC.put("trace_id", "trace-1");
+            }
+
+            @Override
+            public void onRequestCompleted(RequestObservation observation) {
+                completionTraceIds.add(MDC.get("trace_id"));
+            }
+        };
+        RequestObservationFilter filter = new RequestObservationFilter(List.of(tracing, observed::add));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new StreamingController()).addFilters(filter).build();
+
+        MvcResult result = mockMvc.perform(get("/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertTrue(observed.isEmpty(), "본문 전송이 끝나기 전에는 완료되지 않음");
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("first\nsecond\n"));
+
+        assertEquals(1, observed.size());
+        RequestObservation observation = observed.get(0);
+        assertEquals("/stream", observation.getRouteTemplate());
+        assertNull(observation.getFailure());
+        assertTrue(observation.getDurationNanos() >= TimeUnit.MILLISECONDS.toNanos(STREAM_DELAY_MS),
+                "duration " + observation.getDurationNanos() + "ns");
+        // 완료 리스너는 요청 시작 시점의 MDC로 호출됨
+        assertEquals(List.of("trace-1"), completionTraceIds);
+    }
+
+    @RestController
+    static class StreamingController {
+
+        @GetMapping("/stream")
+        StreamingResponseBody stream() {
+            return out -> {
+                out.write("first\n".getBytes(StandardCharsets.UTF_8));
+                try {
+                    Thread.sleep(STREAM_DELAY_MS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                }
+                out.write("second\n".getBytes(StandardCharsets.UTF_8));
+            };
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.logging.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.filter.ThresholdFilter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.EncoderBase;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AsyncBatchAppender 테스트
+ */
+class AsyncBatchAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+
+    AsyncBatchAppenderTest() {
+        context.setMDCAdapter(new LogbackMDCAdapter());
+    }
+
+    @Test
+    void testEventIsEncodedOnceAndSharedAcrossSinks() {
+        CountingEncoder encoder = new CountingEncoder();
+        ByteArrayOutputStream all = new ByteArrayOutputStream();
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        AsyncBatchAppender async = asyncAppender(encoder, 16);
+        async.addAppender(sink("all", all, null));
+        async.addAppender(sink("errors", errors, Level.ERROR));
+        async.start();
+        Logger logger = logger(async);
+
+        logger.info("started");
+        logger.error("failed");
+        async.stop();
+
+        assertEquals(2, encoder.count.get());
+        assertEquals("INFO started\nERROR failed\n", all.toString(StandardCharsets.UTF_8));
+        assertEquals("ERROR failed\n", errors.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testInfoIsDiscardedButErrorIsKeptUnderPressure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        OutputStream blocking = new OutputStream() {
+            @Override
+            public void write(int b) {
+                written.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                written.write(b, off, len);
+            }
+        };
+        AsyncBatchAppender async = asyncAppender(new CountingEncoder(), 4);
+        async.addAppender(sink("blocking", blocking, null));
+        async.start();
+        Logger logger = logger(async);
+
+        for (int i = 0; i < 50; i++) {
+            logger.info("info-" + i);
+        }
+        Thread errors = new Thread(() -> {
+            for (int i = 0; i < 10; i++) {
+                logger.error("error-" + i);
+            }
+        });
+        errors.start();
+        Thread.sleep(100);
+        assertTrue(errors.isAlive(), "ERROR는 버리지 않고 큐에 자리가 날 때까지 대기해야 함");
+
+        release.countDown();
+        errors.join(10_000);
+        async.stop();
+
+        String output = written.toString(StandardCharsets.UTF_8);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(output.contains("ERROR error-" + i + "\n"), "missing error-" + i);
+        }
+        assertTrue(async.getDiscardedCount() > 0);
+    }
+
+    @Test
+    void testErrorIsDiscardedInsteadOfBlockingWhenWorkerDied() throws Exception {
+        CountingEncoder encoder = new CountingEncoder() {
+            @Override
+            public byte[] encode(ILoggingEvent event) {
+                if ("poison".equals(event.getMessage())) {
+                    throw new Error("worker killed");
+                }
+                return super.encode(event);
+            }
+        };
+        AsyncBatchAppender async = asyncAppender(encoder, 2);
+        async.addAppender(sink("all", new ByteArrayOutputStream(), null));
+        async.start();
+        Logger logger = logger(async);
+
+        logger.error("poison");
+        Thread.sleep(200);
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (int i = 0; i < 10; i++) {
+                logger.error("error-" + i);
+            }
+        });
+        async.stop();
+
+        assertEquals(10, async.getDiscardedCount());
+    }
+
+    @Test
+    void testErrorWaitsAtMostMaxBlockingTime() {
+        CountDownLatch release = new CountDownLatch(1);
+        OutputStream stuck = new OutputStream() {
+            @Override
+            public void write(int b) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        AsyncBatchAppender async = asyncAppender(new CountingEncoder(), 2);
+        async.setMaxBlockingTime(200);
+        async.addAppender(sink("stuck", stuck, null));
+        async.start();
+        Logger logger = logger(async);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (int i = 0; i < 10; i++) {
+                logger.error("error-" + i);
+            }
+        });
+        release.countDown();
+        async.stop();
+
+        assertTrue(async.getDiscardedCount() > 0);
+    }
+
+    @Test
+    void testStopKeepsAppendersUntilStuckWorkerExits() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        OutputStream stuck = new OutputStream() {
+            @Override
+            public void write(int b) {
+                writing.countDown();
+                // 인터럽트를 무시하고 계속 대기하는 I/O
+                while (true) {
+                    try {
+                        release.await();
+                        return;
+                    } catch (InterruptedException e) {
+                        // 무시
+                    }
+                }
+            }
+        };
+        AsyncBatchAppender async = asyncAppender(new CountingEncoder(), 4);
+        async.setMaxFlushTime(100);
+        OutputStreamAppender<ILoggingEvent> sink = sink("stuck", stuck, null);
+        async.addAppender(sink);
+        async.start();
+        Logger logger = logger(async);
+
+        logger.info("first");
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        async.stop();
+        assertTrue(sink.isStarted(), "기록 중인 하위 appender를 멈추면 안 됨");
+        assertTrue(async.isAttached(sink));
+
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sink.isStarted() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(sink.isStarted());
+        assertFalse(async.isAttached(sink));
+    }
+
+    private AsyncBatchAppender asyncAppender(CountingEncoder encoder, int queueSize) {
+        encoder.setContext(context);
+        AsyncBatchAppender async = new AsyncBatchAppender();
+        async.setContext(context);
+        async.setName("ASYNC");
+        async.setEncoder(encoder);
+        async.setQueueSize(queueSize);
+        async.setDiscardingThreshold(1);
+        return async;
+    }
+
+    private OutputStreamAppender<ILoggingEvent> sink(String name, OutputStream out, Level threshold) {
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setName(name);
+        SharedBytesEncoder encoder = new SharedBytesEncoder();
+        encoder.setContext(context);
+        encoder.start();
+        appender.setEncoder(encoder);
+        appender.setImmediateFlush(false);
+        appender.setOutputStream(out);
+        if (threshold != null) {
+            ThresholdFilter filter = new ThresholdFilter();
+            filter.setLevel(threshold.toString());
+            filter.start();
+            appender.addFilter(filter);
+        }
+        appender.start();
+        return appender;
+    }
+
+    private Logger logger(AsyncBatchAppender async) {
+        Logger logger = context.getLogger("test");
+        logger.setAdditive(false);
+        logger.setLevel(Level.INFO);
+        logger.addAppender(async);
+        return logger;
+    }
+
+    /**
+     * 인코딩 횟수를 세는 인코더 ("LEVEL message\n")
+     */
+    private static class CountingEncoder extends EncoderBase<ILoggingEvent> {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public byte[] headerBytes() {
+            return null;
+        }
+
+        @Override
+        public byte[] encode(ILoggingEvent event) {
+            count.incrementAndGet();
+            return (event.getLevel() + " " + event.getFormattedMessage() + "\n").getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public byte[] footerBytes() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.logging.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RateLimitingTurboFilter 테스트
+ */
+class RateLimitingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final RateLimitingTurboFilter filter = new RateLimitingTurboFilter();
+
+    @BeforeEach
+    void setUp() {
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        appender.setContext(context);
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.DEBUG);
+        root.addAppender(appender);
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+    }
+
+    @Test
+    void testCapsInfoButKeepsErrorsAndReportsSuppressed() throws Exception {
+        filter.setBurst(1);
+        filter.setLoggerEventsPerSecond("com.example.noisy", 20);
+        Logger noisy = context.getLogger("com.example.noisy.HealthController");
+        Logger other = context.getLogger("com.example.other.Service");
+
+        for (int i = 0; i < 10; i++) {
+            noisy.info("probe {}", i);
+            other.info("work {}", i);
+        }
+        noisy.error("failed");
+
+        List<String> noisyMessages = messages("com.example.noisy.HealthController");
+        assertEquals(List.of("probe 0", "failed"), noisyMessages);
+        assertEquals(10, messages("com.example.other.Service").size());
+        assertEquals(9L, filter.getPendingSuppressed().get("com.example.noisy.HealthController"));
+
+        Thread.sleep(60);
+        noisy.info("probe again");
+
+        List<ILoggingEvent> events = appender.list;
+        ILoggingEvent summary = events.get(events.size() - 2);
+        assertEquals(Level.WARN, summary.getLevel());
+        assertEquals("9 log events suppressed by rate limit", summary.getFormattedMessage());
+        assertEquals("probe again", events.get(events.size() - 1).getFormattedMessage());
+        assertTrue(filter.getPendingSuppressed().isEmpty());
+    }
+
+    @Test
+    void testStopReportsPendingSuppressed() {
+        filter.setBurst(1);
+        filter.setLoggerEventsPerSecond("com.example.noisy", 1);
+        Logger noisy = context.getLogger("com.example.noisy.Poller");
+
+        for (int i = 0; i < 5; i++) {
+            noisy.info("poll {}", i);
+        }
+        filter.stop();
+
+        assertEquals(List.of("poll 0", "4 log events suppressed by rate limit"),
+                messages("com.example.noisy.Poller"));
+        assertTrue(filter.getPendingSuppressed().isEmpty());
+    }
+
+    @Test
+    void testMaxLevelAboveInfoIsClampedToInfo() {
+        filter.setMaxLevel("ERROR");
+        filter.setDefaultEventsPerSecond(1);
+        filter.setBurst(1);
+        Logger logger = context.getLogger("com.example.Failing");
+
+        for (int i = 0; i < 3; i++) {
+            logger.warn("warn {}", i);
+        }
+
+        assertEquals("INFO", filter.getMaxLevel());
+        assertEquals(3, messages("com.example.Failing").size());
+    }
+
+    @Test
+    void testLevelSampling() {
+        filter.setSampleRate("DEBUG", 0.0);
+        Logger logger = context.getLogger("com.example.Sampled");
+
+        logger.debug("dropped");
+        logger.info("kept");
+
+        assertEquals(List.of("kept"), messages("com.example.Sampled"));
+        assertEquals(1, filter.getSampledOutCount());
+        assertThrows(IllegalArgumentException.class, () -> filter.setSampleRate("ERROR", 0.5));
+    }
+
+    private List<String> messages(String loggerName) {
+        return appender.list.stream()
+                .filter(event -> event.getLoggerName().equals(loggerName))
+                .map(ILoggingEvent::getFormattedMessage)
+                .toList();
+    }
+}
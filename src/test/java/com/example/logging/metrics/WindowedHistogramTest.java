@@ -0,0 +1,65 @@
+package com.example.logging.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LatencyHistogram / WindowedHistogram 테스트
+ */
+class WindowedHistogramTest {
+
+    @Test
+    void testBucketBoundsCoverEveryValue() {
+        for (long value = 0; value < 1_000_000; value += 7) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(LatencyHistogram.lowerBound(index) <= value);
+            assertTrue(LatencyHistogram.upperBound(index) >= value);
+        }
+    }
+
+    @Test
+    void testPercentilesWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram(3_600_000_000L);
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(100_000, snapshot.getCount());
+        assertEquals(100_000, snapshot.getMax());
+        assertEquals(1, snapshot.getMin());
+        assertEquals(50_000.5, snapshot.getMean(), 0.001);
+        assertEquals(50_000, snapshot.getValueAtPercentile(0.50), 50_000 * 0.04);
+        assertEquals(99_000, snapshot.getValueAtPercentile(0.99), 99_000 * 0.04);
+        assertEquals(99_900, snapshot.getValueAtPercentile(0.999), 99_900 * 0.04);
+        assertEquals(100_000, snapshot.getValueAtPercentile(1.0));
+    }
+
+    @Test
+    void testOldSlotsLeaveWindow() {
+        AtomicLong now = new AtomicLong();
+        WindowedHistogram histogram = new WindowedHistogram(Duration.ofSeconds(60), 6, 1_000_000, now::get);
+
+        histogram.record(1_000);
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        histogram.record(2_000);
+        assertEquals(2, histogram.snapshot().getCount());
+
+        // 첫 구간(0~10초)이 창에서 빠지는 시점
+        now.set(Duration.ofSeconds(60).toNanos());
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(1, snapshot.getCount());
+        assertEquals(2_000, snapshot.getMax());
+
+        // 같은 구간 위치를 재사용하면 이전 값은 초기화
+        histogram.record(500);
+        now.set(Duration.ofSeconds(95).toNanos());
+        snapshot = histogram.snapshot();
+        assertEquals(1, snapshot.getCount());
+        assertEquals(500, snapshot.getMax());
+    }
+}
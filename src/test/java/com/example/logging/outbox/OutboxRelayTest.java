@@ -0,0 +1,147 @@
+package com.example.logging.outbox;
+
+import com.example.logging.dto.OrderPlacedEvent;
+import com.example.logging.entity.OutboxEvent;
+import com.example.logging.entity.Product;
+import com.example.logging.repository.OutboxEventRepository;
+import com.example.logging.repository.ProductRepository;
+import com.example.logging.service.OrderService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 주문 outbox 저장과 relay 배치 발행 테스트
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox;DB_CLOSE_DELAY=-1",
+        "app.outbox.batch-size=100",
+        "app.outbox.poll-interval-ms=3600000"
+})
+@DirtiesContext
+class OutboxRelayTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CapturingSink sink;
+
+    @BeforeEach
+    void drainPrevious() {
+        outboxRelay.drain();
+        sink.batches.clear();
+        sink.failNext = false;
+    }
+
+    @Test
+    void testOrdersArePublishedInBatchesAndRemoved() {
+        Product product = createProduct(1000);
+        for (int i = 0; i < 250; i++) {
+            assertTrue(orderService.placeOrder(product, 1).isPresent());
+        }
+        assertEquals(250, outboxEventRepository.count(), "주문과 같은 트랜잭션에서 이벤트 저장");
+
+        assertEquals(250, outboxRelay.drain());
+
+        assertEquals(List.of(100, 100, 50), sink.batches.stream().map(List::size).toList());
+        List<OutboxEvent> events = sink.batches.stream().flatMap(List::stream).toList();
+        for (int i = 1; i < events.size(); i++) {
+            assertTrue(events.get(i).getId() > events.get(i - 1).getId(), "오래된 이벤트부터 발행");
+        }
+        assertEquals(OrderPlacedEvent.EVENT_TYPE, events.get(0).getEventType());
+        assertTrue(events.get(0).getPayload().contains("\"productId\":" + product.getId()), events.get(0).getPayload());
+        assertEquals(0, outboxEventRepository.count());
+        assertEquals(0, outboxRelay.backlogSize());
+    }
+
+    @Test
+    void testInsufficientStockWritesNoEvent() {
+        Product product = createProduct(1);
+
+        Optional<OrderPlacedEvent> order = orderService.placeOrder(product, 2);
+
+        assertTrue(order.isEmpty());
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void testFailedPublishKeepsEventsForRetry() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        outboxRelay.bindTo(registry);
+        Product product = createProduct(10);
+        for (int i = 0; i < 3; i++) {
+            orderService.placeOrder(product, 1);
+        }
+        sink.failNext = true;
+
+        assertEquals(0, outboxRelay.drain());
+
+        assertEquals(3, outboxEventRepository.count());
+        assertEquals(3, registry.get("outbox.backlog").gauge().value());
+        assertTrue(registry.get("outbox.lag").gauge().value() >= 0);
+        assertEquals(1, registry.get("outbox.publish.failures").functionCounter().count());
+
+        // 실패 직후의 주기 호출은 backoff로 건너뜀
+        outboxRelay.poll();
+        assertEquals(3, outboxEventRepository.count());
+        assertTrue(sink.batches.isEmpty());
+
+        assertEquals(3, outboxRelay.drain());
+        assertEquals(0, outboxEventRepository.count());
+        assertEquals(0, registry.get("outbox.backlog").gauge().value());
+    }
+
+    private Product createProduct(int stock) {
+        Product product = new Product("Outbox item", "outbox", 25.0);
+        product.setStock(stock);
+        return productRepository.save(product);
+    }
+
+    /**
+     * 발행된 배치를 보관하는 sink (failNext면 다음 배치 한 번 실패)
+     */
+    static class CapturingSink implements OutboxEventSink {
+        final List<List<OutboxEvent>> batches = new ArrayList<>();
+        volatile boolean failNext;
+
+        @Override
+        public synchronized void publish(List<OutboxEvent> events) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("sink unavailable");
+            }
+            batches.add(List.copyOf(events));
+        }
+    }
+
+    @TestConfiguration
+    static class SinkConfig {
+        @Bean
+        @Primary
+        CapturingSink capturingSink() {
+            return new CapturingSink();
+        }
+    }
+}
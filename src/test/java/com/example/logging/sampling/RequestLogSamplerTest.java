@@ -0,0 +1,59 @@
+package com.example.logging.sampling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RequestLogSampler 테스트
+ */
+class RequestLogSamplerTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void testFailuresSlowRequestsAndServerErrorsAreAlwaysKept() {
+        RequestLogSampler sampler = sampler(1.0, new String[]{"/health=0", "/api/products/{id}=0.0"}, 0);
+
+        assertFalse(sampler.shouldLogStart("/health"));
+        assertTrue(sampler.shouldLogStart("/api/users"));
+        assertFalse(sampler.shouldLogCompletion("/health", 200, millis(5), null));
+        assertTrue(sampler.shouldLogCompletion("/health", 200, millis(5), new IllegalStateException("down")));
+        assertTrue(sampler.shouldLogCompletion("/health", 503, millis(5), null));
+        assertTrue(sampler.shouldLogCompletion("/api/products/{id}", 200, millis(1500), null));
+        assertTrue(sampler.shouldLogCompletion("/api/users", 200, millis(5), null));
+        assertEquals(4, sampler.getKeptCount());
+        assertEquals(1, sampler.getSampledOutCount());
+    }
+
+    @Test
+    void testAdaptiveRateFollowsTarget() {
+        RequestLogSampler sampler = sampler(1.0, new String[0], 100);
+        for (int i = 0; i < 1000; i++) {
+            sampler.shouldLogCompletion("/api/products/{id}", 200, millis(5), null);
+        }
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        int kept = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (sampler.shouldLogCompletion("/api/products/{id}", 200, millis(5), null)) {
+                kept++;
+            }
+        }
+
+        assertEquals(0.1, sampler.getAdaptiveRates().get("/api/products/{id}"), 0.001);
+        assertTrue(kept > 50 && kept < 150, "kept=" + kept);
+        assertFalse(sampler.shouldLogStart("/api/products/1"));
+    }
+
+    private RequestLogSampler sampler(double defaultRate, String[] routes, long targetPerSecond) {
+        return new RequestLogSampler(defaultRate, routes, targetPerSecond, 1000, 500, now::get);
+    }
+
+    private static long millis(long ms) {
+        return TimeUnit.MILLISECONDS.toNanos(ms);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.logging.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JwtTokenProvider 테스트
+ */
+class JwtTokenProviderTest {
+
+    private static final String OLD_SECRET = "previous-secret-key-for-rotation-tests-must-be-at-least-512-bits-long";
+    private static final String NEW_SECRET = "current-secret-key-for-rotation-tests-must-be-at-least-512-bits-long!";
+
+    @Test
+    void testParseAndValidateReturnsClaims() {
+        JwtTokenProvider provider = provider(NEW_SECRET, "k2", 60_000);
+        String token = provider.generateToken(new UsernamePasswordAuthenticationToken("alice", null));
+
+        JwtClaims claims = provider.parseAndValidate(token);
+
+        assertEquals("alice", claims.subject());
+        assertEquals("k2", claims.keyId());
+        assertTrue(claims.expiresAt().isAfter(Instant.now()));
+        assertEquals("alice", provider.getUsernameFromToken(token));
+        assertFalse(provider.isTokenExpired(token));
+    }
+
+    @Test
+    void testTokensSignedWithPreviousKeyStillValidate() {
+        String oldToken = provider(OLD_SECRET, "k1", 60_000).generateRefreshToken("bob");
+        JwtTokenProvider rotated = provider(NEW_SECRET, "k2", 60_000, "k1=" + OLD_SECRET);
+        JwtTokenProvider withoutOldKey = provider(NEW_SECRET, "k2", 60_000);
+
+        assertEquals("k1", rotated.parseAndValidate(oldToken).keyId());
+        assertTrue(rotated.validateToken(oldToken));
+        assertFalse(withoutOldKey.validateToken(oldToken));
+        assertFalse(rotated.validateToken(oldToken.substring(0, oldToken.length() - 2) + "xx"));
+    }
+
+    @Test
+    void testExpiredToken() {
+        JwtTokenProvider provider = provider(NEW_SECRET, "k2", -1_000);
+        String token = provider.generateRefreshToken("carol");
+
+        assertFalse(provider.validateToken(token));
+        assertTrue(provider.isTokenExpired(token));
+        assertThrows(ExpiredJwtException.class, () -> provider.parseAndValidate(token));
+    }
+
+    @Test
+    void testCachedTokenIsVerifiedOnce() {
+        JwtTokenProvider provider = provider(NEW_SECRET, "k2", 60_000);
+        String token = provider.generateRefreshToken("dave");
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(provider.validateToken(token));
+        }
+
+        assertEquals(1, provider.getTokenCache().size());
+        assertEquals(4, provider.getTokenCache().getHitCount());
+    }
+
+    @Test
+    void testRevokedTokenIsNeverServedFromCache() {
+        JwtTokenProvider provider = provider(NEW_SECRET, "k2", 60_000);
+        String revoked = provider.generateRefreshToken("erin");
+        String other = provider.generateRefreshToken("frank");
+        assertTrue(provider.validateToken(revoked));
+        assertTrue(provider.validateToken(other));
+
+        provider.revokeToken(revoked);
+
+        assertThrows(RevokedJwtException.class, () -> provider.parseAndValidate(revoked));
+        assertFalse(provider.validateToken(revoked));
+        assertTrue(provider.validateToken(other));
+
+        provider.revokeAllTokens("frank");
+        assertThrows(RevokedJwtException.class, () -> provider.parseAndValidate(other));
+    }
+
+    @Test
+    void testCachedTokenIsRejectedAfterExpiry() throws Exception {
+        JwtTokenProvider provider = provider(NEW_SECRET, "k2", 1_000);
+        String token = provider.generateRefreshToken("grace");
+        JwtClaims claims = provider.parseAndValidate(token);
+        assertEquals(1, provider.getTokenCache().size());
+
+        // exp는 초 단위로 잘리므로 최대 1초 대기
+        Thread.sleep(Math.max(0, claims.expiresAt().toEpochMilli() - System.currentTimeMillis()) + 10);
+
+        assertThrows(ExpiredJwtException.class, () -> provider.parseAndValidate(token));
+        assertFalse(provider.validateToken(token));
+    }
+
+    @Test
+    void testRefreshRotationRevokesFamilyOnReuse() {
+        JwtTokenProvider provider = provider(NEW_SECRET, "k2", 60_000);
+        TokenPair login = provider.issueTokens("heidi");
+        assertTrue(provider.parseAndValidate(login.refreshToken()).refreshToken());
+        assertThrows(io.jsonwebtoken.UnsupportedJwtException.class,
+                () -> provider.rotateRefreshToken(login.accessToken()));
+
+        TokenPair rotated = provider.rotateRefreshToken(login.refreshToken());
+        assertEquals("heidi", provider.getUsernameFromToken(rotated.accessToken()));
+        assertEquals(provider.parseAndValidate(login.refreshToken()).familyId(),
+                provider.parseAndValidate(rotated.refreshToken()).familyId());
+
+        // 이미 사용한 리프레시 토큰 재사용: 계열 전체 폐기
+        assertThrows(RevokedJwtException.class, () -> provider.rotateRefreshToken(login.refreshToken()));
+        assertFalse(provider.validateToken(rotated.accessToken()));
+        assertFalse(provider.validateToken(rotated.refreshToken()));
+        assertFalse(provider.validateToken(login.accessToken()));
+    }
+
+    private static JwtTokenProvider provider(String secret, String keyId, long expirationMs, String... previousKeys) {
+        TokenRevocationService revocations = new TokenRevocationService(
+                new InMemoryTokenRevocationStore(), 0.001, Duration.ofDays(7), Clock.systemUTC());
+        return new JwtTokenProvider(secret, expirationMs, expirationMs, keyId, previousKeys, 100, revocations);
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.logging.security;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 테스트용 로컬 Redis 대역 (RESP2, 토큰 폐기 저장소가 쓰는 명령만 지원)
+ * ZADD/ZSCORE/ZRANGEBYSCORE/ZREMRANGEBYSCORE, HSET/HGET/HGETALL/HDEL, SET [EX|PX] [NX]
+ * 값은 바이트 그대로 보관하기 위해 ISO-8859-1 문자열로 다룹니다.
+ */
+class LocalRedisStandIn implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final Map<String, Map<String, Double>> sortedSets = new HashMap<>();
+    private final Map<String, Map<String, String>> hashes = new HashMap<>();
+    private final Map<String, String> strings = new HashMap<>();
+    private final Map<String, Long> expiresAtMillis = new HashMap<>();
+
+    LocalRedisStandIn() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::acceptLoop, "redis-stand-in");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread handler = new Thread(() -> serve(socket), "redis-stand-in-client");
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException ex) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket; InputStream in = new BufferedInputStream(socket.getInputStream());
+             OutputStream out = new BufferedOutputStream(socket.getOutputStream())) {
+            List<String> command;
+            while ((command = readCommand(in)) != null) {
+                String reply;
+                synchronized (this) {
+                    reply = execute(command);
+                }
+                out.write(reply.getBytes(StandardCharsets.ISO_8859_1));
+                out.flush();
+            }
+        } catch (IOException ignored) {
+            // 연결 종료
+        }
+    }
+
+    private String execute(List<String> command) {
+        String name = command.get(0).toUpperCase(Locale.ROOT);
+        switch (name) {
+            case "PING":
+                return "+PONG\r\n";
+            case "CLIENT":
+            case "SELECT":
+                return "+OK\r\n";
+            case "ZADD": {
+                Map<String, Double> set = sortedSets.computeIfAbsent(command.get(1), key -> new HashMap<>());
+                int added = 0;
+                for (int i = 2; i + 1 < command.size(); i += 2) {
+                    if (set.put(command.get(i + 1), Double.parseDouble(command.get(i))) == null) {
+                        added++;
+                    }
+                }
+                return integer(added);
+            }
+            case "ZSCORE": {
+                Double score = sortedSets.getOrDefault(command.get(1), Map.of()).get(command.get(2));
+                return score == null ? "$-1\r\n" : bulk(Double.toString(score));
+            }
+            case "ZRANGEBYSCORE": {
+                Map<String, Double> set = sortedSets.getOrDefault(command.get(1), Map.of());
+                TreeMap<Double, List<String>> ordered = new TreeMap<>();
+                set.forEach((member, score) -> {
+                    if (inRange(score, command.get(2), command.get(3))) {
+                        ordered.computeIfAbsent(score, s -> new ArrayList<>()).add(member);
+                    }
+                });
+                List<String> members = new ArrayList<>();
+                ordered.values().forEach(members::addAll);
+                return array(members);
+            }
+            case "ZREMRANGEBYSCORE": {
+                Map<String, Double> set = sortedSets.getOrDefault(command.get(1), new HashMap<>());
+                int before = set.size();
+                set.values().removeIf(score -> inRange(score, command.get(2), command.get(3)));
+                return integer(before - set.size());
+            }
+            case "HSET": {
+                Map<String, String> hash = hashes.computeIfAbsent(command.get(1), key -> new HashMap<>());
+                int added = 0;
+                for (int i = 2; i + 1 < command.size(); i += 2) {
+                    if (hash.put(command.get(i), command.get(i + 1)) == null) {
+                        added++;
+                    }
+                }
+                return integer(added);
+            }
+            case "HGET": {
+                String value = hashes.getOrDefault(command.get(1), Map.of()).get(command.get(2));
+                return value == null ? "$-1\r\n" : bulk(value);
+            }
+            case "HGETALL": {
+                List<String> entries = new ArrayList<>();
+                hashes.getOrDefault(command.get(1), Map.of()).forEach((field, value) -> {
+                    entries.add(field);
+                    entries.add(value);
+                });
+                return array(entries);
+            }
+            case "HDEL": {
+                Map<String, String> hash = hashes.getOrDefault(command.get(1), new HashMap<>());
+                int removed = 0;
+                for (int i = 2; i < command.size(); i++) {
+                    if (hash.remove(command.get(i)) != null) {
+                        removed++;
+                    }
+                }
+                return integer(removed);
+            }
+            case "SET":
+                return set(command);
+            default:
+                return "-ERR unknown command '" + command.get(0) + "'\r\n";
+        }
+    }
+
+    private String set(List<String> command) {
+        String key = command.get(1);
+        boolean onlyIfAbsent = false;
+        long ttlMillis = -1;
+        for (int i = 3; i < command.size(); i++) {
+            String option = command.get(i).toUpperCase(Locale.ROOT);
+            if (option.equals("NX")) {
+                onlyIfAbsent = true;
+            } else if (option.equals("PX")) {
+                ttlMillis = Long.parseLong(command.get(++i));
+            } else if (option.equals("EX")) {
+                ttlMillis = Long.parseLong(command.get(++i)) * 1000;
+            }
+        }
+        Long expiresAt = expiresAtMillis.get(key);
+        if (expiresAt != null && expiresAt <= System.currentTimeMillis()) {
+            strings.remove(key);
+            expiresAtMillis.remove(key);
+        }
+        if (onlyIfAbsent && strings.containsKey(key)) {
+            return "$-1\r\n";
+        }
+        strings.put(key, command.get(2));
+        if (ttlMillis > 0) {
+            expiresAtMillis.put(key, System.currentTimeMillis() + ttlMillis);
+        } else {
+            expiresAtMillis.remove(key);
+        }
+        return "+OK\r\n";
+    }
+
+    private static boolean inRange(double score, String min, String max) {
+        return satisfies(score, min, true) && satisfies(score, max, false);
+    }
+
+    private static boolean satisfies(double score, String bound, boolean lower) {
+        boolean exclusive = bound.startsWith("(");
+        String raw = exclusive ? bound.substring(1) : bound;
+        double value = switch (raw.toLowerCase(Locale.ROOT)) {
+            case "-inf" -> Double.NEGATIVE_INFINITY;
+            case "+inf", "inf" -> Double.POSITIVE_INFINITY;
+            default -> Double.parseDouble(raw);
+        };
+        if (lower) {
+            return exclusive ? score > value : score >= value;
+        }
+        return exclusive ? score < value : score <= value;
+    }
+
+    private static List<String> readCommand(InputStream in) throws IOException {
+        String header = readLine(in);
+        if (header == null) {
+            return null;
+        }
+        if (!header.startsWith("*")) {
+            return List.of(header.trim().split("\\s+"));
+        }
+        int count = Integer.parseInt(header.substring(1));
+        List<String> parts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = Integer.parseInt(readLine(in).substring(1));
+            byte[] bytes = in.readNBytes(length);
+            in.readNBytes(2);
+            parts.add(new String(bytes, StandardCharsets.ISO_8859_1));
+        }
+        return parts;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\r') {
+                in.read();
+                return line.toString();
+            }
+            line.append((char) b);
+        }
+        return line.length() == 0 ? null : line.toString();
+    }
+
+    private static String integer(long value) {
+        return ":" + value + "\r\n";
+    }
+
+    private static String bulk(String value) {
+        return "$" + value.length() + "\r\n" + value + "\r\n";
+    }
+
+    private static String array(List<String> values) {
+        StringBuilder reply = new StringBuilder("*").append(values.size()).append("\r\n");
+        values.forEach(value -> reply.append(bulk(value)));
+        return reply.toString();
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.logging.security;
+
+import com.example.logging.cache.CompactRedisSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TokenRevocationService 테스트 (로컬 Redis 대역 사용)
+ */
+class TokenRevocationServiceTest {
+
+    private LocalRedisStandIn redis;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTokenRevocationStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = new LocalRedisStandIn();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", redis.getPort()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new CompactRedisSerializer(512));
+        template.setHashValueSerializer(new CompactRedisSerializer(512));
+        template.afterPropertiesSet();
+        store = new RedisTokenRevocationStore(template);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionFactory.destroy();
+        redis.close();
+    }
+
+    @Test
+    void testRevocationReachesOtherNodesAfterRebuild() {
+        TokenRevocationService nodeA = service();
+        TokenRevocationService nodeB = service();
+        Instant expiresAt = Instant.now().plusSeconds(60);
+
+        nodeA.revoke("jti-1", expiresAt);
+
+        assertTrue(nodeA.isRevoked("jti-1"));
+        assertFalse(nodeB.isRevoked("jti-1"), "Bloom 필터 재구성 전에는 다른 노드에 반영되지 않음");
+        nodeB.rebuild();
+        assertTrue(nodeB.isRevoked("jti-1"));
+        assertFalse(nodeB.isRevoked("jti-2"));
+    }
+
+    @Test
+    void testBloomNegativesSkipRedis() {
+        TokenRevocationService service = service();
+        service.revoke("revoked", Instant.now().plusSeconds(60));
+
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(service.isRevoked("token-" + i));
+        }
+        assertTrue(service.isRevoked("revoked"));
+
+        assertTrue(service.getBloomNegativeCount() > 990);
+        assertTrue(service.getStoreLookupCount() < 10);
+    }
+
+    @Test
+    void testSnapshotPurgesExpiredEntries() {
+        Instant now = Instant.now();
+        store.revoke("expired", now.minusSeconds(1));
+        store.revoke("live", now.plusSeconds(60));
+        store.revokeSubject("old-user", now.minus(Duration.ofDays(8)));
+        store.revokeSubject("user", now);
+
+        TokenRevocationStore.Snapshot snapshot = store.snapshot(now, now.minus(Duration.ofDays(7)));
+
+        assertEquals(java.util.Set.of("live"), snapshot.ids());
+        assertEquals(java.util.Set.of("user"), snapshot.subjects());
+        assertFalse(store.isRevoked("expired"));
+        assertEquals(now.toEpochMilli(), store.getSubjectRevokedAt("user").toEpochMilli());
+    }
+
+    @Test
+    void testSubjectRevocationAndReuseDetection() {
+        TokenRevocationService service = service();
+        Instant issuedBefore = Instant.now().minusSeconds(5);
+
+        service.revokeSubject("alice");
+
+        assertTrue(service.isSubjectRevoked("alice", issuedBefore));
+        assertFalse(service.isSubjectRevoked("alice", Instant.now().plusSeconds(5)));
+        assertFalse(service.isSubjectRevoked("bob", issuedBefore));
+        assertTrue(service.markUsed("refresh-1", Instant.now().plusSeconds(60)));
+        assertFalse(service.markUsed("refresh-1", Instant.now().plusSeconds(60)));
+    }
+
+    private TokenRevocationService service() {
+        return new TokenRevocationService(store, 0.001, Duration.ofDays(7), Clock.systemUTC());
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.logging.service;
+
+import com.example.logging.dto.BulkItemResult;
+import com.example.logging.dto.BulkResult;
+import com.example.logging.dto.ProductView;
+import com.example.logging.dto.UserView;
+import com.example.logging.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 대량 등록/수정/삭제 테스트 (JDBC 배치, 항목별 결과)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulk-write;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.bulk.chunk-size=500"
+})
+@DirtiesContext
+class BulkWriteServiceTest {
+
+    @Autowired
+    private BulkWriteService bulkWriteService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void testCreateProductsIsBatched() {
+        List<ProductView> products = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            products.add(new ProductView(null, "Bulk " + i, "bulk", i));
+        }
+        products.set(700, new ProductView(null, "Negative", "bulk", -1));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        BulkResult result = bulkWriteService.createProducts(products);
+
+        assertEquals(1200, result.total());
+        assertEquals(1199, result.succeeded());
+        assertEquals(BulkItemResult.INVALID, result.items().get(700).status());
+        assertNull(result.items().get(700).id());
+        assertEquals(BulkItemResult.CREATED, result.items().get(701).status());
+        assertEquals(1199, statistics.getEntityInsertCount());
+        // 배치(100건)와 시퀀스 pooled 할당(50건)이 없으면 INSERT마다 문장을 준비함
+        assertTrue(statistics.getPrepareStatementCount() < 100,
+                "prepared statements: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testUpdateAndDeleteReportMissingIds() {
+        Long id = bulkWriteService.createProducts(List.of(new ProductView(null, "Before", "desc", 10)))
+                .items().get(0).id();
+
+        BulkResult updated = bulkWriteService.updateProducts(List.of(
+                new ProductView(id, "After", "desc", 20),
+                new ProductView(Long.MAX_VALUE, "Missing", "desc", 1),
+                new ProductView(null, "No id", "desc", 1)));
+
+        assertEquals(1, updated.succeeded());
+        assertEquals(List.of(BulkItemResult.UPDATED, BulkItemResult.NOT_FOUND, BulkItemResult.INVALID),
+                updated.items().stream().map(BulkItemResult::status).toList());
+        assertEquals("After", productRepository.findById(id).orElseThrow().getName());
+
+        BulkResult deleted = bulkWriteService.deleteProducts(List.of(id, Long.MAX_VALUE, id));
+
+        assertEquals(List.of(BulkItemResult.DELETED, BulkItemResult.NOT_FOUND, BulkItemResult.NOT_FOUND),
+                deleted.items().stream().map(BulkItemResult::status).toList());
+        assertFalse(productRepository.existsById(id));
+    }
+
+    @Test
+    void testConstraintViolationFailsOnlyThatUser() {
+        bulkWriteService.createUsers(List.of(new UserView(null, "Existing", "taken@example.com")));
+
+        BulkResult result = bulkWriteService.createUsers(List.of(
+                new UserView(null, "First", "first@example.com"),
+                new UserView(null, "Duplicate", "taken@example.com"),
+                new UserView(null, "Bad email", "not-an-email"),
+                new UserView(null, "Second", "second@example.com")));
+
+        assertEquals(2, result.succeeded());
+        assertEquals(List.of(BulkItemResult.CREATED, BulkItemResult.FAILED, BulkItemResult.INVALID, BulkItemResult.CREATED),
+                result.items().stream().map(BulkItemResult::status).toList());
+        assertNotNull(result.items().get(1).error());
+        assertNotNull(result.items().get(3).id());
+    }
+}
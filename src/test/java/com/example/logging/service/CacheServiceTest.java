@@ -0,0 +1,189 @@
+package com.example.logging.service;
+
+import com.example.logging.cache.RefreshPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CacheService 테스트
+ */
+class CacheServiceTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStatsAreBrokenDownByNamespace() {
+        CacheService cacheService = new CacheService(100, Long.MAX_VALUE);
+        cacheService.put("product:1", "p1", 60);
+        cacheService.put("user:1", "u1", 60);
+
+        cacheService.get("product:1", String.class);
+        cacheService.get("product:2", String.class);
+        cacheService.get("user:1", String.class);
+        cacheService.recordLoad("product:2", TimeUnit.MILLISECONDS.toNanos(4));
+
+        Map<String, Object> stats = cacheService.getStats();
+        assertEquals(2L, stats.get("hits"));
+        assertEquals(1L, stats.get("misses"));
+
+        Map<String, Map<String, Object>> namespaces = (Map<String, Map<String, Object>>) stats.get("namespaces");
+        Map<String, Object> product = namespaces.get("product");
+        assertEquals(1L, product.get("hits"));
+        assertEquals(1L, product.get("misses"));
+        assertEquals(1L, product.get("entries"));
+        assertEquals(1L, product.get("loads"));
+        assertEquals(4.0, product.get("avg_load_time_ms"));
+        assertEquals(1L, namespaces.get("user").get("hits"));
+    }
+
+    @Test
+    void testConcurrentHitsAreNotLost() throws Exception {
+        CacheService cacheService = new CacheService(100, Long.MAX_VALUE);
+        cacheService.put("product:1", "p1", 60);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    cacheService.get("product:1", String.class);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(80_000L, cacheService.getStats().get("hits"));
+    }
+
+    @Test
+    void testMetersAreRegisteredPerNamespace() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CacheService cacheService = new CacheService(1, Long.MAX_VALUE);
+        cacheService.put("product:1", "p1", 60);
+        cacheService.bindTo(registry);
+
+        // 바인딩 이후 생긴 namespace도 등록
+        cacheService.get("user:1", String.class);
+        cacheService.put("product:2", "p2", 60);
+
+        assertEquals(1.0, registry.get("cache.gets")
+                .tags("namespace", "user", "result", "miss").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.evictions")
+                .tag("namespace", "product").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.size").gauge().value());
+    }
+
+    @Test
+    void testConcurrentMissesShareOneLoad() throws Exception {
+        CacheService cacheService = new CacheService(100, Long.MAX_VALUE);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Future<String>> results = new ArrayList<>();
+        for (int t = 0; t < 16; t++) {
+            results.add(executor.submit(() -> cacheService.getOrLoad("product:1", () -> {
+                loads.incrementAndGet();
+                await(release);
+                return "p1";
+            }, 60)));
+        }
+        Thread.sleep(100);
+        release.countDown();
+        for (Future<String> result : results) {
+            assertEquals("p1", result.get(10, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertEquals(1, loads.get());
+        assertEquals("p1", cacheService.getOrLoad("product:1", () -> "other", 60));
+    }
+
+    @Test
+    void testLoaderFailureIsNotCached() {
+        CacheService cacheService = new CacheService(100, Long.MAX_VALUE);
+
+        assertThrows(IllegalStateException.class, () -> cacheService.getOrLoad("product:1", () -> {
+            throw new IllegalStateException("db down");
+        }, 60));
+        assertNull(cacheService.getOrLoad("product:2", () -> null, 60));
+
+        assertEquals("p1", cacheService.getOrLoad("product:1", () -> "p1", 60));
+        assertEquals(1, cacheService.getStats().get("entries"));
+    }
+
+    @Test
+    void testStaleValueIsServedWhileRevalidating() {
+        AtomicLong now = new AtomicLong();
+        CacheService cacheService = new CacheService(100, Long.MAX_VALUE,
+                new RefreshPolicy(Duration.ofSeconds(30), 0, Runnable::run), now::get);
+        AtomicInteger version = new AtomicInteger();
+
+        assertEquals("v1", cacheService.getOrLoad("product:1", () -> "v" + version.incrementAndGet(), 60));
+
+        // TTL 경과, stale 구간: 이전 값을 반환하고 (동기 실행기로) 갱신
+        now.addAndGet(TimeUnit.SECONDS.toNanos(70));
+        assertEquals("v1", cacheService.getOrLoad("product:1", () -> "v" + version.incrementAndGet(), 60));
+        assertEquals("v2", cacheService.get("product:1", String.class));
+
+        // stale 구간까지 지나면 미스
+        now.addAndGet(TimeUnit.SECONDS.toNanos(100));
+        assertEquals("v3", cacheService.getOrLoad("product:1", () -> "v" + version.incrementAndGet(), 60));
+    }
+
+    @Test
+    void testPlainGetMissesAfterFreshTtl() {
+        AtomicLong now = new AtomicLong();
+        CacheService cacheService = new CacheService(100, Long.MAX_VALUE,
+                new RefreshPolicy(Duration.ofSeconds(30), 0, Runnable::run), now::get);
+
+        cacheService.getOrLoad("product:1", () -> "v1", 60);
+        assertEquals("v1", cacheService.get("product:1", String.class));
+
+        // TTL 경과 후 stale 구간: get은 미스, stale 값은 getOrLoad만 반환
+        now.addAndGet(TimeUnit.SECONDS.toNanos(70));
+        long misses = (Long) cacheService.getStats().get("misses");
+        assertNull(cacheService.get("product:1", String.class));
+        assertEquals(misses + 1, cacheService.getStats().get("misses"));
+        assertEquals("v1", cacheService.getOrLoad("product:1", () -> "v2", 60));
+    }
+
+    @Test
+    void testEarlyRefreshBeforeExpiry() {
+        AtomicLong now = new AtomicLong();
+        CacheService cacheService = new CacheService(100, Long.MAX_VALUE,
+                new RefreshPolicy(Duration.ZERO, 1_000_000_000, Runnable::run), now::get);
+        AtomicInteger version = new AtomicInteger();
+
+        cacheService.getOrLoad("product:1", () -> {
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+            return "v" + version.incrementAndGet();
+        }, 60);
+
+        // 로딩 시간 x beta가 남은 TTL보다 크므로 만료 전에 갱신
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertEquals("v1", cacheService.getOrLoad("product:1", () -> "v" + version.incrementAndGet(), 60));
+        assertEquals(2, version.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
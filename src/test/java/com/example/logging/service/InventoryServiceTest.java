@@ -0,0 +1,113 @@
+package com.example.logging.service;
+
+import com.example.logging.entity.Product;
+import com.example.logging.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 재고 차감 동시성 테스트 (한 상품에 수백 스레드 주문, 초과 판매 없음)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:inventory;DB_CLOSE_DELAY=-1",
+        "app.inventory.hot-threshold=50",
+        "app.inventory.block-size=100",
+        "app.inventory.flush-interval-ms=3600000"
+})
+@DirtiesContext
+class InventoryServiceTest {
+
+    private static final int THREADS = 200;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testHundredsOfThreadsNeverOversell() throws Exception {
+        int initialStock = 10_000;
+        int attemptsPerThread = 100;
+        long id = createProduct(initialStock);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                int sold = 0;
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    if (inventoryService.reserve(id, 1)) {
+                        sold++;
+                    }
+                }
+                return sold;
+            }));
+        }
+        long startNanos = System.nanoTime();
+        start.countDown();
+        int sold = 0;
+        for (Future<Integer> result : results) {
+            sold += result.get(120, TimeUnit.SECONDS);
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        executor.shutdown();
+
+        // 수요(2만 건)가 재고보다 많으므로 정확히 재고만큼만 팔려야 함
+        assertEquals(initialStock, sold, "sold " + sold + " in " + elapsedMs + "ms");
+        inventoryService.flush();
+        inventoryService.flush();
+        assertEquals(0, stock(id));
+        assertEquals(0, inventoryService.pooledStock(id));
+        assertTrue(elapsedMs < 60_000, THREADS * attemptsPerThread + " orders took " + elapsedMs + "ms");
+    }
+
+    @Test
+    void testUnusedReservationIsReturnedWhenProductCoolsDown() {
+        long id = createProduct(1000);
+
+        for (int i = 0; i < 60; i++) {
+            assertTrue(inventoryService.reserve(id, 1));
+        }
+        // 50번째 주문부터 블록(100개)을 미리 차감해 메모리에서 나눠 줌
+        assertTrue(inventoryService.pooledStock(id) > 0);
+        assertEquals(940, stock(id) + inventoryService.pooledStock(id));
+
+        inventoryService.flush();   // 이번 주기 주문 60건: 계속 hot
+        inventoryService.flush();   // 주문 없음: 남은 예약분 반환
+
+        assertEquals(0, inventoryService.pooledStock(id));
+        assertEquals(940, stock(id));
+        assertFalse(inventoryService.reserve(id, 941));
+        assertTrue(inventoryService.reserve(id, 940));
+        assertEquals(0, stock(id));
+    }
+
+    private long createProduct(int stock) {
+        Product product = new Product("Hot item", "inventory", 10.0);
+        product.setStock(stock);
+        return productRepository.save(product).getId();
+    }
+
+    private int stock(long id) {
+        return jdbcTemplate.queryForObject("select stock from product where id = ?", Integer.class, id);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.logging.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MetricsService 테스트
+ */
+class MetricsServiceTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMethodsOfSameRouteAreKeptApart() {
+        MetricsService metricsService = new MetricsService(60, 6, 10);
+        metricsService.recordRequest("GET", "/api/products/{id}", 200, 5);
+        metricsService.recordRequest("PUT", "/api/products/{id}", 500, 7);
+
+        Map<String, Object> endpoints = (Map<String, Object>) metricsService.getMetrics().get("endpoints");
+        assertEquals(2, endpoints.size());
+        Map<String, Object> put = (Map<String, Object>) endpoints.get("PUT /api/products/{id}");
+        assertEquals(1L, put.get("total_errors"));
+        assertEquals(2L, metricsService.getMetrics().get("total_requests"));
+    }
+
+    @Test
+    void testEndpointsBeyondLimitFoldIntoOther() {
+        MetricsService metricsService = new MetricsService(60, 6, 3);
+        for (int id = 0; id < 1_000; id++) {
+            metricsService.recordRequest("GET", "/api/products/" + id, 200, 1);
+        }
+
+        assertEquals(3, metricsService.getEndpointCount());
+        assertEquals(997, metricsService.getLatencySnapshot("*", MetricsService.OTHER_PATH)
+                .orElseThrow().getCount());
+        assertEquals(1_000L, metricsService.getMetrics().get("total_requests"));
+    }
+}
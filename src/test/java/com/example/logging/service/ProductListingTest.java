@@ -0,0 +1,147 @@
+package com.example.logging.service;
+
+import com.example.logging.controller.ProductController;
+import com.example.logging.dto.ProductCursor;
+import com.example.logging.dto.ProductPage;
+import com.example.logging.dto.ProductSort;
+import com.example.logging.dto.ProductView;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 상품 목록 keyset 페이지네이션/스트리밍 테스트 (H2, 100만 건)
+ * 다른 테스트와 DB를 공유하지 않도록 별도 인메모리 DB를 사용합니다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:product-listing;DB_CLOSE_DELAY=-1")
+@DirtiesContext
+class ProductListingTest {
+
+    private static final int ROWS = 1_000_000;
+    private static final int PRICES = 1000;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductController productController;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void insertProducts() {
+        if (jdbcTemplate.queryForObject("select count(*) from product", Long.class) == 0) {
+            // 가격은 1000종류만 두어 같은 가격 안에서 id로 이어지는 경계를 검증
+            // id는 시퀀스를 거치지 않고 직접 지정 (이 DB에서는 JPA로 상품을 추가하지 않음)
+            jdbcTemplate.update("insert into product (id, name, description, price) "
+                    + "select x, 'Product ' || x, 'bulk', mod(x * 7919, " + PRICES + ") from system_range(1, " + ROWS + ")");
+        }
+    }
+
+    @Test
+    void testKeysetPagesCoverTableInPriceOrder() {
+        long seen = 0;
+        ProductView previous = null;
+        // 첫 페이지는 목록 캐시를 거치므로 커서 페이지부터 순회
+        ProductPage page = productService.findPage(ProductSort.PRICE_ASC,
+                new ProductCursor(ProductSort.PRICE_ASC, -1, 0), 500);
+        while (true) {
+            for (ProductView product : page.items()) {
+                if (previous != null) {
+                    assertTrue(product.price() > previous.price()
+                            || (product.price() == previous.price() && product.id() > previous.id()),
+                            "정렬 순서가 페이지 경계에서 유지되어야 함: " + previous.id() + " -> " + product.id());
+                }
+                previous = product;
+            }
+            seen += page.items().size();
+            if (page.nextCursor() == null) {
+                break;
+            }
+            page = productService.findPage(ProductSort.PRICE_ASC,
+                    ProductCursor.decode(page.nextCursor(), ProductSort.PRICE_ASC), 500);
+        }
+        assertEquals(ROWS, seen);
+    }
+
+    @Test
+    void testDeepPageByIdAndLastPage() {
+        long maxId = jdbcTemplate.queryForObject("select max(id) from product", Long.class);
+
+        ProductPage deep = productService.findPage(ProductSort.ID_ASC,
+                new ProductCursor(ProductSort.ID_ASC, 0, maxId - 30), 20);
+        assertEquals(20, deep.items().size());
+        assertEquals(maxId - 29, deep.items().get(0).id());
+        assertNotNull(deep.nextCursor());
+
+        ProductPage last = productService.findPage(ProductSort.ID_ASC,
+                ProductCursor.decode(deep.nextCursor(), ProductSort.ID_ASC), 20);
+        assertEquals(10, last.items().size());
+        assertEquals(maxId, last.items().get(9).id());
+        assertNull(last.nextCursor());
+
+        assertNull(ProductCursor.decode(deep.nextCursor(), ProductSort.PRICE_ASC), "다른 정렬의 커서는 거부");
+        assertNull(ProductCursor.decode("not-a-cursor", ProductSort.ID_ASC));
+    }
+
+    @Test
+    void testStreamKeepsPersistenceContextEmpty() {
+        long[] maxManaged = {0};
+        long[] lastId = {0};
+        long count = productService.streamAll(ProductSort.ID_ASC, product -> {
+            assertTrue(product.id() > lastId[0]);
+            lastId[0] = product.id();
+            maxManaged[0] = Math.max(maxManaged[0],
+                    entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+        });
+
+        assertEquals(ROWS, count);
+        assertEquals(0, maxManaged[0], "영속성 컨텍스트에 남은 엔티티: " + maxManaged[0]);
+    }
+
+    @Test
+    void testNdjsonStreamWritesOneProductPerLine() throws Exception {
+        StreamingResponseBody body = (StreamingResponseBody) productController.streamProducts("price").getBody();
+        LineCountingStream out = new LineCountingStream();
+
+        body.writeTo(out);
+
+        assertEquals(ROWS, out.lines);
+        String first = out.firstLine.toString(StandardCharsets.UTF_8);
+        assertTrue(first.startsWith("{") && first.endsWith("}"), first);
+        assertTrue(first.contains("\"price\":0.0"), first);
+    }
+
+    /**
+     * 줄 수와 첫 줄만 보관하는 출력 (응답 전체를 메모리에 두지 않음)
+     */
+    private static final class LineCountingStream extends OutputStream {
+        private final ByteArrayOutputStream firstLine = new ByteArrayOutputStream();
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            } else if (lines == 0) {
+                firstLine.write(b);
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.logging.trace;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TraceContext / RandomTraceIdGenerator 테스트
+ */
+class TraceContextTest {
+
+    private final TraceIdGenerator generator = new RandomTraceIdGenerator();
+
+    @Test
+    void testGeneratedIdsFollowW3cFormat() {
+        Set<String> requestIds = new HashSet<>();
+        for (int i = 0; i < 1_000; i++) {
+            TraceContext context = TraceContext.resolve(null, null, generator);
+            assertTrue(context.getTraceId().matches("[0-9a-f]{32}"));
+            assertTrue(context.getSpanId().matches("[0-9a-f]{16}"));
+            assertTrue(context.getRequestId().matches("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}"));
+            assertTrue(context.getRequestId().replace("-", "").startsWith(context.getSpanId()));
+            assertNull(context.getParentSpanId());
+            requestIds.add(context.getRequestId());
+        }
+        assertEquals(1_000, requestIds.size());
+    }
+
+    @Test
+    void testTraceparentIsPropagated() {
+        TraceContext context = TraceContext.resolve(
+                "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00", "ignored", generator);
+
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", context.getTraceId());
+        assertEquals("00f067aa0ba902b7", context.getParentSpanId());
+        assertNotEquals("00f067aa0ba902b7", context.getSpanId());
+        assertFalse(context.isSampled());
+        assertEquals("00-4bf92f3577b34da6a3ce929d0e0e4736-" + context.getSpanId() + "-00", context.toTraceparent());
+    }
+
+    @Test
+    void testInvalidTraceparentFallsBackToTraceIdHeader() {
+        String[] invalid = {
+                "00-00000000000000000000000000000000-00f067aa0ba902b7-01",
+                "00-4bf92f3577b34da6a3ce929d0e0e4736-0000000000000000-01",
+                "ff-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01",
+                "00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01",
+                "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01-extra",
+                "garbage"
+        };
+        for (String traceparent : invalid) {
+            TraceContext context = TraceContext.resolve(traceparent, "legacy-trace", generator);
+            assertEquals("legacy-trace", context.getTraceId(), traceparent);
+            assertNull(context.getParentSpanId());
+            assertNull(context.toTraceparent());
+        }
+    }
+
+    @Test
+    void testFutureTraceparentVersionIsAccepted() {
+        TraceContext context = TraceContext.resolve(
+                "01-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01-future", null, generator);
+
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", context.getTraceId());
+        assertTrue(context.isSampled());
+    }
+}
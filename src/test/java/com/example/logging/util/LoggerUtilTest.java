@@ -0,0 +1,141 @@
+package com.example.logging.util;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LoggerUtil 테스트
+ * LogstashEncoder로 인코딩한 JSON의 http/query/error/context 형태를 확인합니다.
+ */
+class LoggerUtilTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        LoggerContext context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(out);
+        appender.start();
+        logger = context.getLogger("test");
+        logger.setLevel(Level.INFO);
+        logger.addAppender(appender);
+    }
+
+    @Test
+    void testQueryShape() throws Exception {
+        LoggerUtil.logQuery(logger, "SELECT", "SELECT * FROM users WHERE id = ?", 12, 1, "user_db");
+
+        JsonNode query = lastEvent().get("query");
+        assertEquals(Set.of("type", "statement", "duration_ms", "rows_affected", "database"), fieldNames(query));
+        assertEquals(12, query.get("duration_ms").asLong());
+        assertEquals(1, query.get("rows_affected").asInt());
+        assertEquals("user_db", query.get("database").asText());
+    }
+
+    @Test
+    void testSlowQueryShape() throws Exception {
+        LoggerUtil.logSlowQuery(logger, "SELECT", "SELECT 1", 1500, 1000, "analytics_db", 1000);
+
+        JsonNode event = lastEvent();
+        assertEquals("WARN", event.get("level").asText());
+        assertEquals("SELECT 1", event.get("query").get("statement").asText());
+        assertEquals(Set.of("threshold_ms", "warning"), fieldNames(event.get("context")));
+        assertEquals(1000, event.get("context").get("threshold_ms").asLong());
+    }
+
+    @Test
+    void testErrorShapeWithLocationAndContext() throws Exception {
+        Map<String, Object> context = new HashMap<>();
+        context.put("operation", "divide");
+
+        LoggerUtil.logError(logger, "Division failed", new ArithmeticException("/ by zero"), context);
+
+        JsonNode event = lastEvent();
+        JsonNode error = event.get("error");
+        assertEquals(Set.of("type", "message", "location"), fieldNames(error));
+        assertEquals("ArithmeticException", error.get("type").asText());
+        assertEquals("/ by zero", error.get("message").asText());
+        assertEquals(Set.of("file", "line", "function", "class"), fieldNames(error.get("location")));
+        assertEquals(LoggerUtilTest.class.getName(), error.get("location").get("class").asText());
+        assertEquals("divide", event.get("context").get("operation").asText());
+        assertTrue(event.get("stack_trace").asText().startsWith("java.lang.ArithmeticException"));
+    }
+
+    @Test
+    void testStackOverflowErrorIsLogged() throws Exception {
+        LoggerUtil.logError(logger, "Stack overflow error", new StackOverflowError(), null);
+
+        JsonNode event = lastEvent();
+        assertEquals("StackOverflowError", event.get("error").get("type").asText());
+        assertTrue(event.get("error").get("message").isNull());
+        assertFalse(event.has("context"));
+    }
+
+    @Test
+    void testDisabledLevelWritesNothing() {
+        logger.setLevel(Level.ERROR);
+
+        LoggerUtil.logQuery(logger, "SELECT", "SELECT 1", 1, 1, "db");
+        StructuredLog.warn(logger).threshold(1, "ignored").log("ignored");
+
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    void testBuilderIsReusedAfterAbandonedLog() throws Exception {
+        // 필드 계산 중 예외로 log()를 호출하지 못한 빌더
+        StructuredLog abandoned = StructuredLog.info(logger);
+        assertThrows(IllegalStateException.class, () -> abandoned.context(failingContext()));
+
+        StructuredLog first = StructuredLog.info(logger);
+        first.threshold(1, "first").log("first");
+        StructuredLog second = StructuredLog.info(logger);
+        second.threshold(2, "second").log("second");
+
+        assertNotSame(abandoned, first);
+        assertSame(first, second);
+        assertEquals(2, lastEvent().get("context").get("threshold_ms").asLong());
+    }
+
+    private static Map<String, Object> failingContext() {
+        throw new IllegalStateException("context failed");
+    }
+
+    private JsonNode lastEvent() throws Exception {
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        return objectMapper.readTree(lines[lines.length - 1]);
+    }
+
+    private static Set<String> fieldNames(JsonNode node) {
+        Set<String> names = new TreeSet<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}